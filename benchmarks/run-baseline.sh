@@ -0,0 +1,9 @@
+#!/usr/bin/env bash
+# JMH 기준선 측정: 루트 프로젝트를 설치한 뒤 벤치마크를 GC 프로파일러와 함께 실행하여
+# results/baseline.json 에 기록한다. 추가 인자는 JMH 에 그대로 전달된다 (예: CacheBenchmark).
+set -euo pipefail
+
+cd "$(dirname "$0")"
+(cd .. && mvn -B -q install -DskipTests)
+mvn -B -q package
+java -jar target/benchmarks.jar -prof gc -rf json -rff results/baseline.json "$@"
@@ -0,0 +1,63 @@
+package net.setlog.setstock.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.CacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheConfig 캐시 매니저를 통한 조회/저장 벤치마크
+ * 통계 기록(Micrometer)까지 포함한 실제 설정 그대로 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int KEY_COUNT = 2048;
+
+    private final String[] keys = new String[KEY_COUNT];
+    private Cache stockCache;
+    private Cache accountCache;
+
+    @Setup
+    public void setUp() {
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(new SimpleMeterRegistry());
+
+        stockCache = cacheManager.getCache(CacheConfig.STOCK_CACHE);
+        accountCache = cacheManager.getCache(CacheConfig.ACCOUNT_CACHE);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = String.format("%06d", i * 7);
+            stockCache.put(keys[i], keys[i]);
+        }
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return stockCache.get(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public void put() {
+        String key = keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+        accountCache.put(key, key);
+    }
+}
@@ -0,0 +1,45 @@
+package net.setlog.setstock.benchmark;
+
+import net.setlog.setstock.common.util.DateTimeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeUtils 장 운영 시간 판정 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeUtilsBenchmark {
+
+    private LocalDateTime duringSession = LocalDateTime.of(2025, 3, 12, 10, 30, 15);
+    private LocalDateTime weekend = LocalDateTime.of(2025, 3, 15, 10, 30, 15);
+
+    @Benchmark
+    public boolean isMarketOpen() {
+        return DateTimeUtils.isMarketOpen(duringSession);
+    }
+
+    @Benchmark
+    public boolean isMarketOpenWeekend() {
+        return DateTimeUtils.isMarketOpen(weekend);
+    }
+
+    @Benchmark
+    public boolean isMarketOpenNow() {
+        return DateTimeUtils.isMarketOpenNow();
+    }
+}
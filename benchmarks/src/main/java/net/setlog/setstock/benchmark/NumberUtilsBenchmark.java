@@ -0,0 +1,41 @@
+package net.setlog.setstock.benchmark;
+
+import net.setlog.setstock.common.util.NumberUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumberUtils 등락률/백분율 계산 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberUtilsBenchmark {
+
+    private BigDecimal previous = new BigDecimal("71900");
+    private BigDecimal current = new BigDecimal("72400");
+    private BigDecimal total = new BigDecimal("1250000");
+
+    @Benchmark
+    public BigDecimal calculateChangeRate() {
+        return NumberUtils.calculateChangeRate(previous, current);
+    }
+
+    @Benchmark
+    public BigDecimal calculatePercentage() {
+        return NumberUtils.calculatePercentage(current, total);
+    }
+}
@@ -0,0 +1,67 @@
+package net.setlog.setstock.benchmark;
+
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종목별 상태 조회 벤치마크 (문자열 키 HashMap 대비 SymbolRegistry id 배열 색인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SymbolLookupBenchmark {
+
+    private static final int LISTINGS = 2700;
+
+    private final SymbolRegistry registry = new SymbolRegistry();
+    private final Map<String, long[]> stateByCode = new HashMap<>();
+    private final long[][] stateById = new long[SymbolRegistry.MAX_SYMBOLS][];
+    private final String[] codes = new String[LISTINGS];
+    private final int[] numericCodes = new int[LISTINGS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < LISTINGS; i++) {
+            numericCodes[i] = i * 37 + 100;
+            codes[i] = String.format("%06d", numericCodes[i]);
+            long[] state = new long[4];
+            stateByCode.put(codes[i], state);
+            stateById[registry.register(codes[i])] = state;
+        }
+    }
+
+    @Benchmark
+    public long[] stringKeyedMap() {
+        // 수신 프레임에서 매번 새 문자열이 만들어지는 상황을 재현
+        String code = new String(codes[next()]);
+        return stateByCode.get(code);
+    }
+
+    @Benchmark
+    public long[] registryIndexedArray() {
+        return stateById[registry.idOf(numericCodes[next()])];
+    }
+
+    private int next() {
+        int i = cursor + 1;
+        cursor = i == LISTINGS ? 0 : i;
+        return cursor;
+    }
+}
@@ -0,0 +1,141 @@
+package net.setlog.setstock.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.candle.CandleAggregator;
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.common.util.EpochMinutes;
+import net.setlog.setstock.common.util.TradingCalendar;
+import net.setlog.setstock.indicator.IndicatorEngine;
+import net.setlog.setstock.indicator.Ta4jIndicatorValidator;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickParser;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체결 프레임 수신부터 지표 갱신까지의 처리량 벤치마크
+ *
+ * 웹소켓 프레임 파싱 → 링 버퍼 → 캔들 집계 → (캔들 완성 시) 지표 갱신 경로를 한 스레드에서 측정한다.
+ * 프레임의 체결 시각을 1분씩 진행시켜 1분봉은 매 프레임, 상위 주기는 주기마다 완성되도록 한다.
+ * 반복마다 달력 기간 안의 다음 정규 세션(09:00 개장)으로 넘어가고, 기간 끝에 닿으면 집계 상태를 새로 만들어 첫 세션부터 다시 돈다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(TickToIndicatorBenchmark.FRAMES)
+public class TickToIndicatorBenchmark {
+
+    static final int FRAMES = 390;  // 09:00 ~ 15:29, 1분 간격
+    private static final int OPEN_MINUTE = 9 * 60;
+
+    @Param({"1", "50"})
+    private int symbols;
+
+    private final String[] frames = new String[FRAMES];
+    private final TickParser parser = new TickParser();
+    private TickRingBuffer ringBuffer;
+    private TickDispatcher dispatcher;
+    private final TradingCalendar calendar = TradingCalendar.getDefault();
+    private long epochDay;
+    private long receivedAt;
+
+    @Setup
+    public void setUp() {
+        pipeline();
+
+        for (int minute = 0; minute < FRAMES; minute++) {
+            int minuteOfDay = 9 * 60 + minute;
+            String time = String.format("%02d%02d00", minuteOfDay / 60, minuteOfDay % 60);
+            StringBuilder frame = new StringBuilder("0|H0STCNT0|").append(String.format("%03d", symbols)).append('|');
+            for (int s = 0; s < symbols; s++) {
+                if (s > 0) {
+                    frame.append('^');
+                }
+                long price = 50_000 + (minute * 37L + s * 11L) % 2_000;
+                frame.append(record(String.format("%06d", 5930 + s), time, price, minute + 1L));
+            }
+            frames[minute] = frame.toString();
+        }
+        moveTo(LocalDate.of(2025, 3, 12).toEpochDay());
+    }
+
+    @Benchmark
+    public int tickToIndicator() {
+        int processed = 0;
+        for (String frame : frames) {
+            parser.parse(frame, ringBuffer, receivedAt);
+            processed += ringBuffer.drain(dispatcher, Integer.MAX_VALUE);
+        }
+        nextSession();
+        return processed;
+    }
+
+    private void pipeline() {
+        ringBuffer = new TickRingBuffer(1 << 16);
+        dispatcher = new TickDispatcher(ringBuffer);
+
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(new SimpleMeterRegistry());
+        SymbolRegistry symbolRegistry = new SymbolRegistry();
+        CandleAggregator aggregator = new CandleAggregator(dispatcher, symbolRegistry);
+        new IndicatorEngine(aggregator, symbolRegistry,
+            new DefaultListableBeanFactory().getBeanProvider(Ta4jIndicatorValidator.class), cacheManager);
+    }
+
+    /**
+     * 다음 정규 세션으로 이동
+     * 늦은 개장일은 고정 프레임(09:00 ~)이 장 전 체결이 되므로 건너뛴다.
+     */
+    private void nextSession() {
+        long next = epochDay;
+        do {
+            next = calendar.plusTradingDays(next, 1);
+            if (next > calendar.lastEpochDay() && calendar.lastEpochDay() >= calendar.firstEpochDay()) {
+                // 과거 날짜 체결은 형성 중인 캔들에 합산되므로 집계 상태를 새로 만든다
+                pipeline();
+                next = calendar.onOrAfter(calendar.firstEpochDay());
+            }
+        } while (calendar.openMinute(next) != OPEN_MINUTE);
+        moveTo(next);
+    }
+
+    private void moveTo(long day) {
+        epochDay = day;
+        receivedAt = EpochMinutes.toEpochMillis(EpochMinutes.of((int) day, OPEN_MINUTE));
+    }
+
+    private static String record(String stockCode, String time, long price, long accumulatedVolume) {
+        String[] fields = new String[TickParser.FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        fields[0] = stockCode;
+        fields[1] = time;
+        fields[2] = Long.toString(price);
+        fields[3] = "2";
+        fields[7] = Long.toString(price - 100);
+        fields[8] = Long.toString(price + 100);
+        fields[9] = Long.toString(price - 200);
+        fields[12] = "1";
+        fields[13] = Long.toString(accumulatedVolume);
+        return String.join("^", fields);
+    }
+}
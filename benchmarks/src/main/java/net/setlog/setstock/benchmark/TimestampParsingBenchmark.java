@@ -0,0 +1,59 @@
+package net.setlog.setstock.benchmark;
+
+import net.setlog.setstock.common.util.CompactTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS 숫자형 일시 파싱 벤치마크 (DateTimeFormatter 대비 CompactTimeParser)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimestampParsingBenchmark {
+
+    private static final DateTimeFormatter COMPACT_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private String dateTime = "20250312093354";
+    private String date = "20250312";
+    private String time = "093354";
+    private ByteBuffer buffer = ByteBuffer.wrap(dateTime.getBytes(StandardCharsets.US_ASCII));
+
+    @Benchmark
+    public long formatter() {
+        return LocalDateTime.parse(dateTime, COMPACT_FORMATTER).atZone(KOREA_ZONE).toEpochSecond();
+    }
+
+    @Benchmark
+    public long compactCharSequence() {
+        return CompactTimeParser.parseEpochSecond(date, 0, time, 0);
+    }
+
+    @Benchmark
+    public long compactByteBuffer() {
+        return CompactTimeParser.parseEpochSecond(buffer, 0);
+    }
+
+    @Benchmark
+    public int compactEpochMinute() {
+        return CompactTimeParser.parseEpochMinute(date, 0, time, 0);
+    }
+}
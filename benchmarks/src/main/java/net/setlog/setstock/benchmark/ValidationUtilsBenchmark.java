@@ -0,0 +1,65 @@
+package net.setlog.setstock.benchmark;
+
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.util.ValidationResult;
+import net.setlog.setstock.common.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationUtils 검증 벤치마크 (정상/실패 경로, 예외/결과 반환 방식)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationUtilsBenchmark {
+
+    private static final String MESSAGE = "유효하지 않은 종목 코드입니다";
+
+    private String validCode = "005930";
+    private String invalidCode = "00593A";
+    private int quantity = 150;
+    private int maxQuantity = 100;
+
+    @Benchmark
+    public void validateStockCode() {
+        ValidationUtils.validateStockCode(validCode, MESSAGE);
+    }
+
+    @Benchmark
+    public Object validateStockCodeInvalid() {
+        try {
+            ValidationUtils.validateStockCode(invalidCode, MESSAGE);
+            return null;
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validateOrderQuantityRejected() {
+        try {
+            ValidationUtils.validateOrderQuantity(quantity, maxQuantity);
+            return null;
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checkOrderQuantityRejected() {
+        return ValidationUtils.checkOrderQuantity(quantity, maxQuantity);
+    }
+}
@@ -0,0 +1,48 @@
+package net.setlog.setstock.candle;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.common.util.EpochMinutes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * OHLCV 캔들 (불변)
+ *
+ * 가격은 원 단위 정수이며, 시작 시각은 거래일(epoch day)과 자정 기준 분으로 보관한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class Candle {
+
+    private final int stockCode;    // 종목 코드 (정수)
+    private final CandleType type;  // 캔들 주기
+    private final int epochDay;     // 거래일 (epoch day)
+    private final int startMinute;  // 구간 시작 분 (자정 기준)
+    private final long open;        // 시가
+    private final long high;        // 고가
+    private final long low;         // 저가
+    private final long close;       // 종가
+    private final long volume;      // 거래량
+    private final int tickCount;    // 체결 건수
+    private final boolean closed;   // 완성 여부 (false 이면 형성 중인 캔들)
+
+    /**
+     * 구간 시작 epoch 분 (한국 시간, CandleType.align 결과와 같은 키)
+     * @return 구간 시작 epoch 분
+     */
+    public int getEpochMinute() {
+        return EpochMinutes.of(epochDay, startMinute);
+    }
+
+    /**
+     * 구간 시작 시각
+     * @return 시작 시각 (한국 시간)
+     */
+    public LocalDateTime getStartTime() {
+        return LocalDate.ofEpochDay(epochDay).atStartOfDay().plusMinutes(startMinute);
+    }
+}
@@ -0,0 +1,312 @@
+package net.setlog.setstock.candle;
+
+import net.setlog.setstock.common.util.DateTimeUtils;
+import net.setlog.setstock.common.util.EpochMinutes;
+import net.setlog.setstock.common.util.TradingCalendar;
+import net.setlog.setstock.common.util.ValidationUtils;
+import net.setlog.setstock.realtime.Tick;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickListener;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 실시간 체결 기반 다중 주기 캔들 집계기
+ *
+ * 체결 하나마다 1분봉부터 일봉까지 모든 주기의 형성 중인 캔들을 상수 시간에 갱신하고,
+ * 구간이 바뀌면 이전 캔들을 완성 이벤트로 발행한다. 체결이 없는 종목의 캔들은 매분 스케줄러가 닫는다.
+ * 거래량은 누적 거래량의 차이로 계산하여 링 버퍼에서 일부 체결이 버려져도 합계가 맞도록 한다.
+ * 완성 이벤트는 종목 잠금을 푼 뒤 발행하므로 리스너(지표/전략 엔진)의 처리가 잠금을 잡고 있지 않는다.
+ * 구간은 TradingCalendar 의 해당일 개장/폐장 시각 기준이므로(CandleType.bucketIndex 와 동일) 개장 지연일도 맞게 나뉜다.
+ * 폐장 시각의 종가 단일가 체결은 마지막 구간에 포함하고, 마지막 구간은 폐장 1분 뒤에 닫는다.
+ */
+@Component
+public class CandleAggregator implements TickListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CandleAggregator.class);
+
+    private static final CandleType[] TYPES = CandleType.values();
+
+    // 달력에 없는 날(휴장일 수신 등)에 쓰는 정규장 시각
+    private static final int DEFAULT_OPEN_MINUTE = DateTimeUtils.getMarketOpenMinuteOfDay();
+    private static final int DEFAULT_CLOSE_MINUTE = DateTimeUtils.getMarketCloseMinuteOfDay();
+
+    private final SymbolRegistry symbolRegistry;
+    private final AtomicReferenceArray<SymbolCandles> symbols = new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS);
+    private final List<SymbolCandles> active = new CopyOnWriteArrayList<>();
+    private final List<CandleListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Candle> closedOnTick = new ArrayList<>();  // 디스패처 스레드 전용
+
+    /**
+     * 생성자
+     * @param tickDispatcher 체결 디스패처
+     * @param symbolRegistry 종목 레지스트리
+     */
+    public CandleAggregator(TickDispatcher tickDispatcher, SymbolRegistry symbolRegistry) {
+        this.symbolRegistry = symbolRegistry;
+        tickDispatcher.addListener(this);
+    }
+
+    /**
+     * 캔들 완성 리스너 등록
+     * @param listener 캔들 리스너
+     */
+    public void addListener(CandleListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 캔들 완성 리스너 해제
+     * @param listener 캔들 리스너
+     */
+    public void removeListener(CandleListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        if (tick.getPrice() <= 0) {
+            return;
+        }
+
+        int code = tick.getStockCode();
+        int id = symbolRegistry.idOf(code);
+        if (id < 0) {
+            id = symbolRegistry.register(code);
+        }
+
+        SymbolCandles state = symbols.get(id);
+        if (state == null) {
+            state = new SymbolCandles(code);
+            symbols.set(id, state);  // 단일 기록자(디스패처 스레드)
+            active.add(state);
+        }
+
+        int epochDay = EpochMinutes.epochDay(EpochMinutes.ofEpochMillis(tick.getReceivedAt()));
+        int minuteOfDay = tick.getSecondOfDay() / 60;
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        int openMinute = openMinute(calendar, epochDay);
+        int bucketMinute = Math.min(minuteOfDay, closeMinute(calendar, epochDay) - 1);  // 종가 단일가 → 마지막 구간
+
+        long stamp = state.lock.writeLock();
+        try {
+            long volume = state.volumeDelta(epochDay, tick.getAccumulatedVolume(), tick.getVolume());
+            for (int i = 0; i < TYPES.length; i++) {
+                update(state, i, epochDay, bucketMinute, openMinute, tick.getPrice(), volume, closedOnTick);
+            }
+        } finally {
+            state.lock.unlockWrite(stamp);
+        }
+        emit(closedOnTick);
+    }
+
+    /**
+     * 형성 중인 캔들 조회
+     * @param stockCode 종목 코드 (정수)
+     * @param type 캔들 주기
+     * @return 형성 중인 캔들, 없으면 empty
+     */
+    public Optional<Candle> getFormingCandle(int stockCode, CandleType type) {
+        int id = symbolRegistry.idOf(stockCode);
+        if (id < 0) {
+            return Optional.empty();
+        }
+        SymbolCandles state = symbols.get(id);
+        if (state == null) {
+            return Optional.empty();
+        }
+
+        Bar bar = state.bars[type.ordinal()];
+        long stamp = state.lock.tryOptimisticRead();
+        Candle candle = bar.toCandle(stockCode, type, false);
+        if (!state.lock.validate(stamp)) {
+            stamp = state.lock.readLock();
+            try {
+                candle = bar.toCandle(stockCode, type, false);
+            } finally {
+                state.lock.unlockRead(stamp);
+            }
+        }
+        return candle.getTickCount() > 0 ? Optional.of(candle) : Optional.empty();
+    }
+
+    /**
+     * 형성 중인 캔들 조회
+     * @param stockCode 종목 코드
+     * @param type 캔들 주기
+     * @return 형성 중인 캔들, 없으면 empty
+     */
+    public Optional<Candle> getFormingCandle(String stockCode, CandleType type) {
+        return getFormingCandle(ValidationUtils.parseStockCode(stockCode), type);
+    }
+
+    /**
+     * 체결 없이 구간이 끝난 캔들 마감 (매분 1초)
+     */
+    @Scheduled(cron = "1 * * * * MON-FRI", zone = "Asia/Seoul")
+    public void closeExpiredCandles() {
+        int now = EpochMinutes.ofEpochMillis(System.currentTimeMillis());
+        closeExpired(EpochMinutes.epochDay(now), EpochMinutes.minuteOfDay(now));
+    }
+
+    /**
+     * 지정 시각 기준으로 구간이 끝난 캔들 마감
+     * @param epochDay 현재 거래일 (epoch day)
+     * @param minuteOfDay 현재 자정 기준 분
+     */
+    void closeExpired(int epochDay, int minuteOfDay) {
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        List<Candle> closed = new ArrayList<>();
+        for (SymbolCandles state : active) {
+            long stamp = state.lock.writeLock();
+            try {
+                for (int i = 0; i < TYPES.length; i++) {
+                    Bar bar = state.bars[i];
+                    if (bar.tickCount > 0 && isExpired(calendar, bar, TYPES[i], epochDay, minuteOfDay)) {
+                        closed.add(bar.toCandle(state.stockCode, TYPES[i], true));
+                        bar.reset();
+                    }
+                }
+            } finally {
+                state.lock.unlockWrite(stamp);
+            }
+            emit(closed);
+        }
+    }
+
+    private static boolean isExpired(TradingCalendar calendar, Bar bar, CandleType type, int epochDay, int minuteOfDay) {
+        if (bar.epochDay < epochDay) {
+            return true;
+        }
+        int close = closeMinute(calendar, bar.epochDay);
+        int end = bar.startMinute + type.getMinutes();
+        if (type.isDaily() || end >= close) {
+            end = close + 1;  // 마지막 구간은 종가 단일가 체결을 받은 뒤 마감
+        }
+        return minuteOfDay >= end;
+    }
+
+    private static int openMinute(TradingCalendar calendar, int epochDay) {
+        int open = calendar.openMinute(epochDay);
+        return open < 0 ? DEFAULT_OPEN_MINUTE : open;
+    }
+
+    private static int closeMinute(TradingCalendar calendar, int epochDay) {
+        int close = calendar.closeMinute(epochDay);
+        return close < 0 ? DEFAULT_CLOSE_MINUTE : close;
+    }
+
+    private void update(SymbolCandles state, int index, int epochDay, int bucketMinute, int openMinute, long price,
+                        long volume, List<Candle> closed) {
+        CandleType type = TYPES[index];
+        Bar bar = state.bars[index];
+        int start = type.bucketStart(bucketMinute, openMinute);
+
+        if (bar.tickCount > 0 && (epochDay > bar.epochDay || (epochDay == bar.epochDay && start > bar.startMinute))) {
+            closed.add(bar.toCandle(state.stockCode, type, true));
+            bar.reset();
+        }
+
+        if (bar.tickCount == 0) {
+            bar.epochDay = epochDay;
+            bar.startMinute = start;
+            bar.open = price;
+            bar.high = price;
+            bar.low = price;
+        } else {
+            // 늦게 도착한 이전 구간 체결은 현재 캔들에 합산
+            if (price > bar.high) {
+                bar.high = price;
+            }
+            if (price < bar.low) {
+                bar.low = price;
+            }
+        }
+        bar.close = price;
+        bar.volume += volume;
+        bar.tickCount++;
+    }
+
+    /**
+     * 잠금 밖에서 완성 캔들 발행 후 목록 비우기
+     */
+    private void emit(List<Candle> closed) {
+        for (int i = 0; i < closed.size(); i++) {
+            Candle candle = closed.get(i);
+            for (CandleListener listener : listeners) {
+                try {
+                    listener.onCandleClosed(candle);
+                } catch (RuntimeException e) {
+                    log.error("캔들 리스너 처리 중 예외 발생: {}", candle, e);
+                }
+            }
+        }
+        closed.clear();
+    }
+
+    /**
+     * 종목별 주기별 형성 중인 캔들
+     */
+    private static final class SymbolCandles {
+        private final int stockCode;
+        private final StampedLock lock = new StampedLock();
+        private final Bar[] bars = new Bar[TYPES.length];
+        private int lastEpochDay = -1;
+        private long lastAccumulatedVolume;
+
+        private SymbolCandles(int stockCode) {
+            this.stockCode = stockCode;
+            for (int i = 0; i < bars.length; i++) {
+                bars[i] = new Bar();
+            }
+        }
+
+        /**
+         * 이전 체결 대비 거래량 (누적 거래량 차이, 첫 체결은 체결량)
+         */
+        private long volumeDelta(int epochDay, long accumulatedVolume, long volume) {
+            if (epochDay != lastEpochDay || lastAccumulatedVolume <= 0) {
+                lastEpochDay = epochDay;
+                lastAccumulatedVolume = accumulatedVolume;
+                return volume;
+            }
+            // 순서가 뒤바뀐 체결은 이미 누적 거래량에 반영되었으므로 0
+            long delta = Math.max(0, accumulatedVolume - lastAccumulatedVolume);
+            lastAccumulatedVolume = Math.max(lastAccumulatedVolume, accumulatedVolume);
+            return delta;
+        }
+    }
+
+    /**
+     * 형성 중인 캔들 (가변)
+     */
+    private static final class Bar {
+        private int epochDay;
+        private int startMinute;
+        private long open;
+        private long high;
+        private long low;
+        private long close;
+        private long volume;
+        private int tickCount;
+
+        private void reset() {
+            volume = 0;
+            tickCount = 0;
+        }
+
+        private Candle toCandle(int stockCode, CandleType type, boolean closed) {
+            return new Candle(stockCode, type, epochDay, startMinute, open, high, low, close, volume, tickCount, closed);
+        }
+    }
+}
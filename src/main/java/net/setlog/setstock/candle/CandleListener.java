@@ -0,0 +1,16 @@
+package net.setlog.setstock.candle;
+
+/**
+ * 캔들 완성 리스너
+ *
+ * 같은 종목의 캔들은 항상 시간 순서대로 전달되지만, 서로 다른 종목은 다른 스레드에서 동시에 전달될 수 있다.
+ */
+@FunctionalInterface
+public interface CandleListener {
+
+    /**
+     * 캔들 완성 처리
+     * @param candle 완성된 캔들
+     */
+    void onCandleClosed(Candle candle);
+}
@@ -0,0 +1,176 @@
+package net.setlog.setstock.candle;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.util.DateTimeUtils;
+import net.setlog.setstock.common.util.EpochMinutes;
+import net.setlog.setstock.common.util.TradingCalendar;
+
+import java.util.stream.IntStream;
+
+/**
+ * 캔들 주기
+ *
+ * 분 단위 주기는 거래일 달력의 장 시작(정규장 09:00)을 기준으로 구간을 나눈다. (예: 5분봉 09:00, 09:05, ...)
+ * 일봉은 하루 전체를 하나의 구간으로 본다.
+ * 구간은 한국 시간 epoch 분(EpochMinutes) 키로 정렬/열거/색인할 수 있다.
+ */
+public enum CandleType {
+
+    MIN_1(TradeConstants.CANDLE_TYPE_1MIN, 1),
+    MIN_3(TradeConstants.CANDLE_TYPE_3MIN, 3),
+    MIN_5(TradeConstants.CANDLE_TYPE_5MIN, 5),
+    MIN_15(TradeConstants.CANDLE_TYPE_15MIN, 15),
+    MIN_30(TradeConstants.CANDLE_TYPE_30MIN, 30),
+    HOUR_1(TradeConstants.CANDLE_TYPE_1HOUR, 60),
+    DAY_1(TradeConstants.CANDLE_TYPE_1DAY, 0);
+
+    private static final CandleType[] VALUES = values();
+
+    private static final int OPEN_MINUTE = DateTimeUtils.getMarketOpenMinuteOfDay();
+    private static final int SESSION_MINUTES = DateTimeUtils.getMarketCloseMinuteOfDay() - OPEN_MINUTE;
+
+    private final String code;
+    private final int minutes;
+
+    CandleType(String code, int minutes) {
+        this.code = code;
+        this.minutes = minutes;
+    }
+
+    /**
+     * TradeConstants 의 캔들 타입 문자열
+     * @return 캔들 타입 코드 (예: "5min")
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 주기 (분), 일봉은 0
+     * @return 분 단위 주기
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * 일봉 여부
+     * @return 일봉이면 true
+     */
+    public boolean isDaily() {
+        return minutes == 0;
+    }
+
+    /**
+     * 장 시작 기준 구간 시작 분 계산
+     * @param minuteOfDay 자정 기준 분 (예: 09:07 -> 547)
+     * @param openMinute 장 시작 분 (09:00 -> 540)
+     * @return 구간 시작 분 (자정 기준)
+     */
+    public int bucketStart(int minuteOfDay, int openMinute) {
+        if (isDaily() || minuteOfDay < openMinute) {
+            return openMinute;  // 장 시작 전 체결은 첫 구간에 포함
+        }
+        return openMinute + (minuteOfDay - openMinute) / minutes * minutes;
+    }
+
+    /**
+     * epoch 분을 속한 구간의 시작 epoch 분으로 정렬
+     * 장 시작은 거래일 달력 기준이며 휴장일은 정규장 시작으로 본다.
+     * @param epochMinute 한국 시간 epoch 분
+     * @return 구간 시작 epoch 분 (일봉은 해당일 장 시작)
+     */
+    public int align(int epochMinute) {
+        int epochDay = EpochMinutes.epochDay(epochMinute);
+        int open = TradingCalendar.getDefault().openMinute(epochDay);
+        return EpochMinutes.of(epochDay, bucketStart(EpochMinutes.minuteOfDay(epochMinute), open >= 0 ? open : OPEN_MINUTE));
+    }
+
+    /**
+     * 하루 최대 구간 수 (정규장 기준, 일봉은 1)
+     * 개장 지연일도 거래 시간 길이는 정규장을 넘지 않는다.
+     * @return 구간 수
+     */
+    public int bucketsPerDay() {
+        return isDaily() ? 1 : (SESSION_MINUTES + minutes - 1) / minutes;
+    }
+
+    /**
+     * 기준 거래일부터 거래일만 이어 붙인 조밀한 구간 색인 (캔들 배열 저장소의 인덱스)
+     * index = (기준일부터의 거래일 순번) * bucketsPerDay + (해당일 장 시작부터의 구간 순번)
+     * @param epochMinute 한국 시간 epoch 분
+     * @param baseEpochDay 기준 거래일 (색인 0)
+     * @return 구간 색인, 기준일 이전이거나 휴장일/장외 시간이면 -1
+     */
+    public int bucketIndex(int epochMinute, long baseEpochDay) {
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        int epochDay = EpochMinutes.epochDay(epochMinute);
+        int minuteOfDay = EpochMinutes.minuteOfDay(epochMinute);
+        int open = calendar.openMinute(epochDay);
+        if (epochDay < baseEpochDay || open < 0 || minuteOfDay < open || minuteOfDay >= calendar.closeMinute(epochDay)) {
+            return -1;
+        }
+
+        long day = calendar.countTradingDays(baseEpochDay, epochDay) - 1;
+        int slot = isDaily() ? 0 : (minuteOfDay - open) / minutes;
+        return Math.toIntExact(day * bucketsPerDay() + slot);
+    }
+
+    /**
+     * 기간 내 거래 시간에 해당하는 구간 시작 epoch 분을 순서대로 열거 (지연 생성)
+     * 휴장일과 장외 시간은 건너뛰므로 저장된 캔들 키와 비교하여 누락 구간을 찾을 수 있다.
+     * @param fromEpochMinute 시작 epoch 분 (포함)
+     * @param toEpochMinute 종료 epoch 분 (미포함)
+     * @return 구간 시작 epoch 분 스트림
+     */
+    public IntStream buckets(int fromEpochMinute, int toEpochMinute) {
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        int first = align(fromEpochMinute);
+        if (first < fromEpochMinute || !inSession(calendar, first)) {
+            first = nextBucket(calendar, first);
+        }
+        return IntStream.iterate(first, key -> key < toEpochMinute, key -> nextBucket(calendar, key));
+    }
+
+    private boolean inSession(TradingCalendar calendar, int key) {
+        int epochDay = EpochMinutes.epochDay(key);
+        int minuteOfDay = EpochMinutes.minuteOfDay(key);
+        int open = calendar.openMinute(epochDay);
+        if (open < 0) {
+            return false;
+        }
+        return isDaily() || (minuteOfDay >= open && minuteOfDay < calendar.closeMinute(epochDay));
+    }
+
+    private int nextBucket(TradingCalendar calendar, int key) {
+        int epochDay = EpochMinutes.epochDay(key);
+        if (!isDaily()) {
+            int minuteOfDay = EpochMinutes.minuteOfDay(key);
+            int open = calendar.openMinute(epochDay);
+            if (open >= 0 && minuteOfDay < open) {
+                return EpochMinutes.of(epochDay, open);  // 개장 전 → 첫 구간
+            }
+            int next = minuteOfDay + minutes;
+            if (open >= 0 && next < calendar.closeMinute(epochDay)) {
+                return key + minutes;
+            }
+        }
+
+        long nextDay = calendar.plusTradingDays(epochDay, 1);
+        return EpochMinutes.of(nextDay, calendar.openMinute(nextDay));
+    }
+
+    /**
+     * 캔들 타입 문자열로 조회
+     * @param code 캔들 타입 코드 (예: "5min")
+     * @return CandleType
+     */
+    public static CandleType of(String code) {
+        for (CandleType type : VALUES) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 캔들 타입입니다: " + code);
+    }
+}
@@ -0,0 +1,71 @@
+package net.setlog.setstock.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+import java.util.Optional;
+
+/**
+ * Caffeine 캐시 메트릭 바인딩 유틸리티
+ *
+ * recordStats 에 Micrometer StatsCounter 를 연결하여 아래 메트릭을 캐시별(cache 태그)로 기록한다.
+ * - cache.gets (result=hit/miss), cache.loads (result=success/failure, 로드 시간)
+ * - cache.evictions (cause=SIZE/EXPIRED/...), cache.size, cache.weight, cache.hit.ratio
+ * cache.weight 는 모든 캐시에 등록하며, 무게 기준 캐시가 아니면 항목 수와 같다.
+ */
+public class CacheMetrics {
+
+    private CacheMetrics() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 빌더에 Micrometer 통계 수집기 연결
+     * @param builder Caffeine 빌더
+     * @param registry 메트릭 레지스트리
+     * @param cacheName 캐시 이름
+     * @return 통계 수집이 설정된 빌더
+     */
+    public static <K, V> Caffeine<K, V> recordStats(Caffeine<K, V> builder, MeterRegistry registry, String cacheName) {
+        return builder.recordStats(() -> new CaffeineStatsCounter(registry, cacheName));
+    }
+
+    /**
+     * 생성된 캐시의 크기, 무게, 적중률 게이지 등록
+     * @param registry 메트릭 레지스트리
+     * @param cacheName 캐시 이름
+     * @param cache 캐시
+     * @return 전달받은 캐시
+     */
+    public static <C extends Cache<?, ?>> C bind(MeterRegistry registry, String cacheName, C cache) {
+        Gauge.builder("cache.size", cache, Cache::estimatedSize)
+            .description("캐시 항목 수 (추정치)")
+            .tag("cache", cacheName)
+            .register(registry);
+
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .description("캐시 적중률")
+            .tag("cache", cacheName)
+            .register(registry);
+
+        // 무게 기준 캐시는 추정 바이트 수, 그 외는 항목당 무게 1 (Caffeine 기본 weigher 와 같은 의미)
+        Gauge.builder("cache.weight", cache, CacheMetrics::weight)
+            .description("캐시 무게 (캔들/지표 캐시는 추정 바이트 수, 그 외는 항목 수)")
+            .tag("cache", cacheName)
+            .register(registry);
+
+        return cache;
+    }
+
+    private static double weight(Cache<?, ?> cache) {
+        Optional<? extends Policy.Eviction<?, ?>> eviction = cache.policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            return eviction.get().weightedSize().orElse(0L);
+        }
+        return cache.estimatedSize();
+    }
+}
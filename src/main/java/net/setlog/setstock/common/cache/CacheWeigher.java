@@ -0,0 +1,53 @@
+package net.setlog.setstock.common.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 바이트 단위 캐시 무게 계산기
+ *
+ * Weighable 구현체는 자체 추정값을, 컬렉션과 원시 배열은 원소 수 기반 근사값을 사용한다.
+ */
+public class CacheWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_BYTES = 64;          // 알 수 없는 객체의 기본 크기
+    private static final int COLLECTION_ENTRY_BYTES = 48; // 컬렉션 원소당 참조 + 헤더 근사치
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = OBJECT_BYTES + estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private long estimate(Object value) {
+        if (value instanceof Weighable weighable) {
+            return weighable.estimatedBytes();
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = ARRAY_HEADER_BYTES;
+            for (Object element : collection) {
+                bytes += element instanceof Weighable weighable ? weighable.estimatedBytes() : COLLECTION_ENTRY_BYTES;
+            }
+            return bytes;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return ARRAY_HEADER_BYTES + (long) map.size() * COLLECTION_ENTRY_BYTES * 2;
+        }
+        if (value instanceof double[] array) {
+            return ARRAY_HEADER_BYTES + (long) array.length * Double.BYTES;
+        }
+        if (value instanceof long[] array) {
+            return ARRAY_HEADER_BYTES + (long) array.length * Long.BYTES;
+        }
+        if (value instanceof int[] array) {
+            return ARRAY_HEADER_BYTES + (long) array.length * Integer.BYTES;
+        }
+        if (value instanceof byte[] array) {
+            return ARRAY_HEADER_BYTES + array.length;
+        }
+        return OBJECT_BYTES;
+    }
+}
@@ -0,0 +1,16 @@
+package net.setlog.setstock.common.cache;
+
+/**
+ * 캐시 무게 추정이 가능한 값
+ *
+ * 무게 기반 캐시(candleCache, indicatorCache)에 저장되는 값은 이 인터페이스를 구현하여
+ * 실제 메모리 사용량에 가까운 크기를 알려야 한다.
+ */
+public interface Weighable {
+
+    /**
+     * 추정 메모리 사용량
+     * @return 바이트 수
+     */
+    long estimatedBytes();
+}
@@ -1,56 +1,141 @@
 package net.setlog.setstock.common.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.CacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.cache.CacheMetrics;
+import net.setlog.setstock.common.cache.CacheWeigher;
+import net.setlog.setstock.common.constants.ApiConstants;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 캐시 설정 클래스
  * 자주 사용하는 데이터의 빠른 접근을 위한 인메모리 캐시 설정을 정의
+ *
+ * 캐시마다 데이터 특성이 달라 만료 정책과 크기 제한을 각각 지정한다.
+ * 캔들/지표처럼 값 하나의 크기 편차가 큰 캐시는 항목 수가 아닌 추정 바이트 수로 제한한다.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 캐시 이름
+    public static final String STOCK_CACHE = "stockCache";          // 종목 정보 캐시
+    public static final String PRICE_CACHE = "priceCache";          // 가격 정보 캐시
+    public static final String CANDLE_CACHE = "candleCache";        // 캔들 데이터 캐시
+    public static final String INDICATOR_CACHE = "indicatorCache";  // 기술적 지표 캐시
+    public static final String ACCOUNT_CACHE = "accountCache";      // 계좌 정보 캐시
+    public static final String TOKEN_CACHE = "tokenCache";          // API 토큰 캐시
+
+    private static final long CANDLE_CACHE_MAX_BYTES = 256L * 1024 * 1024;    // 캔들 캐시 최대 256MB
+    private static final long INDICATOR_CACHE_MAX_BYTES = 64L * 1024 * 1024;  // 지표 캐시 최대 64MB
+
+    // 토큰 만료 5분 전에 캐시에서 제거하여 만료 직전 토큰 사용 방지
+    private static final Duration TOKEN_EXPIRY = Duration.ofSeconds(ApiConstants.API_TOKEN_EXPIRY_SECONDS).minusMinutes(5);
+
     /**
-     * Caffeine 캐시 설정 빈
+     * 종목 정보 캐시 정책 (장중 변경이 거의 없으므로 하루 유지)
      * @return Caffeine 객체
      */
-    @Bean
-    public Caffeine<Object, Object> caffeineConfig() {
+    public static Caffeine<Object, Object> stockCachePolicy() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .initialCapacity(4096)
+            .maximumSize(10_000);
+    }
+
+    /**
+     * 가격 정보 캐시 정책 (시세는 1초 미만으로만 재사용)
+     * @return Caffeine 객체
+     */
+    public static Caffeine<Object, Object> priceCachePolicy() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(500))
+            .initialCapacity(1024)
+            .maximumSize(5_000);
+    }
+
+    /**
+     * 캔들 데이터 캐시 정책 (추정 바이트 수 기준 제한)
+     * @return Caffeine 객체
+     */
+    public static Caffeine<Object, Object> candleCachePolicy() {
+        return Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(1))
+            .maximumWeight(CANDLE_CACHE_MAX_BYTES)
+            .weigher(new CacheWeigher());
+    }
+
+    /**
+     * 기술적 지표 캐시 정책 (추정 바이트 수 기준 제한)
+     * @return Caffeine 객체
+     */
+    public static Caffeine<Object, Object> indicatorCachePolicy() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumWeight(INDICATOR_CACHE_MAX_BYTES)
+            .weigher(new CacheWeigher());
+    }
+
+    /**
+     * 계좌 정보 캐시 정책 (체결 반영을 위해 짧게 유지)
+     * @return Caffeine 객체
+     */
+    public static Caffeine<Object, Object> accountCachePolicy() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .maximumSize(100);
+    }
+
+    /**
+     * API 토큰 캐시 정책 (만료 전 재발급은 KisTokenManager 가 담당)
+     * @return Caffeine 객체
+     */
+    public static Caffeine<Object, Object> tokenCachePolicy() {
         return Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)  // 데이터 쓰기 후 5분 후 만료
-            .expireAfterAccess(10, TimeUnit.MINUTES)  // 마지막 접근 후 10분 후 만료
-            .initialCapacity(100)  // 초기 캐시 크기
-            .maximumSize(1000)  // 최대 캐시 크기
-            .recordStats();  // 캐시 통계 기록
+            .expireAfterWrite(TOKEN_EXPIRY)
+            .maximumSize(10);
     }
 
     /**
      * 캐시 매니저 빈 설정
+     * 모든 캐시의 통계를 Micrometer 로 기록하여 actuator(/actuator/metrics/cache.*)로 노출
+     * @param meterRegistry 메트릭 레지스트리
      * @return CacheManager 객체
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CaffeineCacheManager cacheManager(MeterRegistry meterRegistry) {
+
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(caffeineConfig());
-
-        // 캐시 이름 설정
-        cacheManager.setCacheNames(Arrays.asList(
-            "stockCache",       // 종목 정보 캐시
-            "priceCache",       // 가격 정보 캐시
-            "candleCache",      // 캔들 데이터 캐시
-            "indicatorCache",   // 기술적 지표 캐시
-            "accountCache",     // 계좌 정보 캐시
-            "tokenCache"        // API 토큰 캐시
-        ));
+        // 정적 모드로 전환하여 등록되지 않은 이름으로 캐시가 생성되지 않도록 함
+        cacheManager.setCacheNames(List.of());
+
+        register(cacheManager, meterRegistry, STOCK_CACHE, stockCachePolicy());
+
+        // 동시 조회를 하나의 호출로 합치기 위해 priceCache 는 비동기 캐시로 등록 (QuoteService 참고)
+        AsyncCache<Object, Object> priceCache =
+            CacheMetrics.recordStats(priceCachePolicy(), meterRegistry, PRICE_CACHE).buildAsync();
+        CacheMetrics.bind(meterRegistry, PRICE_CACHE, priceCache.synchronous());
+        cacheManager.registerCustomCache(PRICE_CACHE, priceCache);
+
+        register(cacheManager, meterRegistry, CANDLE_CACHE, candleCachePolicy());
+        register(cacheManager, meterRegistry, INDICATOR_CACHE, indicatorCachePolicy());
+        register(cacheManager, meterRegistry, ACCOUNT_CACHE, accountCachePolicy());
+        register(cacheManager, meterRegistry, TOKEN_CACHE, tokenCachePolicy());
 
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static void register(CaffeineCacheManager cacheManager, MeterRegistry meterRegistry,
+                                 String cacheName, Caffeine<Object, Object> policy) {
+        Cache<Object, Object> cache = CacheMetrics.recordStats(policy, meterRegistry, cacheName).build();
+        cacheManager.registerCustomCache(cacheName, CacheMetrics.bind(meterRegistry, cacheName, cache));
+    }
+}
@@ -0,0 +1,44 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대시보드 실시간 시세 푸시 설정 프로퍼티
+ * setstock.dashboard.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "setstock.dashboard")
+public class DashboardProperties {
+
+    /**
+     * 시세 프레임 전송 주기 (이 주기 안의 체결은 종목별 최신 가격 하나로 합쳐짐)
+     */
+    private Duration pushInterval = Duration.ofMillis(200);
+
+    /**
+     * 세션당 최대 구독 종목 수 (세션별 대기 프레임 수의 상한)
+     */
+    private int maxSymbolsPerSession = 200;
+
+    /**
+     * 프레임 하나의 전송 제한 시간 (초과하면 세션 종료)
+     */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * 세션별 전송 버퍼 상한 (바이트, 초과하면 세션 종료)
+     */
+    private int bufferSizeLimit = 512 * 1024;
+
+    /**
+     * 웹소켓 연결을 허용할 Origin 목록 (배포 환경의 대시보드 주소)
+     */
+    private List<String> allowedOrigins = new ArrayList<>(List.of("http://localhost:8080"));
+}
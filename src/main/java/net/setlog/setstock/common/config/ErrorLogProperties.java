@@ -0,0 +1,32 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 오류 로그 샘플링 설정 프로퍼티
+ * setstock.error-log.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "setstock.error-log")
+public class ErrorLogProperties {
+
+    /**
+     * 오류 코드별 집계 구간
+     */
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * 구간마다 그대로 기록할 오류 수 (오류 코드별)
+     */
+    private int burst = 5;
+
+    /**
+     * burst 를 넘긴 뒤 N건마다 1건만 기록 (0이면 구간이 끝날 때까지 모두 생략)
+     */
+    private int sampleEvery = 100;
+}
@@ -0,0 +1,123 @@
+package net.setlog.setstock.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.kis.KisQuoteSource;
+import net.setlog.setstock.kis.KisRateLimiter;
+import net.setlog.setstock.kis.KisRestClient;
+import net.setlog.setstock.kis.KisTokenManager;
+import net.setlog.setstock.kis.KisTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * KIS REST API 설정 클래스
+ * 외부 API 호출에 공통으로 사용하는 컴포넌트를 정의
+ * spring.threads.virtual.enabled=true 이면 KIS 호출을 가상 스레드에서 수행한다.
+ */
+@Configuration
+public class KisApiConfig {
+
+    /**
+     * KIS HTTP 클라이언트 빈 (java.net.http)
+     * 여러 종목을 동시에 조회하면 호출 하나가 최대 API_READ_TIMEOUT_MS 동안 스레드를 점유하므로,
+     * 가상 스레드 모드에서는 응답 처리를 호출마다 가상 스레드에서 수행한다. 실제 호출 속도는 KisRateLimiter 가 제한한다.
+     * 실행기를 빈으로 노출하면 스프링 부트 기본 applicationTaskExecutor 가 등록되지 않으므로 클라이언트 내부에만 둔다.
+     * @param environment 환경 설정
+     * @return HttpClient 객체
+     */
+    @Bean
+    public HttpClient kisHttpClient(Environment environment) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(ApiConstants.API_CONNECTION_TIMEOUT_MS));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kis-http-", 0).factory()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * KIS API 호출 한도 제한기 빈
+     * 애플리케이션 전체에서 하나의 인스턴스를 공유해야 한도가 지켜진다.
+     * @param meterRegistry 메트릭 레지스트리
+     * @return KisRateLimiter 객체
+     */
+    @Bean
+    public KisRateLimiter kisRateLimiter(MeterRegistry meterRegistry) {
+        return new KisRateLimiter(meterRegistry);
+    }
+
+    /**
+     * 토큰 발급용 KIS REST 클라이언트 빈
+     * @param properties KIS 설정
+     * @param kisHttpClient KIS HTTP 클라이언트
+     * @return RestClient 객체
+     */
+    @Bean
+    public RestClient kisTokenRestClient(KisProperties properties, HttpClient kisHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(kisHttpClient);
+        requestFactory.setReadTimeout(ApiConstants.API_READ_TIMEOUT_MS);
+
+        return RestClient.builder()
+            .baseUrl(properties.getBaseUrl())
+            .requestFactory(requestFactory)
+            .build();
+    }
+
+    /**
+     * KIS 접근 토큰 관리자 빈 (kis.app-key 가 설정된 경우에만 생성)
+     * @param properties KIS 설정
+     * @param kisRateLimiter 호출 한도 제한기
+     * @param kisTokenRestClient KIS REST 클라이언트
+     * @param objectMapper JSON 변환기
+     * @return KisTokenManager 객체
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kis", name = "app-key")
+    public KisTokenManager kisTokenManager(KisProperties properties, KisRateLimiter kisRateLimiter,
+                                           RestClient kisTokenRestClient, ObjectMapper objectMapper) {
+        KisTokenStore tokenStore = new KisTokenStore(Path.of(properties.getToken().getStorePath()), objectMapper);
+        return new KisTokenManager(properties, tokenStore, kisRateLimiter, kisTokenRestClient);
+    }
+
+    /**
+     * KIS REST 비동기 클라이언트 빈 (kis.app-key 가 설정된 경우에만 생성)
+     * @param properties KIS 설정
+     * @param kisTokenManager 접근 토큰 관리자
+     * @param kisRateLimiter 호출 한도 제한기
+     * @param kisHttpClient KIS HTTP 클라이언트
+     * @param objectMapper JSON 변환기
+     * @param meterRegistry 메트릭 레지스트리
+     * @return KisRestClient 객체
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kis", name = "app-key")
+    public KisRestClient kisRestClient(KisProperties properties, KisTokenManager kisTokenManager,
+                                       KisRateLimiter kisRateLimiter, HttpClient kisHttpClient,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new KisRestClient(properties, kisTokenManager, kisRateLimiter, kisHttpClient, objectMapper, meterRegistry);
+    }
+
+    /**
+     * KIS 현재가 조회 빈 (QuoteService 의 REST 조회 경로)
+     * @param kisRestClient KIS REST 클라이언트
+     * @return KisQuoteSource 객체
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kis", name = "app-key")
+    public KisQuoteSource kisQuoteSource(KisRestClient kisRestClient) {
+        return new KisQuoteSource(kisRestClient);
+    }
+}
@@ -0,0 +1,139 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.setlog.setstock.common.constants.ApiConstants;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국투자증권 OpenAPI 설정 프로퍼티
+ * config/kis-openapi.yaml 의 kis.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "kis")
+public class KisProperties {
+
+    /**
+     * 모의투자 여부 (기본값: 모의투자)
+     */
+    private boolean virtual = true;
+
+    /**
+     * 앱 키
+     */
+    private String appKey;
+
+    /**
+     * 앱 시크릿
+     */
+    private String appSecret;
+
+    /**
+     * 계좌번호
+     */
+    private String accountNo;
+
+    /**
+     * 접근 토큰 설정
+     */
+    private Token token = new Token();
+
+    /**
+     * 실시간 시세 설정
+     */
+    private Realtime realtime = new Realtime();
+
+    /**
+     * 종목 마스터 설정
+     */
+    private Master master = new Master();
+
+    /**
+     * 실전/모의 구분에 따른 REST API 기본 URL 반환
+     * @return REST API 기본 URL
+     */
+    public String getBaseUrl() {
+        return virtual ? ApiConstants.KIS_BASE_URL_VIRTUAL : ApiConstants.KIS_BASE_URL_REAL;
+    }
+
+    /**
+     * 실전/모의 구분에 따른 실시간 웹소켓 URL 반환
+     * @return 웹소켓 URL
+     */
+    public String getRealtimeUrl() {
+        return virtual ? ApiConstants.KIS_REALTIME_URL_VIRTUAL : ApiConstants.KIS_REALTIME_URL_REAL;
+    }
+
+    /**
+     * 접근 토큰 관리 설정
+     */
+    @Getter
+    @Setter
+    public static class Token {
+
+        /**
+         * 토큰 수명 대비 선제 갱신 시점 비율 (0.5 = 수명의 절반이 지나면 재발급)
+         */
+        private double refreshRatio = 0.5;
+
+        /**
+         * 토큰 저장 파일 경로
+         */
+        private String storePath = "data/kis-token.json";
+    }
+
+    /**
+     * 실시간 시세 수신 설정
+     */
+    @Getter
+    @Setter
+    public static class Realtime {
+
+        /**
+         * 실시간 시세 수신 활성화 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 웹소켓 접속키 (approval_key)
+         */
+        private String approvalKey;
+
+        /**
+         * 기동 시 구독할 종목 코드 목록
+         */
+        private List<String> symbols = new ArrayList<>();
+
+        /**
+         * 체결 링 버퍼 크기 (2의 거듭제곱)
+         */
+        private int bufferSize = 65536;
+    }
+
+    /**
+     * 종목 마스터 설정
+     */
+    @Getter
+    @Setter
+    public static class Master {
+
+        /**
+         * 바이너리 종목 마스터 파일 경로 (기동 시 메모리 매핑)
+         */
+        private String path = "data/stock-master.bin";
+
+        /**
+         * KIS 유가증권 종목 마스터 원본 (kospi_code.mst, 선택)
+         */
+        private String kospiFile;
+
+        /**
+         * KIS 코스닥 종목 마스터 원본 (kosdaq_code.mst, 선택)
+         */
+        private String kosdaqFile;
+    }
+}
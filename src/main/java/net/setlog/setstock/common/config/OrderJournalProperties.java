@@ -0,0 +1,25 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 저널 설정 프로퍼티
+ * setstock.order-journal.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "setstock.order-journal")
+public class OrderJournalProperties {
+
+    /**
+     * 저널 파일 디렉터리 (거래일마다 orders-yyyyMMdd.journal 파일 하나)
+     */
+    private String directory = "data/orders";
+
+    /**
+     * 새 저널 파일의 초기 레코드 수 (차면 두 배로 확장)
+     */
+    private int initialCapacity = 65536;
+}
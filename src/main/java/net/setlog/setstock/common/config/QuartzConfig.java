@@ -2,8 +2,10 @@ package net.setlog.setstock.common.config;
 
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
@@ -13,19 +15,25 @@ import java.util.Properties;
 /**
  * Quartz 스케줄러 설정 클래스
  * 주기적인 작업 실행을 위한 Quartz 스케줄러 설정을 정의
+ * spring.threads.virtual.enabled=true 이면 작업을 가상 스레드(QuartzVirtualThreadPool)에서 실행한다.
  */
 @Configuration
 @EnableScheduling
 public class QuartzConfig {
 
+    private static final int VIRTUAL_MAX_CONCURRENCY = 100;  // 가상 스레드 모드 동시 실행 작업 수
+
     private final DataSource dataSource;
+    private final Environment environment;
 
     /**
      * 생성자
      * @param dataSource 데이터 소스
+     * @param environment 환경 설정
      */
-    public QuartzConfig(DataSource dataSource) {
+    public QuartzConfig(DataSource dataSource, Environment environment) {
         this.dataSource = dataSource;
+        this.environment = environment;
     }
 
     /**
@@ -50,9 +58,14 @@ public class QuartzConfig {
         properties.setProperty("org.quartz.jobStore.misfireThreshold", "60000");
 
         // 스레드 풀 설정
-        properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
-        properties.setProperty("org.quartz.threadPool.threadCount", "10");
-        properties.setProperty("org.quartz.threadPool.threadPriority", "5");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            properties.setProperty("org.quartz.threadPool.class", QuartzVirtualThreadPool.class.getName());
+            properties.setProperty("org.quartz.threadPool.maxConcurrency", String.valueOf(VIRTUAL_MAX_CONCURRENCY));
+        } else {
+            properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
+            properties.setProperty("org.quartz.threadPool.threadCount", "10");
+            properties.setProperty("org.quartz.threadPool.threadPriority", "5");
+        }
 
         // 기타 설정
         properties.setProperty("org.quartz.scheduler.instanceId", "AUTO");
@@ -0,0 +1,97 @@
+package net.setlog.setstock.common.config;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 기반 Quartz 스레드 풀
+ *
+ * 작업마다 가상 스레드를 새로 만들고, 동시 실행 수는 maxConcurrency 로 제한한다(JDBC 커넥션 풀 보호).
+ * Quartz 가 클래스 이름으로 생성하므로 public 기본 생성자와 setter 를 유지해야 한다.
+ * (org.quartz.threadPool.maxConcurrency)
+ */
+public class QuartzVirtualThreadPool implements ThreadPool {
+
+    private int maxConcurrency = 100;
+    private String instanceName = "quartz";
+
+    private Semaphore permits;
+    private ThreadFactory threadFactory;
+    private volatile boolean shutdown;
+
+    @Override
+    public void initialize() throws SchedulerConfigException {
+        if (maxConcurrency <= 0) {
+            throw new SchedulerConfigException("maxConcurrency 는 0보다 커야 합니다: " + maxConcurrency);
+        }
+        permits = new Semaphore(maxConcurrency);
+        threadFactory = Thread.ofVirtual().name(instanceName + "-job-", 0).factory();
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null || shutdown) {
+            return false;
+        }
+        permits.acquireUninterruptibly();
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        if (shutdown) {
+            return 0;
+        }
+        // 빈 자리가 생길 때까지 대기 후 반납 (실제 점유는 runInThread 에서)
+        permits.acquireUninterruptibly();
+        permits.release();
+        return Math.max(1, permits.availablePermits());
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        shutdown = true;
+        if (waitForJobsToComplete && permits != null) {
+            permits.acquireUninterruptibly(maxConcurrency);
+            permits.release(maxConcurrency);
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        // 인스턴스 ID 는 사용하지 않음
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        this.instanceName = schedName;
+    }
+
+    /**
+     * 최대 동시 실행 작업 수 설정
+     * @param maxConcurrency 최대 동시 실행 작업 수
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
@@ -0,0 +1,49 @@
+package net.setlog.setstock.common.config;
+
+import net.setlog.setstock.realtime.KisRealtimeClient;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실시간 시세 수신 설정 클래스
+ * 웹소켓 수신 스레드 -> 링 버퍼 -> 디스패처 스레드로 이어지는 체결 수신 파이프라인을 구성
+ */
+@Configuration
+public class RealtimeConfig {
+
+    /**
+     * 체결 링 버퍼 빈
+     * @param properties KIS 설정
+     * @return TickRingBuffer 객체
+     */
+    @Bean
+    public TickRingBuffer tickRingBuffer(KisProperties properties) {
+        return new TickRingBuffer(properties.getRealtime().getBufferSize());
+    }
+
+    /**
+     * 체결 디스패처 빈
+     * 체결을 소비하는 컴포넌트는 이 빈에 리스너로 등록한다.
+     * @param tickRingBuffer 체결 링 버퍼
+     * @return TickDispatcher 객체
+     */
+    @Bean
+    public TickDispatcher tickDispatcher(TickRingBuffer tickRingBuffer) {
+        return new TickDispatcher(tickRingBuffer);
+    }
+
+    /**
+     * 실시간 체결 웹소켓 클라이언트 빈 (kis.realtime.enabled=true 인 경우에만 생성)
+     * @param properties KIS 설정
+     * @param tickRingBuffer 체결 링 버퍼
+     * @return KisRealtimeClient 객체
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kis.realtime", name = "enabled", havingValue = "true")
+    public KisRealtimeClient kisRealtimeClient(KisProperties properties, TickRingBuffer tickRingBuffer) {
+        return new KisRealtimeClient(properties, tickRingBuffer);
+    }
+}
@@ -0,0 +1,25 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 전략 엔진 설정 프로퍼티
+ * setstock.strategy-engine.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "setstock.strategy-engine")
+public class StrategyEngineProperties {
+
+    /**
+     * 파티션(평가 스레드) 수 (0 이면 CPU 코어 수)
+     */
+    private int partitions = 0;
+
+    /**
+     * 파티션별 대기 이벤트 상한 (초과하면 체결 이벤트를 버림, 캔들은 항상 전달)
+     */
+    private int queueCapacity = 65536;
+}
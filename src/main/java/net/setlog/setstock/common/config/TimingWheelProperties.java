@@ -0,0 +1,37 @@
+package net.setlog.setstock.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 타이밍 휠 설정 프로퍼티
+ * setstock.timing-wheel.* 항목을 바인딩
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "setstock.timing-wheel")
+public class TimingWheelProperties {
+
+    /**
+     * 틱 간격 (만료 시각의 정밀도)
+     */
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * 단계별 슬롯 수 (2의 거듭제곱)
+     */
+    private int wheelSize = 256;
+
+    /**
+     * 단계 수 (표현 범위 = tick * wheelSize ^ levels)
+     */
+    private int levels = 4;
+
+    /**
+     * 포지션 청산 마감을 폐장보다 앞당기는 시간 (15:20 종가 단일가 전에 청산)
+     */
+    private Duration exitLead = Duration.ofMinutes(10);
+}
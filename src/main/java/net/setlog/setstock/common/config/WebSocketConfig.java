@@ -0,0 +1,42 @@
+package net.setlog.setstock.common.config;
+
+import net.setlog.setstock.dashboard.MarketDataWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 웹소켓 설정
+ * 대시보드 실시간 시세 푸시 엔드포인트를 등록
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final MarketDataWebSocketHandler marketDataWebSocketHandler;
+    private final DashboardProperties dashboardProperties;
+
+    /**
+     * 생성자
+     *
+     * @param marketDataWebSocketHandler 실시간 시세 웹소켓 핸들러
+     * @param dashboardProperties 대시보드 설정
+     */
+    public WebSocketConfig(MarketDataWebSocketHandler marketDataWebSocketHandler,
+                           DashboardProperties dashboardProperties) {
+        this.marketDataWebSocketHandler = marketDataWebSocketHandler;
+        this.dashboardProperties = dashboardProperties;
+    }
+
+    /**
+     * 웹소켓 핸들러 등록
+     *
+     * @param registry 웹소켓 핸들러 레지스트리
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(marketDataWebSocketHandler, "/ws/market")
+            .setAllowedOrigins(dashboardProperties.getAllowedOrigins().toArray(String[]::new));
+    }
+}
@@ -40,6 +40,10 @@ public class TradeConstants {
     // 세금율 (주식거래세 0.23% = 0.0023)
     public static final BigDecimal TAX_RATE = new BigDecimal("0.0023");
 
+    // 고정소수점 비율 (백만분율, Rate/Money 연산용)
+    public static final long DEFAULT_FEE_RATE_PPM = 150;  // 0.015%
+    public static final long TAX_RATE_PPM = 2_300;        // 0.23%
+
     // 시장 지표 관련 상수
     public static final int SHORT_TERM_SMA_PERIOD = 20;   // 단기 이동평균선 기간
     public static final int MEDIUM_TERM_SMA_PERIOD = 60;  // 중기 이동평균선 기간
@@ -49,10 +53,18 @@ public class TradeConstants {
     public static final BigDecimal RSI_OVERSOLD = new BigDecimal("30");    // RSI 과매도 기준
     public static final BigDecimal RSI_OVERBOUGHT = new BigDecimal("70");  // RSI 과매수 기준
 
+    public static final int EMA_PERIOD = 20;                 // 지수 이동평균 기간
+    public static final int BOLLINGER_PERIOD = 20;           // 볼린저 밴드 기간
+    public static final double BOLLINGER_MULTIPLIER = 2.0;   // 볼린저 밴드 표준편차 배수
+    public static final int ATR_PERIOD = 14;                 // 평균 진폭 기간
+
     // 리스크 관리 관련 상수
     public static final BigDecimal DEFAULT_STOP_LOSS_PERCENTAGE = new BigDecimal("0.02");  // 기본 손절매 비율 (2%)
     public static final BigDecimal DEFAULT_TAKE_PROFIT_PERCENTAGE = new BigDecimal("0.03"); // 기본 익절매 비율 (3%)
     public static final BigDecimal MAX_POSITION_SIZE_PERCENTAGE = new BigDecimal("0.1");    // 최대 포지션 크기 비율 (10%)
+    public static final long DEFAULT_STOP_LOSS_RATE_PPM = 20_000;     // 기본 손절매 비율 (2%, 백만분율)
+    public static final long DEFAULT_TAKE_PROFIT_RATE_PPM = 30_000;   // 기본 익절매 비율 (3%, 백만분율)
+    public static final long MAX_POSITION_SIZE_RATE_PPM = 100_000;    // 최대 포지션 크기 비율 (10%, 백만분율)
 
     // 캔들 타입
     public static final String CANDLE_TYPE_1MIN = "1min";
@@ -42,6 +42,21 @@ public class ApiException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    /**
+     * ApiException 생성자 (스택 트레이스 기록 여부 지정)
+     * 예상 가능한 거절(검증 실패 등)은 스택 트레이스를 채우지 않아 생성 비용을 줄인다.
+     *
+     * @param message 예외 메시지
+     * @param status HTTP 상태 코드
+     * @param errorCode 오류 코드
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     */
+    protected ApiException(String message, HttpStatus status, String errorCode, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+        this.errorCode = errorCode;
+    }
+
     /**
      * 비즈니스 로직 예외 생성
      *
@@ -86,4 +101,14 @@ public class ApiException extends RuntimeException {
     public static ApiException externalApiException(String message, Throwable cause) {
         return new ApiException(message, HttpStatus.INTERNAL_SERVER_ERROR, "EXTERNAL_API_ERROR", cause);
     }
+
+    /**
+     * 외부 API 호출 한도 초과 예외 생성
+     *
+     * @param message 예외 메시지
+     * @return ApiException 인스턴스
+     */
+    public static ApiException rateLimitException(String message) {
+        return new ApiException(message, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED");
+    }
 }
\ No newline at end of file
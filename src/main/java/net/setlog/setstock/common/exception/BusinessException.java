@@ -40,6 +40,17 @@ public class BusinessException extends ApiException {
         super(message, HttpStatus.BAD_REQUEST, errorCode, cause);
     }
 
+    /**
+     * 스택 트레이스 기록 여부 지정 생성자
+     *
+     * @param message 예외 메시지
+     * @param errorCode 오류 코드
+     * @param writableStackTrace 스택 트레이스 기록 여부
+     */
+    protected BusinessException(String message, String errorCode, boolean writableStackTrace) {
+        super(message, HttpStatus.BAD_REQUEST, errorCode, writableStackTrace);
+    }
+
     /**
      * 주문 관련 비즈니스 예외 생성
      *
@@ -0,0 +1,134 @@
+package net.setlog.setstock.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.config.ErrorLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 코드별 오류 집계 및 로그 샘플링
+ *
+ * 오류가 날 때마다 api.errors 카운터(errorCode, status 태그)를 올리고,
+ * 구간(setstock.error-log.window)마다 오류 코드별 발생 건수를 api.errors.window 분포로 기록한다.
+ * 로그는 구간마다 burst 건까지만 그대로 남기고 이후에는 sampleEvery 건마다 1건만 남기며,
+ * 생략한 건수는 다음 구간이 시작될 때 한 줄로 요약한다. KIS 장애처럼 같은 오류가 폭주해도 로그 I/O 가 요청 스레드를 막지 않도록 한다.
+ */
+@Component
+public class ErrorReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ErrorReporter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long windowNanos;
+    private final int burst;
+    private final int sampleEvery;
+    private final ConcurrentMap<String, ErrorWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     * @param properties 오류 로그 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public ErrorReporter(ErrorLogProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.burst = properties.getBurst();
+        this.sampleEvery = properties.getSampleEvery();
+    }
+
+    /**
+     * 오류 발생 기록
+     * @param errorCode 오류 코드
+     * @param status HTTP 상태 코드
+     * @return 이번 오류를 로그로 남겨야 하면 true
+     */
+    public boolean record(String errorCode, int status) {
+        String key = errorCode + ':' + status;
+        ErrorWindow window = windows.computeIfAbsent(key, k -> new ErrorWindow(errorCode, status));
+        window.counter.increment();
+        return window.admit(System.nanoTime());
+    }
+
+    /**
+     * 오류가 멈춘 오류 코드의 구간 마감 (생략 건수 요약 출력)
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+    public void flushExpiredWindows() {
+        long now = System.nanoTime();
+        for (ErrorWindow window : windows.values()) {
+            window.flush(now);
+        }
+    }
+
+    /**
+     * 오류 코드별 집계 구간
+     */
+    private final class ErrorWindow {
+        private final String errorCode;
+        private final int status;
+        private final Counter counter;
+        private final DistributionSummary perWindow;
+        private long startedAt;
+        private int count;
+        private int suppressed;
+
+        private ErrorWindow(String errorCode, int status) {
+            this.errorCode = errorCode;
+            this.status = status;
+            this.counter = Counter.builder("api.errors")
+                .description("오류 응답 건수")
+                .tag("errorCode", errorCode)
+                .tag("status", String.valueOf(status))
+                .register(meterRegistry);
+            this.perWindow = DistributionSummary.builder("api.errors.window")
+                .description("집계 구간당 오류 건수")
+                .tag("errorCode", errorCode)
+                .tag("status", String.valueOf(status))
+                .register(meterRegistry);
+            this.startedAt = System.nanoTime();
+        }
+
+        private boolean admit(long now) {
+            flush(now);
+            synchronized (this) {
+                count++;
+                boolean admitted = count <= burst || (sampleEvery > 0 && (count - burst) % sampleEvery == 0);
+                if (!admitted) {
+                    suppressed++;
+                }
+                return admitted;
+            }
+        }
+
+        private void flush(long now) {
+            int previousCount;
+            int previousSuppressed;
+            synchronized (this) {
+                if (now - startedAt < windowNanos) {
+                    return;
+                }
+                previousCount = count;
+                previousSuppressed = suppressed;
+                startedAt = now;
+                count = 0;
+                suppressed = 0;
+            }
+
+            if (previousCount > 0) {
+                perWindow.record(previousCount);
+            }
+            if (previousSuppressed > 0) {
+                log.warn("오류 로그 {}건 생략: errorCode={}, status={}, 구간 발생 {}건",
+                    previousSuppressed, errorCode, status, previousCount);
+            }
+        }
+    }
+}
@@ -23,12 +23,24 @@ import java.nio.file.AccessDeniedException;
  * 글로벌 예외 처리기
  *
  * 애플리케이션에서 발생하는 모든 예외를 중앙에서 처리하여 일관된 오류 응답 제공
+ * 오류 로그는 ErrorReporter 가 오류 코드별로 샘플링하며, 모든 오류는 api.errors 메트릭으로 집계된다.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ErrorReporter errorReporter;
+
+    /**
+     * 생성자
+     *
+     * @param errorReporter 오류 집계 및 로그 샘플링
+     */
+    public GlobalExceptionHandler(ErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
+    }
+
     /**
      * ApiException 처리
      *
@@ -38,7 +50,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<ErrorResponse> handleApiException(ApiException ex, HttpServletRequest request) {
-        log.error("API 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record(ex.getErrorCode(), ex.getStatus().value())) {
+            log.error("API 예외 발생: [{}] {}", ex.getErrorCode(), ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(ex.getStatus().value())
@@ -62,7 +76,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleValidationException(
         MethodArgumentNotValidException ex, HttpServletRequest request) {
 
-        log.error("유효성 검증 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record("VALIDATION_ERROR", HttpStatus.BAD_REQUEST.value())) {
+            log.error("유효성 검증 예외 발생: {}", ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.BAD_REQUEST.value())
@@ -95,7 +111,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleConstraintViolation(
         ConstraintViolationException ex, HttpServletRequest request) {
 
-        log.error("제약 조건 위반 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record("VALIDATION_ERROR", HttpStatus.BAD_REQUEST.value())) {
+            log.error("제약 조건 위반 예외 발생: {}", ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.BAD_REQUEST.value())
@@ -131,7 +149,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleBindException(
         BindException ex, HttpServletRequest request) {
 
-        log.error("바인딩 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record("BINDING_ERROR", HttpStatus.BAD_REQUEST.value())) {
+            log.error("바인딩 예외 발생: {}", ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.BAD_REQUEST.value())
@@ -164,7 +184,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatch(
         MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
 
-        log.error("메소드 인자 타입 불일치 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record("TYPE_MISMATCH", HttpStatus.BAD_REQUEST.value())) {
+            log.error("메소드 인자 타입 불일치 예외 발생: {}", ex.getMessage());
+        }
 
         String message = String.format("매개변수 '%s'의 값 '%s'을(를) '%s' 타입으로 변환할 수 없습니다",
             ex.getName(), ex.getValue(), ex.getRequiredType().getSimpleName());
@@ -191,7 +213,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleNoHandlerFoundException(
         NoHandlerFoundException ex, HttpServletRequest request) {
 
-        log.error("요청 핸들러를 찾을 수 없음: {}", ex.getMessage());
+        if (errorReporter.record("NOT_FOUND", HttpStatus.NOT_FOUND.value())) {
+            log.error("요청 핸들러를 찾을 수 없음: {}", ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.NOT_FOUND.value())
@@ -215,7 +239,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(
         AccessDeniedException ex, HttpServletRequest request) {
 
-        log.error("접근 거부 예외 발생: {}", ex.getMessage());
+        if (errorReporter.record("FORBIDDEN", HttpStatus.FORBIDDEN.value())) {
+            log.error("접근 거부 예외 발생: {}", ex.getMessage());
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.FORBIDDEN.value())
@@ -239,7 +265,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleRestClientException(
         RestClientException ex, HttpServletRequest request) {
 
-        log.error("외부 API 호출 예외 발생: {}", ex.getMessage(), ex);
+        if (errorReporter.record("EXTERNAL_API_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value())) {
+            log.error("외부 API 호출 예외 발생: {}", ex.getMessage(), ex);
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
@@ -263,7 +291,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGlobalException(
         Exception ex, HttpServletRequest request) {
 
-        log.error("처리되지 않은 예외 발생: ", ex);
+        if (errorReporter.record("INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value())) {
+            log.error("처리되지 않은 예외 발생: ", ex);
+        }
 
         ErrorResponse errorResponse = ErrorResponse.builder()
             .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
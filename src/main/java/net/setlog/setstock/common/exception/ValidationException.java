@@ -0,0 +1,38 @@
+package net.setlog.setstock.common.exception;
+
+import net.setlog.setstock.common.util.ValidationResult;
+
+/**
+ * 검증 실패 예외 클래스
+ *
+ * ValidationUtils 의 검증 실패를 REST 계층으로 전달하기 위한 BusinessException 의 확장
+ * 스택 트레이스를 채우지 않으며, 메시지는 getMessage() 를 호출할 때 처음 만들어진다.
+ */
+public class ValidationException extends BusinessException {
+
+    private final transient ValidationResult result;
+
+    /**
+     * 생성자
+     *
+     * @param result 실패한 검증 결과
+     */
+    public ValidationException(ValidationResult result) {
+        super(null, result.getErrorCode(), false);
+        this.result = result;
+    }
+
+    /**
+     * 검증 결과 반환
+     *
+     * @return 실패한 검증 결과
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public String getMessage() {
+        return result.getMessage();
+    }
+}
@@ -0,0 +1,200 @@
+package net.setlog.setstock.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * KIS 숫자형 일자/시각 파서
+ *
+ * KIS REST/웹소켓 응답의 yyyyMMdd, HHmmss, yyyyMMddHHmmss 필드를 DateTimeFormatter 없이
+ * 자릿수 산술로 읽어 epoch day, 초, epoch 초/분 원시 값으로 반환한다. (한국 시간 기준)
+ * 형식이나 범위가 잘못된 입력은 예외 대신 INVALID 를 반환하여 수신 경로에서 분기만으로 처리한다.
+ */
+public final class CompactTimeParser {
+
+    /**
+     * 형식 또는 범위 오류
+     */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    public static final int DATE_LENGTH = 8;       // yyyyMMdd
+    public static final int TIME_LENGTH = 6;       // HHmmss
+    public static final int DATE_TIME_LENGTH = 14; // yyyyMMddHHmmss
+
+    private static final long KST_OFFSET_SECONDS = 9 * 3600L;
+
+    private CompactTimeParser() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * yyyyMMdd 를 epoch day 로 변환
+     * @param text 입력
+     * @param offset 시작 위치
+     * @return epoch day, 오류면 INVALID
+     */
+    public static int parseDate(CharSequence text, int offset) {
+        if (offset < 0 || offset + DATE_LENGTH > text.length()) {
+            return INVALID;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 4, 2);
+        int day = digits(text, offset + 6, 2);
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * HHmmss 를 자정 기준 초로 변환
+     * @param text 입력
+     * @param offset 시작 위치
+     * @return 자정 기준 초 (0 ~ 86399), 오류면 INVALID
+     */
+    public static int parseTime(CharSequence text, int offset) {
+        if (offset < 0 || offset + TIME_LENGTH > text.length()) {
+            return INVALID;
+        }
+        return toSecondOfDay(digits(text, offset, 2), digits(text, offset + 2, 2), digits(text, offset + 4, 2));
+    }
+
+    /**
+     * 일자와 시각 필드를 epoch 초로 변환 (한국 시간)
+     * @param date yyyyMMdd 입력
+     * @param dateOffset 일자 시작 위치
+     * @param time HHmmss 입력
+     * @param timeOffset 시각 시작 위치
+     * @return epoch 초, 오류면 Long.MIN_VALUE
+     */
+    public static long parseEpochSecond(CharSequence date, int dateOffset, CharSequence time, int timeOffset) {
+        return toEpochSecond(parseDate(date, dateOffset), parseTime(time, timeOffset));
+    }
+
+    /**
+     * yyyyMMddHHmmss 를 epoch 초로 변환 (한국 시간)
+     * @param text 입력
+     * @param offset 시작 위치
+     * @return epoch 초, 오류면 Long.MIN_VALUE
+     */
+    public static long parseEpochSecond(CharSequence text, int offset) {
+        return parseEpochSecond(text, offset, text, offset + DATE_LENGTH);
+    }
+
+    /**
+     * 일자와 시각 필드를 한국 시간 epoch 분으로 변환 (초는 버림)
+     * @param date yyyyMMdd 입력
+     * @param dateOffset 일자 시작 위치
+     * @param time HHmmss 입력
+     * @param timeOffset 시각 시작 위치
+     * @return 한국 시간 epoch 분 (EpochMinutes), 오류면 INVALID
+     */
+    public static int parseEpochMinute(CharSequence date, int dateOffset, CharSequence time, int timeOffset) {
+        return toEpochMinute(parseDate(date, dateOffset), parseTime(time, timeOffset));
+    }
+
+    /**
+     * yyyyMMdd 를 epoch day 로 변환 (ByteBuffer 절대 위치, position 변경 없음)
+     * @param buffer ASCII 입력
+     * @param index 시작 위치
+     * @return epoch day, 오류면 INVALID
+     */
+    public static int parseDate(ByteBuffer buffer, int index) {
+        if (index < 0 || index + DATE_LENGTH > buffer.limit()) {
+            return INVALID;
+        }
+        return toEpochDay(digits(buffer, index, 4), digits(buffer, index + 4, 2), digits(buffer, index + 6, 2));
+    }
+
+    /**
+     * HHmmss 를 자정 기준 초로 변환 (ByteBuffer 절대 위치, position 변경 없음)
+     * @param buffer ASCII 입력
+     * @param index 시작 위치
+     * @return 자정 기준 초, 오류면 INVALID
+     */
+    public static int parseTime(ByteBuffer buffer, int index) {
+        if (index < 0 || index + TIME_LENGTH > buffer.limit()) {
+            return INVALID;
+        }
+        return toSecondOfDay(digits(buffer, index, 2), digits(buffer, index + 2, 2), digits(buffer, index + 4, 2));
+    }
+
+    /**
+     * yyyyMMddHHmmss 를 epoch 초로 변환 (ByteBuffer 절대 위치, 한국 시간)
+     * @param buffer ASCII 입력
+     * @param index 시작 위치
+     * @return epoch 초, 오류면 Long.MIN_VALUE
+     */
+    public static long parseEpochSecond(ByteBuffer buffer, int index) {
+        return toEpochSecond(parseDate(buffer, index), parseTime(buffer, index + DATE_LENGTH));
+    }
+
+    /**
+     * yyyyMMddHHmmss 를 한국 시간 epoch 분으로 변환 (ByteBuffer 절대 위치, 초는 버림)
+     * @param buffer ASCII 입력
+     * @param index 시작 위치
+     * @return 한국 시간 epoch 분, 오류면 INVALID
+     */
+    public static int parseEpochMinute(ByteBuffer buffer, int index) {
+        return toEpochMinute(parseDate(buffer, index), parseTime(buffer, index + DATE_LENGTH));
+    }
+
+    private static long toEpochSecond(int epochDay, int secondOfDay) {
+        if (epochDay == INVALID || secondOfDay == INVALID) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay * 86_400L + secondOfDay - KST_OFFSET_SECONDS;
+    }
+
+    private static int toEpochMinute(int epochDay, int secondOfDay) {
+        if (epochDay == INVALID || secondOfDay == INVALID) {
+            return INVALID;
+        }
+        return EpochMinutes.of(epochDay, secondOfDay / 60);
+    }
+
+    private static int toEpochDay(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return (int) EpochMinutes.toEpochDay(year, month, day);
+    }
+
+    private static int toSecondOfDay(int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 고정 길이 숫자 (숫자가 아닌 문자가 있으면 음수)
+     */
+    private static int digits(CharSequence text, int offset, int length) {
+        int value = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(ByteBuffer buffer, int index, int length) {
+        int value = 0;
+        for (int i = index, end = index + length; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
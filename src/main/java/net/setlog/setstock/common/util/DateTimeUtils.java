@@ -91,6 +91,38 @@ public class DateTimeUtils {
         return LocalDateTime.parse(dateTimeStr, DATETIME_FORMATTER);
     }
 
+    /**
+     * KIS 숫자형 일자(yyyyMMdd)를 날짜로 파싱
+     * 수신 경로에서는 CompactTimeParser 로 epoch day 를 직접 읽는다.
+     * @param dateStr 일자 문자열 (예: 20250312)
+     * @return 파싱된 날짜
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static LocalDate parseCompactDate(String dateStr) {
+        if (dateStr == null || dateStr.trim().isEmpty()) return null;
+        int epochDay = CompactTimeParser.parseDate(dateStr, 0);
+        if (epochDay == CompactTimeParser.INVALID || dateStr.length() != CompactTimeParser.DATE_LENGTH) {
+            throw new IllegalArgumentException("잘못된 일자 형식입니다: " + dateStr);
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * KIS 숫자형 일자(yyyyMMdd)와 시각(HHmmss)을 날짜와 시간으로 파싱
+     * @param dateStr 일자 문자열 (예: 20250312)
+     * @param timeStr 시각 문자열 (예: 093354)
+     * @return 파싱된 날짜와 시간
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static LocalDateTime parseCompactDateTime(String dateStr, String timeStr) {
+        LocalDate date = parseCompactDate(dateStr);
+        int secondOfDay = timeStr == null ? CompactTimeParser.INVALID : CompactTimeParser.parseTime(timeStr, 0);
+        if (date == null || secondOfDay == CompactTimeParser.INVALID || timeStr.length() != CompactTimeParser.TIME_LENGTH) {
+            throw new IllegalArgumentException("잘못된 일시 형식입니다: " + dateStr + " " + timeStr);
+        }
+        return LocalDateTime.of(date, LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
     /**
      * 주말인지 확인
      * @param date 날짜
@@ -102,6 +134,16 @@ public class DateTimeUtils {
         return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
     }
 
+    /**
+     * 거래일인지 확인 (주말 및 KRX 휴장일 제외)
+     * @param date 날짜
+     * @return 거래일이면 true, 아니면 false
+     */
+    public static boolean isTradingDay(LocalDate date) {
+        if (date == null) return false;
+        return TradingCalendar.getDefault().isTradingDay(date.toEpochDay());
+    }
+
     /**
      * 주가 거래 시간인지 확인
      * @param dateTime 날짜와 시간
@@ -110,14 +152,11 @@ public class DateTimeUtils {
     public static boolean isMarketOpen(LocalDateTime dateTime) {
         if (dateTime == null) return false;
 
-        // 주말이면 시장 닫힘
-        if (isWeekend(dateTime.toLocalDate())) {
-            return false;
-        }
-
-        // 한국 주식시장 거래 시간: 9:00 ~ 15:30
-        LocalTime time = dateTime.toLocalTime();
-        return !time.isBefore(MARKET_OPEN_TIME) && time.isBefore(MARKET_CLOSE_TIME);
+        // 휴장일이면 -1, 개장 지연일은 해당일의 거래 시간 적용 (기본 9:00 ~ 15:30)
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        int minute = dateTime.getHour() * 60 + dateTime.getMinute();
+        return minute >= calendar.openMinute(epochDay) && minute < calendar.closeMinute(epochDay);
     }
 
     /**
@@ -140,23 +179,41 @@ public class DateTimeUtils {
     }
 
     /**
-     * 특정 날짜의 마켓 오픈 시간 반환
+     * 특정 날짜의 마켓 오픈 시간 반환 (개장 지연일은 지연된 시각, 휴장일은 정규 시각)
      * @param date 날짜
      * @return 마켓 오픈 시간을 포함한 날짜와 시간
      */
     public static LocalDateTime getMarketOpenTime(LocalDate date) {
         if (date == null) return null;
-        return LocalDateTime.of(date, MARKET_OPEN_TIME);
+        int minute = TradingCalendar.getDefault().openMinute(date.toEpochDay());
+        return minute < 0 ? LocalDateTime.of(date, MARKET_OPEN_TIME) : date.atStartOfDay().plusMinutes(minute);
     }
 
     /**
-     * 특정 날짜의 마켓 클로즈 시간 반환
+     * 특정 날짜의 마켓 클로즈 시간 반환 (폐장 연장일은 연장된 시각, 휴장일은 정규 시각)
      * @param date 날짜
      * @return 마켓 클로즈 시간을 포함한 날짜와 시간
      */
     public static LocalDateTime getMarketCloseTime(LocalDate date) {
         if (date == null) return null;
-        return LocalDateTime.of(date, MARKET_CLOSE_TIME);
+        int minute = TradingCalendar.getDefault().closeMinute(date.toEpochDay());
+        return minute < 0 ? LocalDateTime.of(date, MARKET_CLOSE_TIME) : date.atStartOfDay().plusMinutes(minute);
+    }
+
+    /**
+     * 마켓 오픈 시각을 자정 기준 분으로 반환
+     * @return 자정 기준 분 (09:00 -> 540)
+     */
+    public static int getMarketOpenMinuteOfDay() {
+        return MARKET_OPEN_TIME.getHour() * 60 + MARKET_OPEN_TIME.getMinute();
+    }
+
+    /**
+     * 마켓 클로즈 시각을 자정 기준 분으로 반환
+     * @return 자정 기준 분 (15:30 -> 930)
+     */
+    public static int getMarketCloseMinuteOfDay() {
+        return MARKET_CLOSE_TIME.getHour() * 60 + MARKET_CLOSE_TIME.getMinute();
     }
 
     /**
@@ -169,6 +226,7 @@ public class DateTimeUtils {
 
     /**
      * 지정된 분 간격으로 날짜와 시간 목록 생성
+     * 긴 기간의 캔들 구간 열거는 목록 대신 CandleType.buckets(epoch 분 스트림)를 사용한다.
      * @param start 시작 날짜와 시간
      * @param end 종료 날짜와 시간
      * @param minutesInterval 분 간격
@@ -189,25 +247,58 @@ public class DateTimeUtils {
     }
 
     /**
-     * 최근 거래일 목록 생성 (주말 제외)
+     * 최근 거래일 목록 생성 (주말 및 KRX 휴장일 제외, 최신순)
      * @param endDate 종료 날짜
      * @param count 거래일 수
      * @return 거래일 목록
      */
     public static List<LocalDate> getRecentTradingDays(LocalDate endDate, int count) {
-        List<LocalDate> tradingDays = new ArrayList<>();
-        LocalDate currentDate = endDate;
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        List<LocalDate> tradingDays = new ArrayList<>(count);
+        if (count <= 0) {
+            return tradingDays;
+        }
 
+        long epochDay = calendar.onOrBefore(endDate.toEpochDay());
+        tradingDays.add(LocalDate.ofEpochDay(epochDay));
         while (tradingDays.size() < count) {
-            if (!isWeekend(currentDate)) {
-                tradingDays.add(currentDate);
-            }
-            currentDate = currentDate.minusDays(1);
+            epochDay = calendar.minusTradingDays(epochDay, 1);
+            tradingDays.add(LocalDate.ofEpochDay(epochDay));
         }
 
         return tradingDays;
     }
 
+    /**
+     * N 거래일 전 날짜 반환 (기준일 미포함)
+     * @param date 기준 날짜
+     * @param n 거래일 수
+     * @return 거래일
+     */
+    public static LocalDate minusTradingDays(LocalDate date, int n) {
+        return LocalDate.ofEpochDay(TradingCalendar.getDefault().minusTradingDays(date.toEpochDay(), n));
+    }
+
+    /**
+     * N 거래일 후 날짜 반환 (기준일 미포함)
+     * @param date 기준 날짜
+     * @param n 거래일 수
+     * @return 거래일
+     */
+    public static LocalDate plusTradingDays(LocalDate date, int n) {
+        return LocalDate.ofEpochDay(TradingCalendar.getDefault().plusTradingDays(date.toEpochDay(), n));
+    }
+
+    /**
+     * 두 날짜 사이의 거래일 수 (양 끝 포함)
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 거래일 수
+     */
+    public static long tradingDaysBetween(LocalDate startDate, LocalDate endDate) {
+        return TradingCalendar.getDefault().countTradingDays(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
     /**
      * 특정 날짜가 속한 월의 첫 번째 거래일 반환
      * @param date 날짜
@@ -215,13 +306,7 @@ public class DateTimeUtils {
      */
     public static LocalDate getFirstTradingDayOfMonth(LocalDate date) {
         LocalDate firstDay = date.with(TemporalAdjusters.firstDayOfMonth());
-
-        // 주말이면 다음 월요일로 조정
-        if (isWeekend(firstDay)) {
-            return firstDay.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
-        }
-
-        return firstDay;
+        return LocalDate.ofEpochDay(TradingCalendar.getDefault().onOrAfter(firstDay.toEpochDay()));
     }
 
     /**
@@ -231,13 +316,7 @@ public class DateTimeUtils {
      */
     public static LocalDate getLastTradingDayOfMonth(LocalDate date) {
         LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
-
-        // 주말이면 이전 금요일로 조정
-        if (isWeekend(lastDay)) {
-            return lastDay.with(TemporalAdjusters.previous(DayOfWeek.FRIDAY));
-        }
-
-        return lastDay;
+        return LocalDate.ofEpochDay(TradingCalendar.getDefault().onOrBefore(lastDay.toEpochDay()));
     }
 
     /**
@@ -0,0 +1,114 @@
+package net.setlog.setstock.common.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 한국 시간 기준 epoch 분 변환 유틸리티
+ *
+ * 1970-01-01 00:00 (한국 시간)부터 지난 분을 int 로 표현한다. (epochDay * 1440 + 자정 기준 분)
+ * 날짜와 분을 원시 타입 산술만으로 분리/결합하므로 캔들 정렬, 공백 구간 탐지, 배열 색인에 객체 없이 사용할 수 있다.
+ */
+public final class EpochMinutes {
+
+    public static final int MINUTES_PER_DAY = 1440;
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long KST_OFFSET_MILLIS = 9 * 60 * MILLIS_PER_MINUTE;
+
+    private EpochMinutes() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * epoch 밀리초를 한국 시간 epoch 분으로 변환
+     * @param epochMillis epoch 밀리초 (System.currentTimeMillis 기준)
+     * @return 한국 시간 epoch 분
+     */
+    public static int ofEpochMillis(long epochMillis) {
+        return (int) Math.floorDiv(epochMillis + KST_OFFSET_MILLIS, MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * 한국 시간 epoch 분을 epoch 밀리초로 변환
+     * @param epochMinute 한국 시간 epoch 분
+     * @return epoch 밀리초
+     */
+    public static long toEpochMillis(int epochMinute) {
+        return epochMinute * MILLIS_PER_MINUTE - KST_OFFSET_MILLIS;
+    }
+
+    /**
+     * 날짜와 자정 기준 분을 epoch 분으로 결합
+     * @param epochDay 날짜 (epoch day)
+     * @param minuteOfDay 자정 기준 분
+     * @return 한국 시간 epoch 분
+     */
+    public static int of(long epochDay, int minuteOfDay) {
+        return Math.toIntExact(epochDay * MINUTES_PER_DAY + minuteOfDay);
+    }
+
+    /**
+     * KIS 숫자형 일자/시각을 epoch 분으로 변환 (초는 버림)
+     * @param yyyymmdd 일자 (예: 20250312)
+     * @param hhmmss 시각 (예: 93354)
+     * @return 한국 시간 epoch 분
+     */
+    public static int ofKis(int yyyymmdd, int hhmmss) {
+        long epochDay = toEpochDay(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100);
+        return of(epochDay, hhmmss / 10000 * 60 + hhmmss / 100 % 100);
+    }
+
+    /**
+     * LocalDateTime(한국 시간)을 epoch 분으로 변환
+     * @param dateTime 날짜와 시간
+     * @return 한국 시간 epoch 분
+     */
+    public static int of(LocalDateTime dateTime) {
+        return of(dateTime.toLocalDate().toEpochDay(), dateTime.getHour() * 60 + dateTime.getMinute());
+    }
+
+    /**
+     * epoch 분을 LocalDateTime(한국 시간)으로 변환
+     * @param epochMinute 한국 시간 epoch 분
+     * @return 날짜와 시간
+     */
+    public static LocalDateTime toLocalDateTime(int epochMinute) {
+        return LocalDate.ofEpochDay(epochDay(epochMinute)).atStartOfDay().plusMinutes(minuteOfDay(epochMinute));
+    }
+
+    /**
+     * epoch 분의 날짜
+     * @param epochMinute 한국 시간 epoch 분
+     * @return 날짜 (epoch day)
+     */
+    public static int epochDay(int epochMinute) {
+        return Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * epoch 분의 자정 기준 분
+     * @param epochMinute 한국 시간 epoch 분
+     * @return 자정 기준 분 (0 ~ 1439)
+     */
+    public static int minuteOfDay(int epochMinute) {
+        return Math.floorMod(epochMinute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * 그레고리력 일자를 epoch day 로 변환 (LocalDate 생성 없이 계산)
+     * @param year 연도
+     * @param month 월 (1 ~ 12)
+     * @param dayOfMonth 일 (1 ~ 31)
+     * @return epoch day
+     */
+    public static long toEpochDay(int year, int month, int dayOfMonth) {
+        // 3월을 한 해의 시작으로 보아 윤일이 연말에 오도록 한 days-from-civil 계산
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
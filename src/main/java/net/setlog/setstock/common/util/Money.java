@@ -0,0 +1,132 @@
+package net.setlog.setstock.common.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액 연산 유틸리티
+ *
+ * 금액을 원 단위 long 값으로, 비율을 Rate 의 백만분율 값으로 받아 약정금액, 수수료, 세금, 손익을
+ * 객체 생성 없이 정확하게 계산한다. 수수료와 세금은 원 미만을 절사한다.
+ * 계산 결과가 long 범위를 넘으면 ArithmeticException 이 발생한다.
+ */
+public final class Money {
+
+    private Money() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * BigDecimal 금액을 원 단위 값으로 변환 (원 미만 절사)
+     * @param amount 금액
+     * @return 원 단위 금액
+     */
+    public static long of(BigDecimal amount) {
+        return amount.setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    /**
+     * 원 단위 금액을 BigDecimal 로 변환
+     * @param amount 원 단위 금액
+     * @return 금액
+     */
+    public static BigDecimal toBigDecimal(long amount) {
+        return BigDecimal.valueOf(amount);
+    }
+
+    /**
+     * 약정금액 (가격 * 수량)
+     * @param price 원 단위 가격
+     * @param quantity 수량
+     * @return 약정금액
+     */
+    public static long notional(long price, long quantity) {
+        return Math.multiplyExact(price, quantity);
+    }
+
+    /**
+     * 매매 수수료 (원 미만 절사)
+     * @param amount 약정금액
+     * @param feeRate 수수료율 (백만분율)
+     * @return 수수료
+     */
+    public static long fee(long amount, long feeRate) {
+        return Rate.apply(amount, feeRate, RoundingMode.DOWN);
+    }
+
+    /**
+     * 매도 거래세 (원 미만 절사)
+     * @param amount 매도 약정금액
+     * @param taxRate 세율 (백만분율)
+     * @return 거래세
+     */
+    public static long tax(long amount, long taxRate) {
+        return Rate.apply(amount, taxRate, RoundingMode.DOWN);
+    }
+
+    /**
+     * 매수 총비용 (약정금액 + 수수료)
+     * @param price 원 단위 가격
+     * @param quantity 수량
+     * @param feeRate 수수료율 (백만분율)
+     * @return 매수 총비용
+     */
+    public static long buyCost(long price, long quantity, long feeRate) {
+        long amount = notional(price, quantity);
+        return Math.addExact(amount, fee(amount, feeRate));
+    }
+
+    /**
+     * 매도 실수령액 (약정금액 - 수수료 - 거래세)
+     * @param price 원 단위 가격
+     * @param quantity 수량
+     * @param feeRate 수수료율 (백만분율)
+     * @param taxRate 세율 (백만분율)
+     * @return 매도 실수령액
+     */
+    public static long sellProceeds(long price, long quantity, long feeRate, long taxRate) {
+        long amount = notional(price, quantity);
+        return amount - fee(amount, feeRate) - tax(amount, taxRate);
+    }
+
+    /**
+     * 실현 손익 (매도 실수령액 - 매수 총비용)
+     * @param buyPrice 매수 가격
+     * @param sellPrice 매도 가격
+     * @param quantity 수량
+     * @param feeRate 수수료율 (백만분율)
+     * @param taxRate 세율 (백만분율)
+     * @return 실현 손익
+     */
+    public static long realizedPnl(long buyPrice, long sellPrice, long quantity, long feeRate, long taxRate) {
+        return sellProceeds(sellPrice, quantity, feeRate, taxRate) - buyCost(buyPrice, quantity, feeRate);
+    }
+
+    /**
+     * 평가 손익 (비용 제외, (현재가 - 평균 단가) * 수량)
+     * @param averagePrice 평균 단가
+     * @param lastPrice 현재가
+     * @param quantity 보유 수량
+     * @return 평가 손익
+     */
+    public static long unrealizedPnl(long averagePrice, long lastPrice, long quantity) {
+        return Math.multiplyExact(lastPrice - averagePrice, quantity);
+    }
+
+    /**
+     * 포트폴리오 평가 손익 합계
+     * 배열은 같은 인덱스가 같은 종목을 나타낸다.
+     * @param averagePrices 종목별 평균 단가
+     * @param lastPrices 종목별 현재가
+     * @param quantities 종목별 보유 수량
+     * @param count 종목 수
+     * @return 평가 손익 합계
+     */
+    public static long markToMarket(long[] averagePrices, long[] lastPrices, long[] quantities, int count) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total = Math.addExact(total, unrealizedPnl(averagePrices[i], lastPrices[i], quantities[i]));
+        }
+        return total;
+    }
+}
@@ -10,6 +10,8 @@ import java.util.Locale;
  */
 public class NumberUtils {
 
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
     private NumberUtils() {
         // 유틸리티 클래스이므로 인스턴스화 방지
     }
@@ -43,7 +45,7 @@ public class NumberUtils {
         }
 
         return numerator.divide(denominator, 4, RoundingMode.HALF_UP)
-            .multiply(new BigDecimal("100"))
+            .multiply(HUNDRED)
             .setScale(2, RoundingMode.HALF_UP);
     }
 
@@ -84,7 +86,7 @@ public class NumberUtils {
 
         NumberFormat percentFormat = NumberFormat.getPercentInstance();
         percentFormat.setMaximumFractionDigits(2);
-        return percentFormat.format(percentage.divide(new BigDecimal("100"), 4, RoundingMode.HALF_UP));
+        return percentFormat.format(percentage.divide(HUNDRED, 4, RoundingMode.HALF_UP));
     }
 
     /**
@@ -129,12 +131,12 @@ public class NumberUtils {
         }
 
         if (previous.compareTo(BigDecimal.ZERO) == 0) {
-            return current.compareTo(BigDecimal.ZERO) == 0 ? BigDecimal.ZERO : new BigDecimal("100");
+            return current.compareTo(BigDecimal.ZERO) == 0 ? BigDecimal.ZERO : HUNDRED;
         }
 
         return current.subtract(previous)
             .divide(previous, 4, RoundingMode.HALF_UP)
-            .multiply(new BigDecimal("100"))
+            .multiply(HUNDRED)
             .setScale(2, RoundingMode.HALF_UP);
     }
 
@@ -0,0 +1,129 @@
+package net.setlog.setstock.common.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 원화 주가 연산 유틸리티
+ *
+ * 주가를 원 단위 long 값으로 다루며 KRX 호가가격단위(2023년 개편 기준, 유가증권/코스닥 공통)에 따른
+ * 호가 단위 조회, 호가 맞춤, 호가 간 거리 계산을 제공한다.
+ */
+public final class Price {
+
+    // 호가가격단위 구간 (하한 가격, 호가 단위)
+    private static final long[] TICK_FLOORS = {0, 2_000, 5_000, 20_000, 50_000, 200_000, 500_000};
+    private static final long[] TICK_SIZES = {1, 5, 10, 50, 100, 500, 1_000};
+
+    private Price() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * BigDecimal 가격을 원 단위 값으로 변환
+     * @param price 가격
+     * @return 원 단위 가격
+     * @throws ArithmeticException 원 미만 단위가 있는 경우
+     */
+    public static long of(BigDecimal price) {
+        return price.longValueExact();
+    }
+
+    /**
+     * 원 단위 가격을 BigDecimal 로 변환
+     * @param price 원 단위 가격
+     * @return 가격
+     */
+    public static BigDecimal toBigDecimal(long price) {
+        return BigDecimal.valueOf(price);
+    }
+
+    /**
+     * 가격 구간의 호가 단위
+     * @param price 원 단위 가격
+     * @return 호가 단위 (원)
+     */
+    public static long tickSize(long price) {
+        for (int i = TICK_FLOORS.length - 1; i > 0; i--) {
+            if (price >= TICK_FLOORS[i]) {
+                return TICK_SIZES[i];
+            }
+        }
+        return TICK_SIZES[0];
+    }
+
+    /**
+     * 호가 단위에 맞는 가격인지 확인
+     * @param price 원 단위 가격
+     * @return 유효한 호가이면 true
+     */
+    public static boolean isOnTick(long price) {
+        return price > 0 && price % tickSize(price) == 0;
+    }
+
+    /**
+     * 호가 단위로 내림 (매수 지정가 산출용)
+     * @param price 원 단위 가격
+     * @return 호가 단위로 내린 가격
+     */
+    public static long floorToTick(long price) {
+        long tick = tickSize(price);
+        return price - Math.floorMod(price, tick);
+    }
+
+    /**
+     * 호가 단위로 올림 (매도 지정가 산출용)
+     * 올린 가격이 상위 구간에 걸쳐도 해당 구간의 호가 단위에 맞는다.
+     * @param price 원 단위 가격
+     * @return 호가 단위로 올린 가격
+     */
+    public static long ceilToTick(long price) {
+        long floor = floorToTick(price);
+        return floor == price ? price : floor + tickSize(floor);
+    }
+
+    /**
+     * 지정한 호가 수만큼 이동한 가격 (구간 경계를 넘으면 새 구간의 호가 단위 적용)
+     * @param price 호가 단위에 맞는 원 단위 가격
+     * @param ticks 이동할 호가 수 (음수면 하락)
+     * @return 이동한 가격
+     */
+    public static long addTicks(long price, int ticks) {
+        long result = price;
+        if (ticks >= 0) {
+            for (int i = 0; i < ticks; i++) {
+                result += tickSize(result);
+            }
+        } else {
+            for (int i = 0; i > ticks && result > 0; i--) {
+                result -= tickSize(result - 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 두 가격 사이의 호가 수 (to 가 높으면 양수)
+     * @param from 호가 단위에 맞는 시작 가격
+     * @param to 호가 단위에 맞는 끝 가격
+     * @return 호가 수
+     */
+    public static long ticksBetween(long from, long to) {
+        if (from > to) {
+            return -ticksBetween(to, from);
+        }
+        long ticks = 0;
+        long current = from;
+        // 구간 경계는 하위 구간 호가 단위의 배수이므로 구간별로 나누어 셈
+        for (int i = 1; i < TICK_FLOORS.length && current < to; i++) {
+            if (current < TICK_FLOORS[i]) {
+                long end = Math.min(TICK_FLOORS[i], to);
+                ticks += (end - current) / TICK_SIZES[i - 1];
+                current = end;
+            }
+        }
+        if (current < to) {
+            ticks += (to - current) / TICK_SIZES[TICK_SIZES.length - 1];
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,154 @@
+package net.setlog.setstock.common.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고정소수점 비율 연산 유틸리티
+ *
+ * 비율을 백만분율(ppm, 1 = 0.0001%) long 값으로 표현한다. (0.015% = 150, 2% = 20_000, 100% = 1_000_000)
+ * 모든 연산이 원시 타입으로 끝나므로 체결마다 호출되어도 객체를 생성하지 않는다.
+ */
+public final class Rate {
+
+    public static final long SCALE = 1_000_000L;  // 1.0 (100%)
+    public static final long PERCENT = 10_000L;   // 1%
+
+    private static final long HUNDREDTHS_OF_PERCENT = 10_000L;  // 0.01% 단위로 나타낸 1.0
+
+    private static final BigDecimal SCALE_DECIMAL = BigDecimal.valueOf(SCALE);
+
+    private Rate() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * BigDecimal 비율(0.0023 = 0.23%)을 고정소수점 값으로 변환
+     * @param rate 비율
+     * @return 백만분율 값
+     * @throws ArithmeticException 백만분율로 정확히 표현할 수 없는 경우
+     */
+    public static long of(BigDecimal rate) {
+        return rate.multiply(SCALE_DECIMAL).longValueExact();
+    }
+
+    /**
+     * 퍼센트 값(0.23 = 0.23%)을 고정소수점 값으로 변환
+     * @param percent 퍼센트
+     * @return 백만분율 값
+     * @throws ArithmeticException 백만분율로 정확히 표현할 수 없는 경우
+     */
+    public static long ofPercent(BigDecimal percent) {
+        return percent.multiply(BigDecimal.valueOf(PERCENT)).longValueExact();
+    }
+
+    /**
+     * 고정소수점 값을 BigDecimal 비율로 변환
+     * @param rate 백만분율 값
+     * @return 비율 (0.0023 = 0.23%)
+     */
+    public static BigDecimal toBigDecimal(long rate) {
+        return BigDecimal.valueOf(rate, 6).stripTrailingZeros();
+    }
+
+    /**
+     * 고정소수점 값을 퍼센트로 변환 (소수점 2자리, 반올림)
+     * 이미 백만분율로 반올림된 값을 다시 반올림하므로, 원래 비율에서 바로 구한 값과 0.01% 차이가 날 수 있다.
+     * 등락률 표시는 changePercent 를 사용한다.
+     * @param rate 백만분율 값
+     * @return 퍼센트
+     */
+    public static BigDecimal toPercent(long rate) {
+        return BigDecimal.valueOf(rate, 4).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 금액에 비율 적용 (amount * rate)
+     * @param amount 금액
+     * @param rate 백만분율 값
+     * @param mode 반올림 방식
+     * @return 비율이 적용된 금액
+     */
+    public static long apply(long amount, long rate, RoundingMode mode) {
+        // amount * rate 가 long 범위를 넘지 않도록 SCALE 단위로 나누어 계산
+        long quotient = amount / SCALE;
+        long remainder = amount % SCALE;
+        return Math.addExact(Math.multiplyExact(quotient, rate),
+            divide(Math.multiplyExact(remainder, rate), SCALE, mode));
+    }
+
+    /**
+     * 변화율 계산 ((current - previous) / previous)
+     * @param previous 이전 값
+     * @param current 현재 값
+     * @return 변화율 (백만분율, 반올림). 이전 값이 0이면 현재 값이 0일 때 0, 아니면 100%
+     */
+    public static long changeRate(long previous, long current) {
+        if (previous == 0) {
+            return current == 0 ? 0 : SCALE;
+        }
+        return divide(Math.multiplyExact(current - previous, SCALE), previous, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 변화율을 퍼센트로 계산 (소수점 2자리, 원래 비율에서 한 번만 반올림)
+     * @param previous 이전 값
+     * @param current 현재 값
+     * @return 변화율 퍼센트 (NumberUtils.calculateChangeRate 와 같은 값)
+     */
+    public static BigDecimal changePercent(long previous, long current) {
+        if (previous == 0) {
+            return current == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(100);
+        }
+        long hundredths = divide(Math.multiplyExact(current - previous, HUNDREDTHS_OF_PERCENT), previous, RoundingMode.HALF_UP);
+        return BigDecimal.valueOf(hundredths, 2);
+    }
+
+    /**
+     * 비율 계산 (numerator / denominator)
+     * @param numerator 분자
+     * @param denominator 분모
+     * @return 비율 (백만분율, 반올림)
+     * @throws ArithmeticException 분모가 0인 경우
+     */
+    public static long ratio(long numerator, long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException("분모는 0이 될 수 없습니다");
+        }
+        return divide(Math.multiplyExact(numerator, SCALE), denominator, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 정수 나눗셈 (반올림 방식 지정)
+     * @param dividend 피제수
+     * @param divisor 제수
+     * @param mode 반올림 방식 (DOWN, UP, FLOOR, CEILING, HALF_UP, HALF_DOWN, HALF_EVEN)
+     * @return 몫
+     */
+    static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        boolean increment = switch (mode) {
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> sign < 0;
+            case CEILING -> sign > 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                // 나머지와 (제수 - 나머지)를 비교하여 2배 곱셈 없이 절반 여부 판정
+                long half = Math.abs(remainder);
+                long rest = Math.abs(divisor) - half;
+                if (half != rest) {
+                    yield half > rest;
+                }
+                yield mode == RoundingMode.HALF_UP || (mode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+            }
+            case UNNECESSARY -> throw new ArithmeticException("반올림이 필요합니다");
+        };
+        return increment ? quotient + sign : quotient;
+    }
+}
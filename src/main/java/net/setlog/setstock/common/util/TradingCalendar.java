@@ -0,0 +1,364 @@
+package net.setlog.setstock.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * KRX 거래일 달력
+ *
+ * 휴장일 파일(calendar/krx-calendar.txt)에 선언된 기간의 거래일을 비트셋과 누적 거래일 수 배열로 색인하여
+ * 거래일 여부, N 거래일 전/후, 기간 내 거래일 수를 모두 상수 시간에 계산한다.
+ * 개장 지연(연초 첫 거래일, 수능일)처럼 거래 시간이 다른 날은 거래일별 개장/폐장 시각으로 보관한다.
+ * 파일에 선언된 기간 밖의 날짜는 주말만 휴장으로 간주한다.
+ *
+ * 파일 형식 (# 이후는 주석):
+ * <pre>
+ * range 2024-01-01 2026-12-31     달력 기간 (필수, 첫 줄)
+ * 2024-01-01 closed 신정          휴장일
+ * 2024-11-14 10:00 16:30 수능     거래 시간 변경일
+ * </pre>
+ */
+public final class TradingCalendar {
+
+    private static final Logger log = LoggerFactory.getLogger(TradingCalendar.class);
+
+    /**
+     * 기본 달력 파일 경로 (클래스패스)
+     */
+    public static final String DEFAULT_RESOURCE = "calendar/krx-calendar.txt";
+
+    /**
+     * 외부 달력 파일 경로를 지정하는 시스템 프로퍼티
+     */
+    public static final String FILE_PROPERTY = "setstock.calendar.file";
+
+    private static final int REGULAR_OPEN_MINUTE = 9 * 60;     // 09:00
+    private static final int REGULAR_CLOSE_MINUTE = 15 * 60 + 30;  // 15:30
+
+    private static volatile TradingCalendar defaultCalendar;
+
+    private final long firstEpochDay;
+    private final long endEpochDay;  // 기간 끝 다음 날 (미포함)
+    private final long[] tradingBits;
+    private final int[] tradingDaysBefore;  // [i] = firstEpochDay + i 이전의 기간 내 거래일 수 (길이 = 일수 + 1)
+    private final long[] tradingDays;       // 기간 내 거래일 (epoch day, 오름차순)
+    private final short[] openMinutes;      // 일자별 개장 시각 (자정 기준 분)
+    private final short[] closeMinutes;     // 일자별 폐장 시각 (자정 기준 분)
+
+    private TradingCalendar(long firstEpochDay, long endEpochDay, Map<Long, int[]> sessions) {
+        int days = (int) (endEpochDay - firstEpochDay);
+        this.firstEpochDay = firstEpochDay;
+        this.endEpochDay = endEpochDay;
+        this.tradingBits = new long[(days + 63) >>> 6];
+        this.tradingDaysBefore = new int[days + 1];
+        this.openMinutes = new short[days];
+        this.closeMinutes = new short[days];
+
+        int count = 0;
+        long[] trading = new long[days];
+        for (int i = 0; i < days; i++) {
+            long epochDay = firstEpochDay + i;
+            int[] session = sessions.get(epochDay);
+            boolean open = session != null ? session[0] >= 0 : !isWeekend(epochDay);
+            tradingDaysBefore[i] = count;
+            if (open) {
+                tradingBits[i >>> 6] |= 1L << i;
+                trading[count++] = epochDay;
+                openMinutes[i] = (short) (session != null ? session[0] : REGULAR_OPEN_MINUTE);
+                closeMinutes[i] = (short) (session != null ? session[1] : REGULAR_CLOSE_MINUTE);
+            } else {
+                openMinutes[i] = -1;
+                closeMinutes[i] = -1;
+            }
+        }
+        tradingDaysBefore[days] = count;
+        this.tradingDays = Arrays.copyOf(trading, count);
+    }
+
+    /**
+     * 기본 달력 반환
+     * 시스템 프로퍼티 setstock.calendar.file 이 있으면 해당 파일, 없으면 클래스패스의 DEFAULT_RESOURCE 를 읽는다.
+     * @return 거래일 달력
+     */
+    public static TradingCalendar getDefault() {
+        TradingCalendar calendar = defaultCalendar;
+        if (calendar == null) {
+            synchronized (TradingCalendar.class) {
+                calendar = defaultCalendar;
+                if (calendar == null) {
+                    calendar = loadDefault();
+                    defaultCalendar = calendar;
+                }
+            }
+        }
+        return calendar;
+    }
+
+    /**
+     * 기본 달력 교체 (휴장일 파일 갱신 시)
+     * @param calendar 새 달력
+     */
+    public static void setDefault(TradingCalendar calendar) {
+        defaultCalendar = calendar;
+    }
+
+    /**
+     * 파일에서 달력 로드
+     * @param path 달력 파일 경로
+     * @return 거래일 달력
+     */
+    public static TradingCalendar load(Path path) {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래일 달력 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 달력 로드
+     * @param source 달력 내용
+     * @return 거래일 달력
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TradingCalendar load(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        long first = 0;
+        long end = 0;
+        boolean hasRange = false;
+        Map<Long, int[]> sessions = new HashMap<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = content.split("\\s+");
+            try {
+                if ("range".equals(tokens[0])) {
+                    first = LocalDate.parse(tokens[1]).toEpochDay();
+                    end = LocalDate.parse(tokens[2]).toEpochDay() + 1;
+                    hasRange = end > first;
+                } else if ("closed".equals(tokens[1])) {
+                    sessions.put(LocalDate.parse(tokens[0]).toEpochDay(), new int[] {-1, -1});
+                } else {
+                    int open = LocalTime.parse(tokens[1]).toSecondOfDay() / 60;
+                    int close = LocalTime.parse(tokens[2]).toSecondOfDay() / 60;
+                    sessions.put(LocalDate.parse(tokens[0]).toEpochDay(), new int[] {open, close});
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("거래일 달력 형식 오류 (" + lineNumber + "행): " + line, e);
+            }
+        }
+
+        if (!hasRange) {
+            throw new IllegalArgumentException("거래일 달력에 range 선언이 없습니다");
+        }
+        return new TradingCalendar(first, end, sessions);
+    }
+
+    /**
+     * 주말만 휴장으로 간주하는 달력
+     * @return 거래일 달력
+     */
+    public static TradingCalendar weekendsOnly() {
+        return new TradingCalendar(0, 0, Map.of());
+    }
+
+    /**
+     * 거래일 여부
+     * @param epochDay 날짜 (epoch day)
+     * @return 거래일이면 true
+     */
+    public boolean isTradingDay(long epochDay) {
+        if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+            return !isWeekend(epochDay);
+        }
+        int i = (int) (epochDay - firstEpochDay);
+        return (tradingBits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * 거래일 여부
+     * @param date 날짜
+     * @return 거래일이면 true
+     */
+    public boolean isTradingDay(LocalDate date) {
+        return isTradingDay(date.toEpochDay());
+    }
+
+    /**
+     * 개장 시각 (자정 기준 분)
+     * @param epochDay 날짜 (epoch day)
+     * @return 개장 시각, 휴장일이면 -1
+     */
+    public int openMinute(long epochDay) {
+        if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+            return isWeekend(epochDay) ? -1 : REGULAR_OPEN_MINUTE;
+        }
+        return openMinutes[(int) (epochDay - firstEpochDay)];
+    }
+
+    /**
+     * 폐장 시각 (자정 기준 분)
+     * @param epochDay 날짜 (epoch day)
+     * @return 폐장 시각, 휴장일이면 -1
+     */
+    public int closeMinute(long epochDay) {
+        if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+            return isWeekend(epochDay) ? -1 : REGULAR_CLOSE_MINUTE;
+        }
+        return closeMinutes[(int) (epochDay - firstEpochDay)];
+    }
+
+    /**
+     * 달력 기간 첫날
+     * @return 첫날 (epoch day)
+     */
+    public long firstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * 달력 기간 마지막 날 (포함)
+     * @return 마지막 날 (epoch day), 기간이 비어 있으면 첫날보다 앞선 날
+     */
+    public long lastEpochDay() {
+        return endEpochDay - 1;
+    }
+
+    /**
+     * 기간 내 거래일 수 (양 끝 포함)
+     * @param fromEpochDay 시작일 (epoch day)
+     * @param toEpochDay 종료일 (epoch day)
+     * @return 거래일 수, 종료일이 시작일보다 앞서면 0
+     */
+    public long countTradingDays(long fromEpochDay, long toEpochDay) {
+        if (toEpochDay < fromEpochDay) {
+            return 0;
+        }
+        return tradingDaysBefore(toEpochDay + 1) - tradingDaysBefore(fromEpochDay);
+    }
+
+    /**
+     * 지정일 이전 N 번째 거래일 (지정일 미포함)
+     * @param epochDay 기준일 (epoch day)
+     * @param n 거래일 수 (1 이상)
+     * @return 거래일 (epoch day)
+     */
+    public long minusTradingDays(long epochDay, int n) {
+        return tradingDayAt(tradingDaysBefore(epochDay) - n);
+    }
+
+    /**
+     * 지정일 이후 N 번째 거래일 (지정일 미포함)
+     * @param epochDay 기준일 (epoch day)
+     * @param n 거래일 수 (1 이상)
+     * @return 거래일 (epoch day)
+     */
+    public long plusTradingDays(long epochDay, int n) {
+        return tradingDayAt(tradingDaysBefore(epochDay + 1) + n - 1);
+    }
+
+    /**
+     * 지정일이 거래일이면 지정일, 아니면 직전 거래일
+     * @param epochDay 기준일 (epoch day)
+     * @return 거래일 (epoch day)
+     */
+    public long onOrBefore(long epochDay) {
+        return tradingDayAt(tradingDaysBefore(epochDay + 1) - 1);
+    }
+
+    /**
+     * 지정일이 거래일이면 지정일, 아니면 직후 거래일
+     * @param epochDay 기준일 (epoch day)
+     * @return 거래일 (epoch day)
+     */
+    public long onOrAfter(long epochDay) {
+        return tradingDayAt(tradingDaysBefore(epochDay));
+    }
+
+    /**
+     * 지정일 이전의 거래일 수 (기간 시작일 기준 상대값, 기간 밖은 평일 수로 연장)
+     */
+    private long tradingDaysBefore(long epochDay) {
+        if (epochDay <= firstEpochDay) {
+            return weekdaysBefore(epochDay) - weekdaysBefore(firstEpochDay);
+        }
+        if (epochDay <= endEpochDay) {
+            return tradingDaysBefore[(int) (epochDay - firstEpochDay)];
+        }
+        return tradingDays.length + weekdaysBefore(epochDay) - weekdaysBefore(endEpochDay);
+    }
+
+    /**
+     * tradingDaysBefore 의 역함수 (index 번째 거래일)
+     */
+    private long tradingDayAt(long index) {
+        if (index < 0) {
+            return weekdayAt(weekdaysBefore(firstEpochDay) + index);
+        }
+        if (index < tradingDays.length) {
+            return tradingDays[(int) index];
+        }
+        return weekdayAt(weekdaysBefore(endEpochDay) + index - tradingDays.length);
+    }
+
+    /**
+     * 1969-12-29(월요일)부터 지정일 전날까지의 평일 수
+     */
+    private static long weekdaysBefore(long epochDay) {
+        long days = epochDay + 3;
+        return Math.floorDiv(days, 7) * 5 + Math.min(Math.floorMod(days, 7), 5);
+    }
+
+    /**
+     * weekdaysBefore 의 역함수 (count 번째 평일)
+     */
+    private static long weekdayAt(long count) {
+        return Math.floorDiv(count, 5) * 7 + Math.floorMod(count, 5) - 3;
+    }
+
+    private static boolean isWeekend(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) >= 5;
+    }
+
+    private static TradingCalendar loadDefault() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file != null) {
+            log.info("거래일 달력 로드: {}", file);
+            return load(Path.of(file));
+        }
+
+        InputStream resource = TradingCalendar.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+        if (resource == null) {
+            log.warn("거래일 달력({})이 없어 주말만 휴장으로 처리합니다", DEFAULT_RESOURCE);
+            return weekendsOnly();
+        }
+        try (Reader reader = new InputStreamReader(resource, StandardCharsets.UTF_8)) {
+            return load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래일 달력을 읽을 수 없습니다: " + DEFAULT_RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package net.setlog.setstock.common.util;
+
+import net.setlog.setstock.common.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * 검증 결과
+ *
+ * ValidationUtils.check* 메소드의 반환 값으로, 예외 없이 실패 여부와 사유를 전달한다.
+ * 실패 메시지는 형식 문자열과 인자만 보관하고 getMessage() 를 호출할 때 만든다.
+ * 포맷은 서버 기본 로케일과 무관하게 Locale.KOREA 로 한다 (천 단위 구분자 등).
+ * 주문 후보를 대량으로 거르는 전략 경로에서는 실패해도 예외 생성/메시지 포맷 비용이 들지 않는다.
+ */
+public final class ValidationResult {
+
+    /**
+     * 검증 성공
+     */
+    public static final ValidationResult VALID = new ValidationResult(null, null, null);
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String errorCode;
+    private final String template;
+    private final Object[] args;
+    private String message;
+
+    private ValidationResult(String errorCode, String template, Object[] args) {
+        this.errorCode = errorCode;
+        this.template = template;
+        this.args = args;
+        if (args != null && args.length == 0) {
+            this.message = template;
+        }
+    }
+
+    /**
+     * 검증 실패 결과 생성 (고정 메시지)
+     * @param errorCode 오류 코드
+     * @param message 실패 메시지
+     * @return 검증 결과
+     */
+    public static ValidationResult failure(String errorCode, String message) {
+        return new ValidationResult(errorCode, message, NO_ARGS);
+    }
+
+    /**
+     * 검증 실패 결과 생성 (메시지는 조회 시 String.format 으로 생성)
+     * @param errorCode 오류 코드
+     * @param template 메시지 형식 문자열
+     * @param args 형식 인자
+     * @return 검증 결과
+     */
+    public static ValidationResult failure(String errorCode, String template, Object... args) {
+        return new ValidationResult(errorCode, template, args);
+    }
+
+    /**
+     * 검증 성공 여부
+     * @return 성공이면 true
+     */
+    public boolean isValid() {
+        return errorCode == null;
+    }
+
+    /**
+     * 오류 코드 반환
+     * @return 오류 코드, 성공이면 null
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * 실패 메시지 반환 (처음 호출할 때 포맷)
+     * @return 실패 메시지, 성공이면 null
+     */
+    public String getMessage() {
+        String formatted = message;
+        if (formatted == null && template != null) {
+            formatted = String.format(Locale.KOREA, template, args);
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * 스택 트레이스 없는 예외로 변환
+     * @return 검증 실패 예외
+     */
+    public ValidationException toException() {
+        if (isValid()) {
+            throw new IllegalStateException("성공한 검증 결과는 예외로 변환할 수 없습니다");
+        }
+        return new ValidationException(this);
+    }
+
+    /**
+     * 실패한 경우 예외 발생
+     */
+    public void throwIfInvalid() {
+        if (!isValid()) {
+            throw new ValidationException(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult(VALID)" : "ValidationResult(" + errorCode + ": " + getMessage() + ")";
+    }
+}
@@ -1,6 +1,6 @@
 package net.setlog.setstock.common.util;
 
-import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.exception.ValidationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -11,6 +11,9 @@ import java.util.regex.Pattern;
 
 /**
  * 데이터 유효성 검사 유틸리티 클래스
+ *
+ * validate* 메소드는 실패 시 스택 트레이스 없는 ValidationException 을 던지고,
+ * check* 메소드는 예외 없이 ValidationResult 를 반환한다. 주문 후보를 대량으로 거르는 경로는 check* 를 사용한다.
  */
 public class ValidationUtils {
 
@@ -18,8 +21,19 @@ public class ValidationUtils {
         // 유틸리티 클래스이므로 인스턴스화 방지
     }
 
+    private static final int STOCK_CODE_LENGTH = 6;
+
+    private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+
+    // 인자 없는 실패 결과는 미리 만들어 재사용
+    private static final ValidationResult INVALID_STOCK_CODE =
+        ValidationResult.failure(VALIDATION_ERROR, "유효하지 않은 종목 코드입니다.");
+    private static final ValidationResult INVALID_QUANTITY =
+        ValidationResult.failure("INVALID_QUANTITY", "주문 수량은 0보다 커야 합니다.");
+    private static final ValidationResult MARKET_CLOSED =
+        ValidationResult.failure("MARKET_CLOSED", "현재 거래 시간이 아닙니다.");
+
     // 정규식 패턴 정의
-    private static final Pattern STOCK_CODE_PATTERN = Pattern.compile("^[0-9]{6}$");
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
     private static final Pattern PHONE_PATTERN = Pattern.compile("^\\d{2,3}-\\d{3,4}-\\d{4}$");
 
@@ -30,7 +44,7 @@ public class ValidationUtils {
      */
     public static void validateNotNull(Object object, String message) {
         if (object == null) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -41,7 +55,7 @@ public class ValidationUtils {
      */
     public static void validateNotEmpty(String str, String message) {
         if (str == null || str.trim().isEmpty()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -52,7 +66,7 @@ public class ValidationUtils {
      */
     public static void validateNotEmpty(Collection<?> collection, String message) {
         if (collection == null || collection.isEmpty()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -63,7 +77,7 @@ public class ValidationUtils {
      */
     public static void validateNotEmpty(Map<?, ?> map, String message) {
         if (map == null || map.isEmpty()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -74,7 +88,7 @@ public class ValidationUtils {
      */
     public static void validatePositive(BigDecimal number, String message) {
         if (number == null || number.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -85,7 +99,7 @@ public class ValidationUtils {
      */
     public static void validateNotNegative(BigDecimal number, String message) {
         if (number == null || number.compareTo(BigDecimal.ZERO) < 0) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -96,11 +110,49 @@ public class ValidationUtils {
      */
     public static void validateStockCode(String stockCode, String message) {
         validateNotEmpty(stockCode, message);
-        if (!STOCK_CODE_PATTERN.matcher(stockCode).matches()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+        if (!isValidStockCode(stockCode)) {
+            throw invalid(message);
         }
     }
 
+    /**
+     * 종목 코드 형식 확인 (6자리 숫자, 정규식 없이 검사)
+     * @param stockCode 종목 코드
+     * @return 형식이 맞으면 true
+     */
+    public static boolean isValidStockCode(CharSequence stockCode) {
+        return parseStockCode(stockCode) >= 0;
+    }
+
+    /**
+     * 종목 코드 형식 확인 (예외 없음)
+     * @param stockCode 종목 코드
+     * @return 검증 결과
+     */
+    public static ValidationResult checkStockCode(CharSequence stockCode) {
+        return isValidStockCode(stockCode) ? ValidationResult.VALID : INVALID_STOCK_CODE;
+    }
+
+    /**
+     * 종목 코드를 정수로 변환 (6자리 숫자가 아니면 -1)
+     * @param stockCode 종목 코드 (예: "005930")
+     * @return 정수 코드 (예: 5930), 형식 오류면 -1
+     */
+    public static int parseStockCode(CharSequence stockCode) {
+        if (stockCode == null || stockCode.length() != STOCK_CODE_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < STOCK_CODE_LENGTH; i++) {
+            int digit = stockCode.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     /**
      * 이메일 형식 검증
      * @param email 검증할 이메일
@@ -109,7 +161,7 @@ public class ValidationUtils {
     public static void validateEmail(String email, String message) {
         validateNotEmpty(email, message);
         if (!EMAIL_PATTERN.matcher(email).matches()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -121,7 +173,7 @@ public class ValidationUtils {
     public static void validatePhoneNumber(String phoneNumber, String message) {
         validateNotEmpty(phoneNumber, message);
         if (!PHONE_PATTERN.matcher(phoneNumber).matches()) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -134,7 +186,7 @@ public class ValidationUtils {
      */
     public static void validateRange(BigDecimal value, BigDecimal min, BigDecimal max, String message) {
         if (value == null || value.compareTo(min) < 0 || value.compareTo(max) > 0) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -146,7 +198,7 @@ public class ValidationUtils {
      */
     public static void validateMinLength(String str, int minLength, String message) {
         if (str == null || str.length() < minLength) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -158,7 +210,7 @@ public class ValidationUtils {
      */
     public static void validateMaxLength(String str, int maxLength, String message) {
         if (str != null && str.length() > maxLength) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -168,16 +220,24 @@ public class ValidationUtils {
      * @param maxQuantity 최대 주문 가능 수량
      */
     public static void validateOrderQuantity(int quantity, int maxQuantity) {
+        checkOrderQuantity(quantity, maxQuantity).throwIfInvalid();
+    }
+
+    /**
+     * 주문 수량 확인 (예외 없음)
+     * @param quantity 주문 수량
+     * @param maxQuantity 최대 주문 가능 수량
+     * @return 검증 결과
+     */
+    public static ValidationResult checkOrderQuantity(int quantity, int maxQuantity) {
         if (quantity <= 0) {
-            throw new BusinessException("주문 수량은 0보다 커야 합니다.", "INVALID_QUANTITY");
+            return INVALID_QUANTITY;
         }
-
         if (quantity > maxQuantity) {
-            throw new BusinessException(
-                String.format("주문 수량(%d)이 최대 주문 가능 수량(%d)을 초과했습니다.", quantity, maxQuantity),
-                "QUANTITY_EXCEEDED"
-            );
+            return ValidationResult.failure("QUANTITY_EXCEEDED",
+                "주문 수량(%d)이 최대 주문 가능 수량(%d)을 초과했습니다.", quantity, maxQuantity);
         }
+        return ValidationResult.VALID;
     }
 
     /**
@@ -185,9 +245,16 @@ public class ValidationUtils {
      * @param dateTime 검증할 날짜시간
      */
     public static void validateMarketOpen(LocalDateTime dateTime) {
-        if (!DateTimeUtils.isMarketOpen(dateTime)) {
-            throw new BusinessException("현재 거래 시간이 아닙니다.", "MARKET_CLOSED");
-        }
+        checkMarketOpen(dateTime).throwIfInvalid();
+    }
+
+    /**
+     * 거래 시간 확인 (예외 없음)
+     * @param dateTime 확인할 날짜시간
+     * @return 검증 결과
+     */
+    public static ValidationResult checkMarketOpen(LocalDateTime dateTime) {
+        return DateTimeUtils.isMarketOpen(dateTime) ? ValidationResult.VALID : MARKET_CLOSED;
     }
 
     /**
@@ -196,14 +263,35 @@ public class ValidationUtils {
      * @param available 사용 가능한 금액
      */
     public static void validateSufficientFunds(BigDecimal required, BigDecimal available) {
+        checkSufficientFunds(required, available).throwIfInvalid();
+    }
+
+    /**
+     * 계좌 잔고 충분 여부 확인 (예외 없음)
+     * @param required 필요한 금액
+     * @param available 사용 가능한 금액
+     * @return 검증 결과
+     */
+    public static ValidationResult checkSufficientFunds(BigDecimal required, BigDecimal available) {
         if (required.compareTo(available) > 0) {
-            throw new BusinessException(
-                String.format("계좌 잔고가 부족합니다. 필요: %s, 가용: %s",
-                    NumberUtils.formatCurrency(required),
-                    NumberUtils.formatCurrency(available)),
-                "INSUFFICIENT_FUNDS"
-            );
+            return ValidationResult.failure("INSUFFICIENT_FUNDS",
+                "계좌 잔고가 부족합니다. 필요: ₩%,.0f, 가용: ₩%,.0f", required, available);
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * 계좌 잔고 충분 여부 확인 (원 단위 정수, 예외 없음)
+     * @param required 필요한 금액 (원)
+     * @param available 사용 가능한 금액 (원)
+     * @return 검증 결과
+     */
+    public static ValidationResult checkSufficientFunds(long required, long available) {
+        if (required > available) {
+            return ValidationResult.failure("INSUFFICIENT_FUNDS",
+                "계좌 잔고가 부족합니다. 필요: ₩%,d, 가용: ₩%,d", required, available);
         }
+        return ValidationResult.VALID;
     }
 
     /**
@@ -213,7 +301,7 @@ public class ValidationUtils {
      */
     public static void validateDateNotInFuture(LocalDate date, String message) {
         if (date != null && date.isAfter(LocalDate.now())) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
 
@@ -225,7 +313,11 @@ public class ValidationUtils {
      */
     public static void validateDateRange(LocalDate startDate, LocalDate endDate, String message) {
         if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
-            throw new BusinessException(message, "VALIDATION_ERROR");
+            throw invalid(message);
         }
     }
-}
\ No newline at end of file
+
+    private static ValidationException invalid(String message) {
+        return ValidationResult.failure(VALIDATION_ERROR, message).toException();
+    }
+}
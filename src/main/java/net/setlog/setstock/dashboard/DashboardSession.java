@@ -0,0 +1,80 @@
+package net.setlog.setstock.dashboard;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대시보드 웹소켓 세션의 전송 대기열
+ *
+ * 종목 id 별로 마지막 프레임 하나만 보관하므로, 클라이언트가 느리면 중간 가격은 버려지고 최신 가격만 전달된다.
+ * 대기 프레임 수는 구독 종목 수를 넘지 않는다. 전송은 한 번에 한 스레드만 수행한다.
+ */
+final class DashboardSession {
+
+    private final WebSocketSession session;
+    private final Set<Integer> symbols = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, TextMessage> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    DashboardSession(WebSocketSession session) {
+        this.session = session;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    Set<Integer> getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * 프레임 적재 (같은 종목의 전송 전 프레임은 교체)
+     * @return 이전 프레임을 교체했으면 true
+     */
+    boolean offer(int symbolId, TextMessage frame) {
+        return pending.put(symbolId, frame) != null;
+    }
+
+    /**
+     * 전송 작업 예약 (이미 예약되어 있으면 false)
+     */
+    boolean schedule() {
+        return !pending.isEmpty() && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * 대기 프레임 전송 (전송 중 새로 들어온 프레임까지 비울 때까지 반복)
+     * @return 전송한 프레임 수
+     */
+    int drain() throws IOException {
+        int sent = 0;
+        try {
+            do {
+                Iterator<Map.Entry<Integer, TextMessage>> it = pending.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Integer, TextMessage> entry = it.next();
+                    TextMessage frame = entry.getValue();
+                    // 그 사이 교체된 프레임은 다음 반복에서 전송
+                    if (pending.remove(entry.getKey(), frame) && session.isOpen()) {
+                        session.sendMessage(frame);
+                        sent++;
+                    }
+                }
+                scheduled.set(false);
+            } while (schedule());
+        } catch (IOException | RuntimeException e) {
+            pending.clear();
+            scheduled.set(false);
+            throw e;
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,316 @@
+package net.setlog.setstock.dashboard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.config.DashboardProperties;
+import net.setlog.setstock.realtime.LatestTickStore;
+import net.setlog.setstock.realtime.Tick;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickListener;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 대시보드 실시간 시세 브로드캐스터
+ *
+ * 체결이 들어오면 구독자가 있는 종목만 변경 표시하고, pushInterval 마다 변경된 종목의 최신 체결을
+ * 한 번만 JSON 프레임으로 만들어 구독 세션 전체에 공유한다. 세션별 대기열은 종목당 프레임 하나만 보관하므로
+ * 느린 클라이언트는 최신 가격만 받고, 전송은 세션마다 가상 스레드에서 수행하여 다른 세션을 막지 않는다.
+ * 대시보드가 REST 로 시세를 폴링하지 않으므로 KIS 호출 한도와 매매 스레드의 CPU 를 쓰지 않는다.
+ */
+@Component
+public class MarketDataBroadcaster implements TickListener, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketDataBroadcaster.class);
+
+    private final LatestTickStore latestTickStore;
+    private final SymbolRegistry symbolRegistry;
+    private final DashboardProperties properties;
+
+    // 종목 id 로 색인
+    private final AtomicReferenceArray<Set<DashboardSession>> subscribers =
+        new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS);
+    private final AtomicIntegerArray dirty = new AtomicIntegerArray(SymbolRegistry.MAX_SYMBOLS);
+    private final Map<String, DashboardSession> sessions = new ConcurrentHashMap<>();
+
+    private final Tick scratch = new Tick();  // 전송 주기 스레드 전용
+
+    private final Counter framesEncoded;
+    private final Counter framesSent;
+    private final Counter framesConflated;
+
+    private ScheduledExecutorService pushScheduler;
+    private ExecutorService senders;
+    private volatile boolean running;
+
+    /**
+     * 생성자
+     * @param tickDispatcher 체결 디스패처
+     * @param latestTickStore 종목별 최신 체결 저장소
+     * @param symbolRegistry 종목 레지스트리
+     * @param properties 대시보드 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public MarketDataBroadcaster(TickDispatcher tickDispatcher, LatestTickStore latestTickStore,
+                                 SymbolRegistry symbolRegistry, DashboardProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.latestTickStore = latestTickStore;
+        this.symbolRegistry = symbolRegistry;
+        this.properties = properties;
+
+        this.framesEncoded = Counter.builder("dashboard.frames.encoded")
+            .description("직렬화한 시세 프레임 수 (종목당 전송 주기마다 최대 1회)")
+            .register(meterRegistry);
+        this.framesSent = Counter.builder("dashboard.frames.sent")
+            .description("세션으로 전송한 시세 프레임 수")
+            .register(meterRegistry);
+        this.framesConflated = Counter.builder("dashboard.frames.conflated")
+            .description("전송 전에 최신 프레임으로 교체되어 버려진 프레임 수")
+            .register(meterRegistry);
+        Gauge.builder("dashboard.sessions", sessions, Map::size)
+            .description("대시보드 웹소켓 세션 수")
+            .register(meterRegistry);
+
+        tickDispatcher.addListener(this);
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        int id = symbolRegistry.idOf(tick.getStockCode());
+        if (id >= 0 && subscribers.get(id) != null && dirty.get(id) == 0) {
+            dirty.set(id, 1);
+        }
+    }
+
+    /**
+     * 세션 등록
+     * @param session 웹소켓 세션
+     */
+    public void open(WebSocketSession session) {
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(session,
+            (int) properties.getSendTimeLimit().toMillis(), properties.getBufferSizeLimit());
+        sessions.put(session.getId(), new DashboardSession(concurrent));
+    }
+
+    /**
+     * 세션 해제 (모든 구독 취소)
+     * @param session 웹소켓 세션
+     */
+    public void close(WebSocketSession session) {
+        DashboardSession dashboardSession = sessions.remove(session.getId());
+        if (dashboardSession != null) {
+            for (Integer id : dashboardSession.getSymbols()) {
+                Set<DashboardSession> set = subscribers.get(id);
+                if (set != null) {
+                    set.remove(dashboardSession);
+                }
+            }
+        }
+    }
+
+    /**
+     * 종목 구독 (구독 즉시 최신 가격 전송)
+     * 종목 마스터 등으로 이미 등록된 종목만 구독하고, 클라이언트가 보낸 코드로 레지스트리에 새 종목을 등록하지 않는다.
+     * @param session 웹소켓 세션
+     * @param stockCodes 종목 코드 목록
+     * @return 구독한 종목 수
+     */
+    public int subscribe(WebSocketSession session, Collection<String> stockCodes) {
+        DashboardSession dashboardSession = sessions.get(session.getId());
+        if (dashboardSession == null) {
+            return 0;
+        }
+
+        int subscribed = 0;
+        for (String stockCode : stockCodes) {
+            if (dashboardSession.getSymbols().size() >= properties.getMaxSymbolsPerSession()) {
+                break;
+            }
+            int id = symbolRegistry.idOf(stockCode);
+            if (id < 0) {
+                continue;
+            }
+            if (dashboardSession.getSymbols().add(id)) {
+                subscribersOf(id).add(dashboardSession);
+                subscribed++;
+            }
+            dirty.set(id, 1);
+        }
+        return subscribed;
+    }
+
+    /**
+     * 종목 구독 취소
+     * @param session 웹소켓 세션
+     * @param stockCodes 종목 코드 목록
+     */
+    public void unsubscribe(WebSocketSession session, Collection<String> stockCodes) {
+        DashboardSession dashboardSession = sessions.get(session.getId());
+        if (dashboardSession == null) {
+            return;
+        }
+        for (String stockCode : stockCodes) {
+            int id = symbolRegistry.idOf(stockCode);
+            if (id >= 0 && dashboardSession.getSymbols().remove(id)) {
+                subscribersOf(id).remove(dashboardSession);
+            }
+        }
+    }
+
+    /**
+     * 변경된 종목의 프레임을 만들어 구독 세션에 적재 (pushInterval 마다)
+     */
+    void push() {
+        int size = symbolRegistry.size();
+        for (int id = 0; id < size; id++) {
+            if (dirty.get(id) == 0 || dirty.getAndSet(id, 0) == 0) {
+                continue;
+            }
+            Set<DashboardSession> set = subscribers.get(id);
+            if (set == null || set.isEmpty() || !latestTickStore.read(symbolRegistry.stockCodeOf(id), scratch)) {
+                continue;
+            }
+
+            // 종목당 한 번만 직렬화하여 모든 구독 세션이 같은 프레임을 공유
+            TextMessage frame = new TextMessage(encode(scratch));
+            framesEncoded.increment();
+            for (DashboardSession dashboardSession : set) {
+                if (dashboardSession.offer(id, frame)) {
+                    framesConflated.increment();
+                }
+                if (dashboardSession.schedule()) {
+                    senders.execute(() -> send(dashboardSession));
+                }
+            }
+        }
+    }
+
+    private void send(DashboardSession dashboardSession) {
+        try {
+            framesSent.increment(dashboardSession.drain());
+        } catch (IOException | RuntimeException e) {
+            WebSocketSession session = dashboardSession.getSession();
+            log.debug("대시보드 시세 전송 실패, 세션 종료: {} ({})", session.getId(), e.getMessage());
+            close(session);
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+                // 이미 닫힌 세션
+            }
+        }
+    }
+
+    private Set<DashboardSession> subscribersOf(int id) {
+        Set<DashboardSession> set = subscribers.get(id);
+        if (set == null) {
+            set = new CopyOnWriteArraySet<>();
+            if (!subscribers.compareAndSet(id, null, set)) {
+                set = subscribers.get(id);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 체결을 시세 프레임(JSON)으로 직렬화
+     * @param tick 체결
+     * @return JSON 문자열
+     */
+    static String encode(Tick tick) {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append("{\"type\":\"price\",\"code\":\"");
+        appendPadded(sb, tick.getStockCode(), 6);
+        sb.append("\",\"time\":\"");
+        appendPadded(sb, tick.getTime(), 6);
+        sb.append("\",\"price\":").append(tick.getPrice())
+            .append(",\"change\":").append(tick.getChange())
+            .append(",\"changeRate\":");
+        appendRate(sb, tick.getChangeRate());
+        sb.append(",\"open\":").append(tick.getOpen())
+            .append(",\"high\":").append(tick.getHigh())
+            .append(",\"low\":").append(tick.getLow())
+            .append(",\"askPrice\":").append(tick.getAskPrice())
+            .append(",\"bidPrice\":").append(tick.getBidPrice())
+            .append(",\"accVolume\":").append(tick.getAccumulatedVolume())
+            .append(",\"receivedAt\":").append(tick.getReceivedAt())
+            .append('}');
+        return sb.toString();
+    }
+
+    private static void appendPadded(StringBuilder sb, int value, int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 1 && value < divisor; divisor /= 10) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+
+    // 0.01% 단위 정수를 소수 두 자리 퍼센트로 출력 (예: -14 -> -0.14)
+    private static void appendRate(StringBuilder sb, int rate) {
+        if (rate < 0) {
+            sb.append('-');
+        }
+        int abs = Math.abs(rate);
+        sb.append(abs / 100).append('.');
+        appendPadded(sb, abs % 100, 2);
+    }
+
+    @Override
+    public void start() {
+        long interval = properties.getPushInterval().toMillis();
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-send-", 0).factory());
+        pushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pushScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                push();
+            } catch (RuntimeException e) {
+                log.error("대시보드 시세 푸시 중 예외 발생", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pushScheduler != null) {
+            pushScheduler.shutdownNow();
+        }
+        if (senders != null) {
+            senders.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,81 @@
+package net.setlog.setstock.dashboard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.List;
+
+/**
+ * 대시보드 실시간 시세 웹소켓 핸들러 (/ws/market)
+ *
+ * 클라이언트 명령: {"action":"subscribe","symbols":["005930","000660"]}, {"action":"unsubscribe","symbols":[...]}
+ * 시세 전송은 MarketDataBroadcaster 가 담당한다.
+ */
+@Component
+public class MarketDataWebSocketHandler extends TextWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketDataWebSocketHandler.class);
+
+    private final MarketDataBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 생성자
+     * @param broadcaster 시세 브로드캐스터
+     * @param objectMapper JSON 매퍼
+     */
+    public MarketDataWebSocketHandler(MarketDataBroadcaster broadcaster, ObjectMapper objectMapper) {
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        broadcaster.open(session);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Command command;
+        try {
+            command = objectMapper.readValue(message.getPayload(), Command.class);
+        } catch (JsonProcessingException e) {
+            log.debug("대시보드 명령 해석 실패: {} ({})", session.getId(), e.getOriginalMessage());
+            return;
+        }
+        if (command.action() == null || command.symbols() == null) {
+            return;
+        }
+
+        switch (command.action()) {
+            case "subscribe" -> broadcaster.subscribe(session, command.symbols());
+            case "unsubscribe" -> broadcaster.unsubscribe(session, command.symbols());
+            default -> log.debug("지원하지 않는 대시보드 명령: {}", command.action());
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("대시보드 웹소켓 전송 오류: {} ({})", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        broadcaster.close(session);
+    }
+
+    /**
+     * 클라이언트 명령
+     * @param action subscribe / unsubscribe
+     * @param symbols 종목 코드 목록
+     */
+    record Command(String action, List<String> symbols) {
+    }
+}
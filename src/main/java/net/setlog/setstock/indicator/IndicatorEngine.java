@@ -0,0 +1,139 @@
+package net.setlog.setstock.indicator;
+
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.candle.CandleAggregator;
+import net.setlog.setstock.candle.CandleListener;
+import net.setlog.setstock.candle.CandleType;
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 증분 기술적 지표 엔진
+ *
+ * 캔들이 완성될 때마다 종목/주기별 지표(SMA 20/60/120, EMA, RSI, 볼린저 밴드, ATR)를 상수 시간에 갱신하고
+ * 결과를 indicatorCache 에 게시한다. BarSeries 전체를 다시 계산하지 않으므로 종목 수가 늘어도 캔들당 비용은 일정하다.
+ * setstock.indicator.validation=true 이면 같은 캔들을 ta4j 로도 계산하여 결과를 비교한다.
+ */
+@Component
+public class IndicatorEngine implements CandleListener {
+
+    private static final int TYPE_COUNT = CandleType.values().length;
+
+    private final CandleAggregator candleAggregator;
+    private final SymbolRegistry symbolRegistry;
+    private final ObjectProvider<Ta4jIndicatorValidator> validator;
+    private final Cache indicatorCache;
+
+    // 종목 id * TYPE_COUNT + 주기 순번으로 색인
+    private final AtomicReferenceArray<IndicatorSet> sets =
+        new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS * TYPE_COUNT);
+    private final AtomicReferenceArray<IndicatorSnapshot> latest =
+        new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS * TYPE_COUNT);
+    // 슬롯별 indicatorCache 키 (불변 문자열이므로 경쟁 초기화 허용)
+    private final String[] cacheKeys = new String[SymbolRegistry.MAX_SYMBOLS * TYPE_COUNT];
+
+    /**
+     * 생성자
+     * @param candleAggregator 캔들 집계기
+     * @param symbolRegistry 종목 레지스트리
+     * @param validator ta4j 검증기 (검증 모드에서만 존재)
+     * @param cacheManager 캐시 매니저
+     */
+    public IndicatorEngine(CandleAggregator candleAggregator, SymbolRegistry symbolRegistry,
+                           ObjectProvider<Ta4jIndicatorValidator> validator, CacheManager cacheManager) {
+        this.candleAggregator = candleAggregator;
+        this.symbolRegistry = symbolRegistry;
+        this.validator = validator;
+        this.indicatorCache = cacheManager.getCache(CacheConfig.INDICATOR_CACHE);
+        candleAggregator.addListener(this);
+    }
+
+    @Override
+    public void onCandleClosed(Candle candle) {
+        int slot = slot(candle.getStockCode(), candle.getType());
+        if (slot < 0) {
+            return;
+        }
+        IndicatorSet set = setAt(slot);
+        String key = cacheKeyAt(slot, candle.getType());
+
+        IndicatorSnapshot snapshot;
+        synchronized (set) {
+            snapshot = set.apply(candle);
+            Ta4jIndicatorValidator ta4j = validator.getIfAvailable();
+            if (ta4j != null) {
+                ta4j.verify(key, candle, snapshot);
+            }
+        }
+
+        latest.set(slot, snapshot);
+        if (indicatorCache != null) {
+            indicatorCache.put(key, snapshot);
+        }
+    }
+
+    /**
+     * 마지막 완성 캔들 기준 지표 조회
+     * @param stockCode 종목 코드 (정수)
+     * @param type 캔들 주기
+     * @return 지표 스냅샷, 없으면 empty
+     */
+    public Optional<IndicatorSnapshot> getLatest(int stockCode, CandleType type) {
+        int slot = slot(stockCode, type);
+        return slot < 0 ? Optional.empty() : Optional.ofNullable(latest.get(slot));
+    }
+
+    /**
+     * 형성 중인 캔들 기준 지표 계산
+     * @param stockCode 종목 코드 (정수)
+     * @param type 캔들 주기
+     * @return 지표 스냅샷, 형성 중인 캔들이 없으면 empty
+     */
+    public Optional<IndicatorSnapshot> preview(int stockCode, CandleType type) {
+        Optional<Candle> forming = candleAggregator.getFormingCandle(stockCode, type);
+        if (forming.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IndicatorSet set = setAt(slot(stockCode, type));
+        synchronized (set) {
+            return Optional.of(set.preview(forming.get()));
+        }
+    }
+
+    private int slot(int stockCode, CandleType type) {
+        int id = symbolRegistry.idOf(stockCode);
+        return id < 0 ? -1 : id * TYPE_COUNT + type.ordinal();
+    }
+
+    /**
+     * 슬롯의 indicatorCache 키 (예: "005930:5min")
+     * SymbolRegistry 의 종목 코드 문자열을 재사용하여 슬롯마다 한 번만 생성하며, 검증기도 같은 키를 쓴다.
+     */
+    private String cacheKeyAt(int slot, CandleType type) {
+        String key = cacheKeys[slot];
+        if (key == null) {
+            key = symbolRegistry.codeOf(slot / TYPE_COUNT) + ':' + type.getCode();
+            cacheKeys[slot] = key;
+        }
+        return key;
+    }
+
+    private IndicatorSet setAt(int slot) {
+        IndicatorSet set = sets.get(slot);
+        if (set == null) {
+            set = new IndicatorSet();
+            if (!sets.compareAndSet(slot, null, set)) {
+                set = sets.get(slot);
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,83 @@
+package net.setlog.setstock.indicator;
+
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.common.constants.TradeConstants;
+
+/**
+ * 종목/주기 하나의 증분 지표 묶음
+ *
+ * 완성된 캔들은 apply 로 상태에 반영하고, 형성 중인 캔들은 preview 로 상태 변경 없이 계산한다.
+ * 모든 연산은 캔들당 상수 시간이며 객체는 결과 스냅샷 하나만 생성한다.
+ */
+final class IndicatorSet {
+
+    private final RollingSma shortSma = new RollingSma(TradeConstants.SHORT_TERM_SMA_PERIOD);
+    private final RollingSma mediumSma = new RollingSma(TradeConstants.MEDIUM_TERM_SMA_PERIOD);
+    private final RollingSma longSma = new RollingSma(TradeConstants.LONG_TERM_SMA_PERIOD);
+    private final RollingEma ema = RollingEma.exponential(TradeConstants.EMA_PERIOD);
+    private final RollingRsi rsi = new RollingRsi(TradeConstants.RSI_PERIOD);
+    private final RollingSma bollinger = new RollingSma(TradeConstants.BOLLINGER_PERIOD);
+    private final RollingAtr atr = new RollingAtr(TradeConstants.ATR_PERIOD);
+    private int barCount;
+
+    /**
+     * 완성된 캔들 반영
+     * @param candle 완성된 캔들
+     * @return 지표 스냅샷
+     */
+    IndicatorSnapshot apply(Candle candle) {
+        double close = candle.getClose();
+        double middle = bollinger.update(close);
+        double deviation = bollinger.standardDeviation() * TradeConstants.BOLLINGER_MULTIPLIER;
+        barCount++;
+
+        return IndicatorSnapshot.builder()
+            .stockCode(candle.getStockCode())
+            .type(candle.getType())
+            .epochDay(candle.getEpochDay())
+            .startMinute(candle.getStartMinute())
+            .closed(true)
+            .barCount(barCount)
+            .close(close)
+            .shortSma(shortSma.update(close))
+            .mediumSma(mediumSma.update(close))
+            .longSma(longSma.update(close))
+            .ema(ema.update(close))
+            .rsi(rsi.update(close))
+            .bollingerUpper(middle + deviation)
+            .bollingerMiddle(middle)
+            .bollingerLower(middle - deviation)
+            .atr(atr.update(candle.getHigh(), candle.getLow(), close))
+            .build();
+    }
+
+    /**
+     * 형성 중인 캔들 기준 지표 계산 (상태 변경 없음)
+     * @param candle 형성 중인 캔들
+     * @return 지표 스냅샷
+     */
+    IndicatorSnapshot preview(Candle candle) {
+        double close = candle.getClose();
+        double middle = bollinger.peek(close);
+        double deviation = bollinger.peekStandardDeviation(close) * TradeConstants.BOLLINGER_MULTIPLIER;
+
+        return IndicatorSnapshot.builder()
+            .stockCode(candle.getStockCode())
+            .type(candle.getType())
+            .epochDay(candle.getEpochDay())
+            .startMinute(candle.getStartMinute())
+            .closed(false)
+            .barCount(barCount)
+            .close(close)
+            .shortSma(shortSma.peek(close))
+            .mediumSma(mediumSma.peek(close))
+            .longSma(longSma.peek(close))
+            .ema(ema.peek(close))
+            .rsi(rsi.peek(close))
+            .bollingerUpper(middle + deviation)
+            .bollingerMiddle(middle)
+            .bollingerLower(middle - deviation)
+            .atr(atr.peek(candle.getHigh(), candle.getLow()))
+            .build();
+    }
+}
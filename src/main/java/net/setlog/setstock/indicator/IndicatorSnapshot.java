@@ -0,0 +1,42 @@
+package net.setlog.setstock.indicator;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.candle.CandleType;
+import net.setlog.setstock.common.cache.Weighable;
+
+/**
+ * 캔들 하나 시점의 기술적 지표 값 (불변)
+ *
+ * 기간보다 캔들이 적은 구간은 들어온 캔들만으로 계산한 값이며, barCount 로 충분한지 판단한다.
+ */
+@Getter
+@ToString
+@Builder
+public class IndicatorSnapshot implements Weighable {
+
+    private static final long ESTIMATED_BYTES = 160;
+
+    private final int stockCode;       // 종목 코드 (정수)
+    private final CandleType type;     // 캔들 주기
+    private final int epochDay;        // 거래일 (epoch day)
+    private final int startMinute;     // 캔들 시작 분 (자정 기준)
+    private final boolean closed;      // 완성된 캔들 기준이면 true, 형성 중인 캔들 기준이면 false
+    private final int barCount;        // 반영된 완성 캔들 수
+    private final double close;        // 종가
+    private final double shortSma;     // 단기 이동평균 (SHORT_TERM_SMA_PERIOD)
+    private final double mediumSma;    // 중기 이동평균 (MEDIUM_TERM_SMA_PERIOD)
+    private final double longSma;      // 장기 이동평균 (LONG_TERM_SMA_PERIOD)
+    private final double ema;          // 지수 이동평균 (EMA_PERIOD)
+    private final double rsi;          // RSI (RSI_PERIOD)
+    private final double bollingerUpper;   // 볼린저 상단
+    private final double bollingerMiddle;  // 볼린저 중심
+    private final double bollingerLower;   // 볼린저 하단
+    private final double atr;          // 평균 진폭 (ATR_PERIOD)
+
+    @Override
+    public long estimatedBytes() {
+        return ESTIMATED_BYTES;
+    }
+}
@@ -0,0 +1,55 @@
+package net.setlog.setstock.indicator;
+
+/**
+ * 평균 진폭 (ATR)
+ *
+ * 진폭(TR) = max(고가 - 저가, |고가 - 전일 종가|, |저가 - 전일 종가|) 을 Wilder 평활한다.
+ * 첫 캔들의 진폭은 고가 - 저가이다. (ta4j ATRIndicator 와 동일)
+ */
+public final class RollingAtr {
+
+    private final RollingEma average;
+    private double previousClose = Double.NaN;
+
+    /**
+     * 생성자
+     * @param period 기간
+     */
+    public RollingAtr(int period) {
+        this.average = RollingEma.wilder(period);
+    }
+
+    /**
+     * 캔들 추가 (완성된 캔들)
+     * @return 갱신된 ATR
+     */
+    public double update(double high, double low, double close) {
+        double atr = average.update(trueRange(high, low));
+        previousClose = close;
+        return atr;
+    }
+
+    /**
+     * 캔들을 추가했을 때의 ATR (상태 변경 없음)
+     * @return ATR
+     */
+    public double peek(double high, double low) {
+        return average.peek(trueRange(high, low));
+    }
+
+    /**
+     * 현재 ATR
+     * @return ATR, 값이 없으면 NaN
+     */
+    public double value() {
+        return average.value();
+    }
+
+    private double trueRange(double high, double low) {
+        double range = high - low;
+        if (Double.isNaN(previousClose)) {
+            return range;
+        }
+        return Math.max(range, Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose)));
+    }
+}
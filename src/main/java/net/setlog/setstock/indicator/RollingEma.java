@@ -0,0 +1,72 @@
+package net.setlog.setstock.indicator;
+
+/**
+ * 지수 이동평균 (EMA)
+ *
+ * 첫 값으로 시작하여 prev + k * (value - prev) 로 갱신한다. (ta4j EMAIndicator 와 동일)
+ * 가중치 k 를 1/period 로 주면 Wilder 평활(MMA)이 된다.
+ */
+public final class RollingEma {
+
+    private final double multiplier;
+    private double value = Double.NaN;
+    private int count;
+
+    private RollingEma(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * 지수 이동평균 생성 (k = 2 / (period + 1))
+     * @param period 기간
+     * @return RollingEma
+     */
+    public static RollingEma exponential(int period) {
+        return new RollingEma(2.0 / (period + 1));
+    }
+
+    /**
+     * Wilder 평활 이동평균 생성 (k = 1 / period)
+     * @param period 기간
+     * @return RollingEma
+     */
+    public static RollingEma wilder(int period) {
+        return new RollingEma(1.0 / period);
+    }
+
+    /**
+     * 값 추가 (완성된 캔들)
+     * @param input 새 값
+     * @return 갱신된 평균
+     */
+    public double update(double input) {
+        value = peek(input);
+        count++;
+        return value;
+    }
+
+    /**
+     * 값을 추가했을 때의 평균 (상태 변경 없음)
+     * @param input 가상의 새 값
+     * @return 평균
+     */
+    public double peek(double input) {
+        return count == 0 ? input : value + multiplier * (input - value);
+    }
+
+    /**
+     * 현재 평균
+     * @return 평균, 값이 없으면 NaN
+     */
+    public double value() {
+        return value;
+    }
+
+    /**
+     * 들어온 값의 수
+     * @return 값 수
+     */
+    public int count() {
+        return count;
+    }
+}
@@ -0,0 +1,59 @@
+package net.setlog.setstock.indicator;
+
+/**
+ * Wilder 평활 상대강도지수 (RSI)
+ *
+ * 상승폭/하락폭을 각각 Wilder 평활하여 RSI = 100 - 100 / (1 + 평균상승 / 평균하락) 으로 계산한다.
+ * 첫 값의 상승/하락폭은 0 으로 시작한다. (ta4j RSIIndicator 와 동일)
+ */
+public final class RollingRsi {
+
+    private final RollingEma averageGain;
+    private final RollingEma averageLoss;
+    private double previous = Double.NaN;
+
+    /**
+     * 생성자
+     * @param period 기간
+     */
+    public RollingRsi(int period) {
+        this.averageGain = RollingEma.wilder(period);
+        this.averageLoss = RollingEma.wilder(period);
+    }
+
+    /**
+     * 종가 추가 (완성된 캔들)
+     * @param close 종가
+     * @return 갱신된 RSI
+     */
+    public double update(double close) {
+        double change = Double.isNaN(previous) ? 0 : close - previous;
+        previous = close;
+        return rsi(averageGain.update(Math.max(change, 0)), averageLoss.update(Math.max(-change, 0)));
+    }
+
+    /**
+     * 종가를 추가했을 때의 RSI (상태 변경 없음)
+     * @param close 가상의 종가
+     * @return RSI
+     */
+    public double peek(double close) {
+        double change = Double.isNaN(previous) ? 0 : close - previous;
+        return rsi(averageGain.peek(Math.max(change, 0)), averageLoss.peek(Math.max(-change, 0)));
+    }
+
+    /**
+     * 현재 RSI
+     * @return RSI, 값이 없으면 NaN
+     */
+    public double value() {
+        return averageGain.count() == 0 ? Double.NaN : rsi(averageGain.value(), averageLoss.value());
+    }
+
+    private static double rsi(double gain, double loss) {
+        if (loss == 0) {
+            return gain == 0 ? 0 : 100;
+        }
+        return 100 - 100 / (1 + gain / loss);
+    }
+}
@@ -0,0 +1,134 @@
+package net.setlog.setstock.indicator;
+
+/**
+ * 누적합 기반 단순 이동평균 (SMA)
+ *
+ * 값이 기간보다 적게 들어온 구간은 들어온 값들의 평균을 반환한다. (ta4j SMAIndicator 와 동일)
+ * 창이 한 바퀴 돌 때마다 합계를 다시 계산하여 부동소수점 오차 누적을 막는다.
+ */
+public final class RollingSma {
+
+    private final double[] window;
+    private int count;
+    private int head;
+    private double sum;
+    private double sumOfSquares;
+
+    /**
+     * 생성자
+     * @param period 기간
+     */
+    public RollingSma(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("기간은 0보다 커야 합니다: " + period);
+        }
+        this.window = new double[period];
+    }
+
+    /**
+     * 값 추가 (완성된 캔들)
+     * @param value 새 값
+     * @return 갱신된 평균
+     */
+    public double update(double value) {
+        if (count == window.length) {
+            double outgoing = window[head];
+            sum -= outgoing;
+            sumOfSquares -= outgoing * outgoing;
+        } else {
+            count++;
+        }
+        window[head] = value;
+        sum += value;
+        sumOfSquares += value * value;
+
+        head++;
+        if (head == window.length) {
+            head = 0;
+            recompute();
+        }
+        return sum / count;
+    }
+
+    /**
+     * 값을 추가했을 때의 평균 (상태 변경 없음, 형성 중인 캔들용)
+     * @param value 가상의 새 값
+     * @return 평균
+     */
+    public double peek(double value) {
+        if (count == window.length) {
+            return (sum - window[head] + value) / count;
+        }
+        return (sum + value) / (count + 1);
+    }
+
+    /**
+     * 현재 평균
+     * @return 평균, 값이 없으면 NaN
+     */
+    public double value() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * 현재 모표준편차
+     * @return 표준편차, 값이 없으면 NaN
+     */
+    public double standardDeviation() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double mean = sum / count;
+        return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+    }
+
+    /**
+     * 값을 추가했을 때의 모표준편차 (상태 변경 없음)
+     * @param value 가상의 새 값
+     * @return 표준편차
+     */
+    public double peekStandardDeviation(double value) {
+        double s;
+        double sq;
+        int n;
+        if (count == window.length) {
+            double outgoing = window[head];
+            s = sum - outgoing + value;
+            sq = sumOfSquares - outgoing * outgoing + value * value;
+            n = count;
+        } else {
+            s = sum + value;
+            sq = sumOfSquares + value * value;
+            n = count + 1;
+        }
+        double mean = s / n;
+        return Math.sqrt(Math.max(0, sq / n - mean * mean));
+    }
+
+    /**
+     * 들어온 값의 수 (최대 기간)
+     * @return 값 수
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 기간만큼 값이 채워졌는지 여부
+     * @return 채워졌으면 true
+     */
+    public boolean isReady() {
+        return count == window.length;
+    }
+
+    private void recompute() {
+        double s = 0;
+        double sq = 0;
+        for (int i = 0; i < count; i++) {
+            s += window[i];
+            sq += window[i] * window[i];
+        }
+        sum = s;
+        sumOfSquares = sq;
+    }
+}
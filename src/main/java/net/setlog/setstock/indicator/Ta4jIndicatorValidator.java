@@ -0,0 +1,141 @@
+package net.setlog.setstock.indicator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.common.constants.TradeConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ta4j 기반 지표 검증기 (setstock.indicator.validation=true 인 경우에만 생성)
+ *
+ * IndicatorEngine 이 계산한 값과 같은 캔들로 만든 ta4j BarSeries 의 지표 값을 비교하여
+ * 허용 오차를 벗어나면 경고 로그와 indicator.validation.mismatch 메트릭을 남긴다.
+ * 종목/주기마다 BarSeries 를 유지하므로 운영이 아닌 검증 환경에서만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "setstock.indicator", name = "validation", havingValue = "true")
+public class Ta4jIndicatorValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(Ta4jIndicatorValidator.class);
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_BAR_COUNT = 2000;
+    private static final double TOLERANCE = 1e-6;
+
+    private final Map<String, Ta4jSeries> series = new ConcurrentHashMap<>();
+    private final Counter verified;
+    private final Counter mismatched;
+
+    /**
+     * 생성자
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public Ta4jIndicatorValidator(MeterRegistry meterRegistry) {
+        this.verified = meterRegistry.counter("indicator.validation.verified");
+        this.mismatched = meterRegistry.counter("indicator.validation.mismatch");
+    }
+
+    /**
+     * 완성된 캔들의 지표 값 검증
+     * 같은 종목/주기의 캔들은 순서대로 호출되어야 한다.
+     * @param key 종목/주기 키 (IndicatorEngine 의 indicatorCache 키)
+     * @param candle 완성된 캔들
+     * @param snapshot IndicatorEngine 계산 결과
+     */
+    public void verify(String key, Candle candle, IndicatorSnapshot snapshot) {
+        Ta4jSeries ta4j = series.computeIfAbsent(key, Ta4jSeries::new);
+        int index = ta4j.add(candle);
+
+        boolean matched = compare(key, "shortSma", snapshot.getShortSma(), ta4j.shortSma, index)
+            & compare(key, "mediumSma", snapshot.getMediumSma(), ta4j.mediumSma, index)
+            & compare(key, "longSma", snapshot.getLongSma(), ta4j.longSma, index)
+            & compare(key, "ema", snapshot.getEma(), ta4j.ema, index)
+            & compare(key, "rsi", snapshot.getRsi(), ta4j.rsi, index)
+            & compare(key, "bollingerUpper", snapshot.getBollingerUpper(), ta4j.bollingerUpper, index)
+            & compare(key, "bollingerLower", snapshot.getBollingerLower(), ta4j.bollingerLower, index)
+            & compare(key, "atr", snapshot.getAtr(), ta4j.atr, index);
+
+        verified.increment();
+        if (!matched) {
+            mismatched.increment();
+        }
+    }
+
+    private boolean compare(String key, String name, double actual, Indicator<Num> indicator, int index) {
+        double expected = indicator.getValue(index).doubleValue();
+        double scale = Math.max(1.0, Math.abs(expected));
+        if (Math.abs(actual - expected) <= TOLERANCE * scale) {
+            return true;
+        }
+        log.warn("지표 검증 불일치 [{} {} #{}] engine={}, ta4j={}", key, name, index, actual, expected);
+        return false;
+    }
+
+    /**
+     * 종목/주기별 ta4j 시리즈와 지표
+     */
+    private static final class Ta4jSeries {
+        private final BarSeries series;
+        private final Indicator<Num> shortSma;
+        private final Indicator<Num> mediumSma;
+        private final Indicator<Num> longSma;
+        private final Indicator<Num> ema;
+        private final Indicator<Num> rsi;
+        private final Indicator<Num> bollingerUpper;
+        private final Indicator<Num> bollingerLower;
+        private final Indicator<Num> atr;
+
+        private Ta4jSeries(String name) {
+            series = new BaseBarSeries(name);
+            series.setMaximumBarCount(MAX_BAR_COUNT);
+
+            ClosePriceIndicator close = new ClosePriceIndicator(series);
+            shortSma = new SMAIndicator(close, TradeConstants.SHORT_TERM_SMA_PERIOD);
+            mediumSma = new SMAIndicator(close, TradeConstants.MEDIUM_TERM_SMA_PERIOD);
+            longSma = new SMAIndicator(close, TradeConstants.LONG_TERM_SMA_PERIOD);
+            ema = new EMAIndicator(close, TradeConstants.EMA_PERIOD);
+            rsi = new RSIIndicator(close, TradeConstants.RSI_PERIOD);
+            atr = new ATRIndicator(series, TradeConstants.ATR_PERIOD);
+
+            BollingerBandsMiddleIndicator middle =
+                new BollingerBandsMiddleIndicator(new SMAIndicator(close, TradeConstants.BOLLINGER_PERIOD));
+            StandardDeviationIndicator deviation = new StandardDeviationIndicator(close, TradeConstants.BOLLINGER_PERIOD);
+            Num multiplier = series.numOf(TradeConstants.BOLLINGER_MULTIPLIER);
+            bollingerUpper = new BollingerBandsUpperIndicator(middle, deviation, multiplier);
+            bollingerLower = new BollingerBandsLowerIndicator(middle, deviation, multiplier);
+        }
+
+        private int add(Candle candle) {
+            Duration period = candle.getType().isDaily()
+                ? Duration.ofDays(1)
+                : Duration.ofMinutes(candle.getType().getMinutes());
+            ZonedDateTime endTime = candle.getStartTime().atZone(KOREA_ZONE).plus(period);
+            series.addBar(period, endTime, candle.getOpen(), candle.getHigh(), candle.getLow(),
+                candle.getClose(), candle.getVolume());
+            return series.getEndIndex();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * KIS 접근 토큰
+ *
+ * 파일 저장소에 그대로 직렬화되며, 환경(실전/모의)과 앱 키 지문이 일치할 때만 재사용한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KisAccessToken {
+
+    private String accessToken;    // 접근 토큰
+    private Instant issuedAt;      // 발급 시각
+    private Instant expiresAt;     // 만료 시각
+    private String environment;    // 실전(real)/모의(virtual) 구분
+    private String appKeyDigest;   // 발급에 사용한 앱 키 지문
+
+    /**
+     * authorization 헤더 값
+     * @return "Bearer {토큰}"
+     */
+    @JsonIgnore
+    public String getAuthorizationHeader() {
+        return "Bearer " + accessToken;
+    }
+
+    /**
+     * 만료 여부
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 수명 중 지정 비율이 지난 시각 (선제 갱신 시점)
+     * @param ratio 수명 대비 비율 (0~1)
+     * @return 갱신 시각
+     */
+    public Instant refreshAt(double ratio) {
+        long lifetimeMillis = expiresAt.toEpochMilli() - issuedAt.toEpochMilli();
+        return issuedAt.plusMillis((long) (lifetimeMillis * ratio));
+    }
+}
@@ -0,0 +1,87 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import net.setlog.setstock.quote.Quote;
+import net.setlog.setstock.quote.QuoteSource;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * KIS 현재가 조회 API (FHKST01010100) 기반 QuoteSource
+ */
+public class KisQuoteSource implements QuoteSource {
+
+    private static final String QUERY_PREFIX = "FID_COND_MRKT_DIV_CODE=J&FID_INPUT_ISCD=";
+
+    private final KisRestClient restClient;
+
+    /**
+     * 생성자
+     * @param restClient KIS REST 클라이언트
+     */
+    public KisQuoteSource(KisRestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public CompletableFuture<Quote> fetchQuote(String stockCode) {
+        return restClient.get(KisTr.PRICE, QUERY_PREFIX + stockCode)
+            .thenApply(json -> toQuote(stockCode, json.path("output"), System.currentTimeMillis()));
+    }
+
+    /**
+     * 현재가 조회 응답(output)을 시세로 변환
+     * @param stockCode 종목 코드
+     * @param output 응답의 output 객체
+     * @param timestamp 기준 시각 (epoch millis)
+     * @return Quote 객체
+     */
+    static Quote toQuote(String stockCode, JsonNode output, long timestamp) {
+        return Quote.builder()
+            .stockCode(stockCode)
+            .price(output.path("stck_prpr").asLong())
+            .change(output.path("prdy_vrss").asLong())
+            .changeRate(parseRate(output.path("prdy_ctrt").asText()))
+            .open(output.path("stck_oprc").asLong())
+            .high(output.path("stck_hgpr").asLong())
+            .low(output.path("stck_lwpr").asLong())
+            .accumulatedVolume(output.path("acml_vol").asLong())
+            .timestamp(timestamp)
+            .source(Quote.Source.REST)
+            .build();
+    }
+
+    /**
+     * 소수 둘째 자리까지의 퍼센트 문자열을 0.01% 단위 정수로 변환 (예: "-0.14" -> -14)
+     */
+    static int parseRate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int i = 0;
+        boolean negative = false;
+        if (text.charAt(0) == '-' || text.charAt(0) == '+') {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+        int value = 0;
+        int fraction = -1;
+        for (; i < text.length() && fraction < 2; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                fraction = 0;
+            } else if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (fraction >= 0) {
+                    fraction++;
+                }
+            } else {
+                break;
+            }
+        }
+        for (int scale = Math.max(fraction, 0); scale < 2; scale++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,192 @@
+package net.setlog.setstock.kis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.exception.ApiException;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * KIS REST API 호출 한도 제한기
+ *
+ * 초당(API_MAX_REQUESTS_PER_SECOND), 분당(API_MAX_REQUESTS_PER_MINUTE) 두 윈도우를 모두 만족할 때만 호출을 허가한다.
+ * 모든 KIS REST 호출은 이 제한기를 거쳐야 하며, 한도가 부족하면 주문 > 계좌 > 시세 순으로 먼저 허가된다.
+ * 상태는 원자 변수로만 관리하여 호출 스레드 간 락 경합이 없다.
+ */
+public class KisRateLimiter {
+
+    private static final long PRIORITY_YIELD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final KisRequestPriority[] PRIORITIES = KisRequestPriority.values();
+
+    private final LongSupplier clock;
+    private final SlidingWindow perSecond;
+    private final SlidingWindow perMinute;
+    private final AtomicIntegerArray waiting = new AtomicIntegerArray(PRIORITIES.length);
+
+    private final Timer[] waitTimers = new Timer[PRIORITIES.length];
+    private final Counter timeoutCounter;
+
+    /**
+     * 생성자 (ApiConstants 의 기본 한도 사용)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public KisRateLimiter(MeterRegistry meterRegistry) {
+        this(ApiConstants.API_MAX_REQUESTS_PER_SECOND, ApiConstants.API_MAX_REQUESTS_PER_MINUTE, meterRegistry);
+    }
+
+    /**
+     * 생성자
+     * @param maxPerSecond 초당 최대 호출 수
+     * @param maxPerMinute 분당 최대 호출 수
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public KisRateLimiter(int maxPerSecond, int maxPerMinute, MeterRegistry meterRegistry) {
+        this(maxPerSecond, maxPerMinute, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * 생성자 (시계 지정, 테스트용)
+     * @param maxPerSecond 초당 최대 호출 수
+     * @param maxPerMinute 분당 최대 호출 수
+     * @param meterRegistry 메트릭 레지스트리
+     * @param clock 나노초 시계
+     */
+    KisRateLimiter(int maxPerSecond, int maxPerMinute, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.perSecond = new SlidingWindow(maxPerSecond, TimeUnit.SECONDS.toNanos(1), clock);
+        this.perMinute = new SlidingWindow(maxPerMinute, TimeUnit.MINUTES.toNanos(1), clock);
+
+        for (KisRequestPriority priority : PRIORITIES) {
+            String lane = priority.name().toLowerCase(Locale.ROOT);
+            waitTimers[priority.ordinal()] = Timer.builder("kis.ratelimit.wait")
+                .description("KIS API 호출 허가 대기 시간")
+                .tag("priority", lane)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+            Gauge.builder("kis.ratelimit.queue", waiting, w -> w.get(priority.ordinal()))
+                .description("KIS API 호출 허가 대기 중인 요청 수")
+                .tag("priority", lane)
+                .register(meterRegistry);
+        }
+        Gauge.builder("kis.ratelimit.available", this, l -> l.perSecond.available(l.clock.getAsLong()))
+            .tag("window", "second")
+            .register(meterRegistry);
+        Gauge.builder("kis.ratelimit.available", this, l -> l.perMinute.available(l.clock.getAsLong()))
+            .tag("window", "minute")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("kis.ratelimit.timeout")
+            .description("호출 한도 대기 시간 초과 건수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 획득 (API_READ_TIMEOUT_MS 까지 대기)
+     * @param priority 요청 우선순위
+     */
+    public void acquire(KisRequestPriority priority) {
+        acquire(priority, ApiConstants.API_READ_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 호출 허가 획득
+     * @param priority 요청 우선순위
+     * @param timeout 최대 대기 시간
+     * @param unit 시간 단위
+     * @throws ApiException 대기 시간 초과 또는 인터럽트 발생 시
+     */
+    public void acquire(KisRequestPriority priority, long timeout, TimeUnit unit) {
+        long start = clock.getAsLong();
+        if (!hasHigherPriorityWaiters(priority) && tryAcquire(start)) {
+            waitTimers[priority.ordinal()].record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        long deadline = start + unit.toNanos(timeout);
+        int lane = priority.ordinal();
+        waiting.incrementAndGet(lane);
+        try {
+            while (true) {
+                long now = clock.getAsLong();
+                long park;
+                if (hasHigherPriorityWaiters(priority)) {
+                    park = PRIORITY_YIELD_NANOS;
+                } else if (tryAcquire(now)) {
+                    waitTimers[lane].record(clock.getAsLong() - start, TimeUnit.NANOSECONDS);
+                    return;
+                } else {
+                    park = Math.max(perSecond.waitNanos(now), perMinute.waitNanos(now));
+                }
+
+                if (now + park > deadline) {
+                    timeoutCounter.increment();
+                    throw ApiException.rateLimitException(
+                        String.format("KIS API 호출 한도 대기 시간(%dms)을 초과했습니다", unit.toMillis(timeout)));
+                }
+                LockSupport.parkNanos(Math.max(park, 1));
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw ApiException.rateLimitException("KIS API 호출 한도 대기 중 인터럽트가 발생했습니다");
+                }
+            }
+        } finally {
+            waiting.decrementAndGet(lane);
+        }
+    }
+
+    /**
+     * 호출 허가를 받은 뒤 작업 실행
+     * @param priority 요청 우선순위
+     * @param call 실행할 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(KisRequestPriority priority, Supplier<T> call) {
+        acquire(priority);
+        return call.get();
+    }
+
+    /**
+     * 대기 중인 요청 수
+     * @param priority 요청 우선순위
+     * @return 대기 건수
+     */
+    public int getQueueDepth(KisRequestPriority priority) {
+        return waiting.get(priority.ordinal());
+    }
+
+    private boolean hasHigherPriorityWaiters(KisRequestPriority priority) {
+        for (int i = 0; i < priority.ordinal(); i++) {
+            if (waiting.get(i) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 두 윈도우 모두에서 허가 획득
+     * 초당 윈도우를 먼저 잡고 분당 윈도우 경합에서 밀리면 잡은 초당 슬롯을 반납한다.
+     * 기록되는 허가 시각은 각 윈도우가 허가 순간에 다시 읽은 시각이다.
+     */
+    private boolean tryAcquire(long now) {
+        if (perMinute.waitNanos(now) > 0 || perSecond.waitNanos(now) > 0) {
+            return false;
+        }
+        long ticket = perSecond.tryAcquire();
+        if (ticket < 0) {
+            return false;
+        }
+        if (perMinute.tryAcquire() < 0) {
+            perSecond.cancel(ticket);
+            return false;
+        }
+        return true;
+    }
+}
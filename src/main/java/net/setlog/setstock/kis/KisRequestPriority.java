@@ -0,0 +1,32 @@
+package net.setlog.setstock.kis;
+
+import net.setlog.setstock.common.constants.ApiConstants;
+
+/**
+ * KIS REST 요청 우선순위
+ *
+ * 호출 한도가 부족할 때 높은 우선순위(낮은 ordinal) 요청이 먼저 허가된다.
+ */
+public enum KisRequestPriority {
+
+    ORDER,    // 주문, 취소
+    ACCOUNT,  // 잔고, 계좌 조회
+    QUOTE;    // 현재가, 일봉/분봉 조회
+
+    /**
+     * TR ID 에 해당하는 우선순위 반환
+     * @param trId 거래 ID
+     * @return 요청 우선순위
+     */
+    public static KisRequestPriority of(String trId) {
+        if (ApiConstants.TR_ID_BUY_ORDER.equals(trId)
+            || ApiConstants.TR_ID_SELL_ORDER.equals(trId)
+            || ApiConstants.TR_ID_CANCEL_ORDER.equals(trId)) {
+            return ORDER;
+        }
+        if (ApiConstants.TR_ID_ACCOUNT.equals(trId)) {
+            return ACCOUNT;
+        }
+        return QUOTE;
+    }
+}
@@ -0,0 +1,287 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.setlog.setstock.common.config.KisProperties;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.exception.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS REST 비동기 클라이언트
+ *
+ * 1. 공유 HttpClient 의 연결 풀(keep-alive)을 사용하므로 호출마다 TLS 핸드셰이크를 다시 하지 않는다.
+ *    기동 시 한 번 연결을 맺어 첫 주문도 핸드셰이크 비용 없이 나가도록 한다.
+ * 2. TR 별 고정 헤더(appkey, appsecret, tr_id 등)는 생성 시 한 번만 만들고, 호출마다 authorization 만 붙인다.
+ * 3. 호출 전 KisRateLimiter 허가를 받으며, 재시도도 매번 허가를 다시 받아 호출 한도를 넘지 않는다.
+ * 4. 재시도는 지수 백오프 + 지터로 API_MAX_RETRY_COUNT 회까지 수행하며, 주문 TR 은 요청이 서버에 도달하지 않았거나
+ *    게이트웨이에서 한도 초과로 거절된 경우에만 재시도한다.
+ */
+public class KisRestClient implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(KisRestClient.class);
+
+    private static final long MAX_BACKOFF_MS = ApiConstants.API_RETRY_DELAY_MS * 8L;  // 백오프 상한
+    private static final String RATE_LIMITED_MSG_CODE = "EGW00201";  // 초당 거래건수 초과
+
+    private final KisProperties properties;
+    private final KisTokenManager tokenManager;
+    private final KisRateLimiter rateLimiter;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    private final Map<KisTr, String[]> headers = new EnumMap<>(KisTr.class);
+    private final Map<KisTr, Timer> successTimers = new EnumMap<>(KisTr.class);
+    private final Map<KisTr, Timer> failureTimers = new EnumMap<>(KisTr.class);
+    private final Map<KisTr, Counter> retryCounters = new EnumMap<>(KisTr.class);
+
+    // 호출 한도 대기, 재시도 지연에 사용 (대기 중 플랫폼 스레드를 점유하지 않도록 가상 스레드)
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kis-rest-", 0).factory());
+    private volatile boolean running;
+
+    /**
+     * 생성자
+     * @param properties KIS 설정
+     * @param tokenManager 접근 토큰 관리자
+     * @param rateLimiter 호출 한도 제한기
+     * @param httpClient KIS HTTP 클라이언트
+     * @param objectMapper JSON 변환기
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public KisRestClient(KisProperties properties, KisTokenManager tokenManager, KisRateLimiter rateLimiter,
+                         HttpClient httpClient, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokenManager = tokenManager;
+        this.rateLimiter = rateLimiter;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+
+        for (KisTr tr : KisTr.values()) {
+            headers.put(tr, new String[] {
+                ApiConstants.HEADER_CONTENT_TYPE, ApiConstants.CONTENT_TYPE_JSON,
+                ApiConstants.HEADER_APP_KEY, properties.getAppKey(),
+                ApiConstants.HEADER_APP_SECRET, properties.getAppSecret(),
+                ApiConstants.HEADER_TR_ID, tr.getTrId(properties.isVirtual()),
+                "custtype", "P"
+            });
+            successTimers.put(tr, timer(meterRegistry, tr, "success"));
+            failureTimers.put(tr, timer(meterRegistry, tr, "failure"));
+            retryCounters.put(tr, Counter.builder("kis.rest.retries")
+                .description("KIS REST 재시도 횟수")
+                .tag("tr", tr.name())
+                .register(meterRegistry));
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, KisTr tr, String outcome) {
+        return Timer.builder("kis.rest.calls")
+            .description("KIS REST 호출 시간 (한도 대기, 재시도 포함)")
+            .tag("tr", tr.name())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 조회 TR 호출
+     * @param tr 거래
+     * @param query 쿼리 문자열 (예: "FID_COND_MRKT_DIV_CODE=J&FID_INPUT_ISCD=005930")
+     * @return 응답 본문 (rt_cd 가 성공인 경우)
+     */
+    public CompletableFuture<JsonNode> get(KisTr tr, String query) {
+        return send(tr, query, null);
+    }
+
+    /**
+     * 요청 본문이 있는 TR 호출
+     * @param tr 거래
+     * @param body 요청 본문 (JSON 으로 직렬화)
+     * @return 응답 본문 (rt_cd 가 성공인 경우)
+     */
+    public CompletableFuture<JsonNode> post(KisTr tr, Object body) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(
+                ApiException.externalApiException("KIS 요청 본문을 만들 수 없습니다: " + tr, e));
+        }
+        return send(tr, null, payload);
+    }
+
+    private CompletableFuture<JsonNode> send(KisTr tr, String query, byte[] payload) {
+        long start = System.nanoTime();
+        CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        attempt(tr, query, payload, 0, result);
+        return result.whenComplete((json, error) ->
+            (error == null ? successTimers : failureTimers).get(tr).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private void attempt(KisTr tr, String query, byte[] payload, int attempt, CompletableFuture<JsonNode> result) {
+        CompletableFuture
+            .supplyAsync(() -> {
+                rateLimiter.acquire(tr.getPriority());
+                return request(tr, query, payload);
+            }, executor)
+            .thenCompose(request -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+            .thenApply(response -> parse(tr, response))
+            .whenComplete((json, error) -> {
+                if (error == null) {
+                    result.complete(json);
+                    return;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (attempt < ApiConstants.API_MAX_RETRY_COUNT && isRetryable(tr, cause)) {
+                    long delay = backoff(attempt);
+                    retryCounters.get(tr).increment();
+                    log.warn("KIS {} 호출 실패, {}ms 후 재시도 ({}/{}): {}",
+                        tr, delay, attempt + 1, ApiConstants.API_MAX_RETRY_COUNT, cause.getMessage());
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+                        .execute(() -> attempt(tr, query, payload, attempt + 1, result));
+                } else {
+                    result.completeExceptionally(toApiException(tr, cause));
+                }
+            });
+    }
+
+    private HttpRequest request(KisTr tr, String query, byte[] payload) {
+        String uri = properties.getBaseUrl() + tr.getPath() + (query == null || query.isEmpty() ? "" : "?" + query);
+        return HttpRequest.newBuilder(URI.create(uri))
+            .timeout(Duration.ofMillis(ApiConstants.API_READ_TIMEOUT_MS))
+            .headers(headers.get(tr))
+            .header(ApiConstants.HEADER_AUTHORIZATION, tokenManager.getAuthorizationHeader())
+            .method(tr.getMethod(), payload == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(payload))
+            .build();
+    }
+
+    private JsonNode parse(KisTr tr, HttpResponse<byte[]> response) {
+        JsonNode json;
+        try {
+            json = objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            json = null;
+        }
+        return check(tr, response.statusCode(), json);
+    }
+
+    /**
+     * 응답 상태/본문 검사 (실패면 재시도 가능 여부를 담은 KisCallException)
+     */
+    static JsonNode check(KisTr tr, int status, JsonNode json) {
+        String msgCode = json == null ? "" : json.path("msg_cd").asText("");
+        if (status == 429 || RATE_LIMITED_MSG_CODE.equals(msgCode)) {
+            throw new KisCallException(tr + " 호출 한도 초과 (" + status + ", " + msgCode + ")", true, true);
+        }
+        if (status >= 500) {
+            throw new KisCallException(tr + " 서버 오류 (" + status + ", " + msgCode + ")", true, false);
+        }
+        if (status != 200 || json == null) {
+            throw new KisCallException(tr + " 응답 오류 (" + status + ")", false, false);
+        }
+        if (!ApiConstants.API_RESPONSE_SUCCESS.equals(json.path("rt_cd").asText())) {
+            throw new KisCallException(tr + " 처리 실패 [" + msgCode + "] " + json.path("msg1").asText(), false, false);
+        }
+        return json;
+    }
+
+    /**
+     * 재시도 여부 (주문처럼 멱등이 아닌 TR 은 요청이 처리되지 않았음이 확실할 때만)
+     */
+    static boolean isRetryable(KisTr tr, Throwable cause) {
+        if (cause instanceof KisCallException callException) {
+            // 한도 초과 거절은 처리되지 않은 요청이므로 주문도 재시도
+            return callException.rejected || (callException.retryable && tr.isIdempotent());
+        }
+        if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+            return true;  // 요청이 서버에 도달하지 않음
+        }
+        return cause instanceof IOException && tr.isIdempotent();
+    }
+
+    /**
+     * 재시도 대기 시간 (지수 백오프의 절반 + 나머지 절반 범위의 지터)
+     */
+    static long backoff(int attempt) {
+        long exponential = Math.min(MAX_BACKOFF_MS, ApiConstants.API_RETRY_DELAY_MS * (1L << Math.min(attempt, 20)));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static ApiException toApiException(KisTr tr, Throwable cause) {
+        if (cause instanceof ApiException apiException) {
+            return apiException;
+        }
+        if (cause instanceof KisCallException callException && callException.rejected) {
+            return ApiException.rateLimitException("KIS API " + callException.getMessage());
+        }
+        return ApiException.externalApiException("KIS API 호출 실패: " + tr + " - " + cause.getMessage(), cause);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // 첫 호출 전에 연결 풀에 TLS 연결을 만들어 둠
+        HttpRequest warmUp = HttpRequest.newBuilder(URI.create(properties.getBaseUrl()))
+            .timeout(Duration.ofMillis(ApiConstants.API_CONNECTION_TIMEOUT_MS))
+            .method("HEAD", HttpRequest.BodyPublishers.noBody())
+            .build();
+        httpClient.sendAsync(warmUp, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                if (error != null) {
+                    log.warn("KIS 연결 준비 실패: {}", error.getMessage());
+                } else {
+                    log.debug("KIS 연결 준비 완료 ({})", response.statusCode());
+                }
+            });
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * KIS 호출 실패 (스택 트레이스 없음)
+     */
+    static final class KisCallException extends RuntimeException {
+        private final boolean retryable;  // 멱등 TR 이면 재시도 가능
+        private final boolean rejected;   // 게이트웨이에서 처리 전에 거절됨
+
+        KisCallException(String message, boolean retryable, boolean rejected) {
+            super(message, null, false, false);
+            this.retryable = retryable;
+            this.rejected = rejected;
+        }
+    }
+}
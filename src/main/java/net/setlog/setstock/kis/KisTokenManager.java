@@ -0,0 +1,235 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.setlog.setstock.common.config.KisProperties;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.exception.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * KIS 접근 토큰 관리자
+ *
+ * 토큰 수명의 refreshRatio 시점에 백그라운드 스레드에서 새 토큰을 발급받고,
+ * 새 토큰이 도착하기 전까지는 기존 토큰을 계속 제공한다. 따라서 주문 요청이 토큰 발급을 기다리는 일은
+ * 기동 직후 첫 발급 외에는 발생하지 않는다. 발급받은 토큰은 KisTokenStore 에 저장되어 재시작 후에도 재사용된다.
+ */
+public class KisTokenManager implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(KisTokenManager.class);
+
+    private static final Duration MIN_REMAINING = Duration.ofMinutes(5);  // 이보다 짧게 남은 토큰은 사용하지 않음
+
+    private final KisProperties properties;
+    private final KisTokenStore tokenStore;
+    private final KisRateLimiter rateLimiter;
+    private final RestClient restClient;
+    private final ScheduledExecutorService scheduler;
+
+    private final CompletableFuture<KisAccessToken> firstToken = new CompletableFuture<>();
+    private volatile KisAccessToken current;
+    private volatile boolean running;
+    private int failures;
+
+    /**
+     * 생성자
+     * @param properties KIS 설정
+     * @param tokenStore 토큰 저장소
+     * @param rateLimiter 호출 한도 제한기
+     * @param restClient KIS REST 클라이언트 (baseUrl 설정됨)
+     */
+    public KisTokenManager(KisProperties properties, KisTokenStore tokenStore,
+                           KisRateLimiter rateLimiter, RestClient restClient) {
+        this.properties = properties;
+        this.tokenStore = tokenStore;
+        this.rateLimiter = rateLimiter;
+        this.restClient = restClient;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kis-token-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 현재 접근 토큰 반환
+     * 기동 직후 첫 토큰이 아직 없으면 API_READ_TIMEOUT_MS 까지 대기한다.
+     * @return 접근 토큰
+     * @throws ApiException 첫 토큰 대기 시간이 초과되었거나, 재발급이 계속 실패해 토큰이 만료된 경우
+     */
+    public KisAccessToken getToken() {
+        KisAccessToken token = current;
+        if (token == null) {
+            token = awaitFirstToken();
+        }
+        if (token.isExpired(Instant.now())) {
+            // 만료된 토큰으로 호출하지 않고, 백그라운드 재발급이 성공할 때까지 실패시킨다
+            throw ApiException.externalApiException("KIS 접근 토큰이 만료되었고 재발급에 실패했습니다", null);
+        }
+        return token;
+    }
+
+    /**
+     * authorization 헤더 값 반환
+     * @return "Bearer {토큰}"
+     */
+    public String getAuthorizationHeader() {
+        return getToken().getAuthorizationHeader();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        KisAccessToken stored = tokenStore.load()
+            .filter(this::isReusable)
+            .orElse(null);
+
+        if (stored != null) {
+            log.info("저장된 KIS 토큰 재사용 (만료: {})", stored.getExpiresAt());
+            accept(stored);
+        } else {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 토큰 재발급 (백그라운드 스레드)
+     */
+    private void refresh() {
+        if (!running) {
+            return;
+        }
+        try {
+            KisAccessToken token = issue();
+            tokenStore.save(token);
+            failures = 0;
+            log.info("KIS 토큰 발급 완료 (만료: {})", token.getExpiresAt());
+            accept(token);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 (stop 이 스케줄러를 닫음)
+            log.debug("KIS 토큰 재발급 예약 생략: 종료 중");
+        } catch (RuntimeException e) {
+            if (!running || scheduler.isShutdown()) {
+                return;
+            }
+            // 기존 토큰을 유지한 채 지수 백오프로 재시도
+            long delay = ApiConstants.API_RETRY_DELAY_MS * (1L << Math.min(failures++, 6));
+            log.error("KIS 토큰 발급 실패, {}ms 후 재시도: {}", delay, e.getMessage());
+            scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private KisAccessToken awaitFirstToken() {
+        try {
+            firstToken.get(ApiConstants.API_READ_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return current;
+        } catch (TimeoutException e) {
+            throw ApiException.externalApiException("KIS 접근 토큰 발급 대기 시간이 초과되었습니다", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ApiException.externalApiException("KIS 접근 토큰 대기 중 인터럽트가 발생했습니다", e);
+        } catch (Exception e) {
+            throw ApiException.externalApiException("KIS 접근 토큰을 발급받지 못했습니다", e);
+        }
+    }
+
+    private void accept(KisAccessToken token) {
+        current = token;
+        firstToken.complete(token);
+
+        long delay = Math.max(0, Duration.between(Instant.now(),
+            token.refreshAt(properties.getToken().getRefreshRatio())).toMillis());
+        scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private KisAccessToken issue() {
+        rateLimiter.acquire(KisRequestPriority.ORDER);
+
+        TokenResponse response;
+        try {
+            response = restClient.post()
+                .uri(ApiConstants.KIS_TOKEN_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of(
+                    "grant_type", "client_credentials",
+                    "appkey", properties.getAppKey(),
+                    "appsecret", properties.getAppSecret()))
+                .retrieve()
+                .body(TokenResponse.class);
+        } catch (RestClientException e) {
+            throw ApiException.externalApiException("KIS 토큰 발급 요청에 실패했습니다", e);
+        }
+
+        if (response == null || response.getAccessToken() == null) {
+            throw ApiException.externalApiException("KIS 토큰 발급 응답이 비어 있습니다", null);
+        }
+
+        Instant now = Instant.now();
+        long expiresIn = response.getExpiresIn() > 0 ? response.getExpiresIn() : ApiConstants.API_TOKEN_EXPIRY_SECONDS;
+        return new KisAccessToken(response.getAccessToken(), now, now.plusSeconds(expiresIn),
+            environment(), appKeyDigest());
+    }
+
+    private boolean isReusable(KisAccessToken token) {
+        return token.getAccessToken() != null
+            && token.getIssuedAt() != null
+            && token.getExpiresAt() != null
+            && environment().equals(token.getEnvironment())
+            && appKeyDigest().equals(token.getAppKeyDigest())
+            && Instant.now().plus(MIN_REMAINING).isBefore(token.getExpiresAt());
+    }
+
+    private String environment() {
+        return properties.isVirtual() ? "virtual" : "real";
+    }
+
+    private String appKeyDigest() {
+        return Integer.toHexString(String.valueOf(properties.getAppKey()).hashCode());
+    }
+
+    /**
+     * 토큰 발급 응답
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class TokenResponse {
+
+        @JsonProperty("access_token")
+        private String accessToken;
+
+        @JsonProperty("token_type")
+        private String tokenType;
+
+        @JsonProperty("expires_in")
+        private long expiresIn;
+    }
+}
@@ -0,0 +1,85 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+
+/**
+ * KIS 접근 토큰 파일 저장소
+ *
+ * 재시작 시 하루 발급 횟수가 제한된 토큰을 새로 받지 않도록 마지막 토큰을 파일로 보관한다.
+ * 임시 파일에 쓴 뒤 교체하여 기록 도중 종료되어도 이전 토큰 파일이 깨지지 않는다.
+ */
+public class KisTokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger(KisTokenStore.class);
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 생성자
+     * @param path 토큰 파일 경로
+     * @param objectMapper JSON 변환기
+     */
+    public KisTokenStore(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 저장된 토큰 읽기
+     * @return 저장된 토큰, 없거나 읽을 수 없으면 empty
+     */
+    public Optional<KisAccessToken> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(path.toFile(), KisAccessToken.class));
+        } catch (IOException e) {
+            log.warn("저장된 KIS 토큰을 읽을 수 없습니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 토큰 저장
+     * @param token 접근 토큰
+     */
+    public void save(KisAccessToken token) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(temp, objectMapper.writeValueAsBytes(token));
+            restrictPermissions(temp);
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // 저장 실패는 재시작 시 재발급으로 이어질 뿐이므로 거래를 막지 않는다
+            log.warn("KIS 토큰 저장에 실패했습니다: {}", e.getMessage());
+        }
+    }
+
+    private static void restrictPermissions(Path file) {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            // POSIX 권한을 지원하지 않는 파일 시스템
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.setlog.setstock.kis;
+
+import lombok.Getter;
+import net.setlog.setstock.common.constants.ApiConstants;
+
+/**
+ * KIS REST 거래(TR) 정의
+ *
+ * TR 마다 경로, HTTP 메소드, 호출 우선순위, 재시도 가능 여부(멱등성)를 고정한다.
+ * 주문 TR 은 같은 요청을 다시 보내면 중복 체결될 수 있으므로 요청이 서버에 도달하지 않은 경우에만 재시도한다.
+ */
+@Getter
+public enum KisTr {
+
+    PRICE(ApiConstants.TR_ID_PRICE, ApiConstants.KIS_PRICE_PATH, "GET", true),
+    DAILY_PRICE(ApiConstants.TR_ID_DAILY_PRICE, ApiConstants.KIS_DAILY_PRICE_PATH, "GET", true),
+    MINUTE_PRICE(ApiConstants.TR_ID_MINUTE_PRICE, ApiConstants.KIS_MINUTE_PRICE_PATH, "GET", true),
+    ACCOUNT(ApiConstants.TR_ID_ACCOUNT, ApiConstants.KIS_ACCOUNT_PATH, "GET", true),
+    BUY_ORDER(ApiConstants.TR_ID_BUY_ORDER, ApiConstants.KIS_ORDER_PATH, "POST", false),
+    SELL_ORDER(ApiConstants.TR_ID_SELL_ORDER, ApiConstants.KIS_ORDER_PATH, "POST", false),
+    CANCEL_ORDER(ApiConstants.TR_ID_CANCEL_ORDER, ApiConstants.KIS_ORDER_PATH, "POST", false);
+
+    private final String trId;          // 실전투자 TR ID
+    private final String path;          // API 경로
+    private final String method;        // HTTP 메소드
+    private final boolean idempotent;   // 같은 요청을 반복해도 결과가 같은지 여부
+    private final KisRequestPriority priority;
+
+    KisTr(String trId, String path, String method, boolean idempotent) {
+        this.trId = trId;
+        this.path = path;
+        this.method = method;
+        this.idempotent = idempotent;
+        this.priority = KisRequestPriority.of(trId);
+    }
+
+    /**
+     * 실전/모의 구분에 따른 TR ID 반환 (모의투자 거래 TR 은 T 대신 V 로 시작)
+     * @param virtual 모의투자 여부
+     * @return TR ID
+     */
+    public String getTrId(boolean virtual) {
+        return virtual && trId.startsWith("TTTC") ? "V" + trId.substring(1) : trId;
+    }
+}
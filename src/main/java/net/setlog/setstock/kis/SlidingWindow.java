@@ -0,0 +1,94 @@
+package net.setlog.setstock.kis;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 슬라이딩 윈도우 호출 기록
+ *
+ * 최근 limit 건의 허가 시각을 원형 배열에 기록하고, limit 번째 이전 허가가 window 이전이면 새 호출을 허가한다.
+ * 버킷 방식과 달리 경계에서 2배 버스트가 생기지 않아 어떤 구간을 잘라도 limit 건을 넘지 않는다.
+ * 허가 시각은 호출자가 넘긴 값이 아니라 허가 순간에 clock 에서 다시 읽어 기록한다.
+ */
+final class SlidingWindow {
+
+    private final long windowNanos;
+    private final int limit;
+    private final AtomicLongArray grants;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongSupplier clock;
+
+    /**
+     * 생성자
+     * @param limit 윈도우당 최대 호출 수
+     * @param windowNanos 윈도우 길이 (나노초)
+     * @param clock 나노초 시계 (System::nanoTime)
+     */
+    SlidingWindow(int limit, long windowNanos, LongSupplier clock) {
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.grants = new AtomicLongArray(limit);
+        long now = clock.getAsLong();
+        for (int i = 0; i < limit; i++) {
+            grants.set(i, now - windowNanos);
+        }
+    }
+
+    /**
+     * 허가까지 남은 대기 시간
+     * @param now 현재 시각
+     * @return 대기 시간 (나노초), 즉시 허가 가능하면 0
+     */
+    long waitNanos(long now) {
+        long oldest = grants.get((int) (sequence.get() % limit));
+        return Math.max(0, oldest + windowNanos - now);
+    }
+
+    /**
+     * 호출 허가 시도
+     * @return 허가 순번 (cancel 에 사용), 허가하지 않으면 -1
+     */
+    long tryAcquire() {
+        while (true) {
+            long seq = sequence.get();
+            int slot = (int) (seq % limit);
+            long now = clock.getAsLong();
+            if (now - grants.get(slot) < windowNanos) {
+                return -1;
+            }
+            if (sequence.compareAndSet(seq, seq + 1)) {
+                grants.set(slot, now);
+                return seq;
+            }
+        }
+    }
+
+    /**
+     * 호출하지 않은 허가 반납
+     * 슬롯을 만료된 시각으로 되돌리고, 그 사이 다른 허가가 없었으면 순번도 되돌려 바로 다시 쓸 수 있게 한다.
+     * 다른 허가가 이미 뒤에 붙었으면 원형 배열이 한 바퀴 돌아 이 슬롯에 올 때 허가된다.
+     * @param ticket tryAcquire 가 돌려준 순번
+     */
+    void cancel(long ticket) {
+        grants.set((int) (ticket % limit), clock.getAsLong() - windowNanos);
+        sequence.compareAndSet(ticket + 1, ticket);
+    }
+
+    /**
+     * 현재 윈도우 안에서 남은 호출 수 (모니터링용 근사치)
+     * @param now 현재 시각
+     * @return 남은 호출 수
+     */
+    int available(long now) {
+        long seq = sequence.get();
+        int available = 0;
+        for (int i = 0; i < limit; i++) {
+            if (now - grants.get((int) ((seq + i) % limit)) >= windowNanos) {
+                available++;
+            }
+        }
+        return available;
+    }
+}
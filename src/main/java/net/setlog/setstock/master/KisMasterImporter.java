@@ -0,0 +1,233 @@
+package net.setlog.setstock.master;
+
+import net.setlog.setstock.common.util.Price;
+import net.setlog.setstock.common.util.ValidationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * KIS 종목 마스터(kospi_code.mst, kosdaq_code.mst) 변환기
+ *
+ * MS949 로 인코딩된 KIS 마스터 레코드를 읽어 StockMasterFormat 고정 레코드 바이너리 파일로 저장한다.
+ * 레코드 앞부분은 단축코드(9) + 표준코드(12) + 한글명(가변)이고, 끝의 고정 영역(시장별 길이)은
+ * KIS 샘플 코드의 필드 명세를 따른다. 6자리 숫자가 아닌 코드(ETN 등)는 건너뛴다.
+ */
+public final class KisMasterImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(KisMasterImporter.class);
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    // 레코드 앞부분 (바이트)
+    private static final int SHORT_CODE_LENGTH = 9;
+    private static final int STANDARD_CODE_LENGTH = 12;
+
+    // 고정 영역 내 오프셋 (그룹코드 2, 시가총액규모 1, 업종 대/중/소분류 4/4/4 이후 시장별 플래그가 이어짐)
+    private static final int GROUP_CODE_OFFSET = 0;
+    private static final int SECTOR_CODE_OFFSET = 3;
+    private static final int KOSPI_BASE_PRICE_OFFSET = 41;   // 플래그 26개 이후
+    private static final int KOSDAQ_BASE_PRICE_OFFSET = 36;  // 플래그 21개 이후
+    // 기준가(9) 기준 상대 오프셋
+    private static final int LOT_SIZE_DELTA = 9;             // 매매수량단위(5)
+    private static final int SUSPENDED_DELTA = 19;           // 거래정지 (Y/N)
+    private static final int LIQUIDATION_DELTA = 20;         // 정리매매 (Y/N)
+    private static final int ADMINISTRATIVE_DELTA = 21;      // 관리종목 (Y/N)
+
+    private KisMasterImporter() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * KIS 마스터 파일들을 바이너리 마스터 파일로 변환
+     * 같은 종목이 여러 파일에 있으면 먼저 나온 레코드를 사용한다.
+     * @param kospiFile kospi_code.mst 경로 (없으면 null)
+     * @param kosdaqFile kosdaq_code.mst 경로 (없으면 null)
+     * @param output 출력 파일 경로
+     * @return 저장된 종목 수
+     */
+    public static int importFiles(Path kospiFile, Path kosdaqFile, Path output) {
+        List<StockMaster> stocks = new ArrayList<>();
+        if (kospiFile != null) {
+            stocks.addAll(read(kospiFile, Market.KOSPI));
+        }
+        if (kosdaqFile != null) {
+            stocks.addAll(read(kosdaqFile, Market.KOSDAQ));
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<StockMaster> unique = new ArrayList<>(stocks.size());
+        for (StockMaster stock : stocks) {
+            if (seen.add(stock.getStockCode())) {
+                unique.add(stock);
+            }
+        }
+        unique.sort(Comparator.comparing(StockMaster::getStockCode));
+
+        write(unique, output);
+        log.info("종목 마스터 변환 완료: {}건 -> {}", unique.size(), output);
+        return unique.size();
+    }
+
+    /**
+     * KIS 마스터 파일 읽기
+     * @param file 마스터 파일 경로
+     * @param market 시장 구분
+     * @return 종목 목록
+     */
+    static List<StockMaster> read(Path file, Market market) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("종목 마스터 파일을 읽을 수 없습니다: " + file, e);
+        }
+
+        List<StockMaster> stocks = new ArrayList<>();
+        int skipped = 0;
+        int start = 0;
+        for (int i = 0; i <= content.length; i++) {
+            if (i < content.length && content[i] != '\n') {
+                continue;
+            }
+            int end = i > start && content[i - 1] == '\r' ? i - 1 : i;
+            if (end > start) {
+                StockMaster stock = parse(content, start, end, market);
+                if (stock != null) {
+                    stocks.add(stock);
+                } else {
+                    skipped++;
+                }
+            }
+            start = i + 1;
+        }
+
+        log.info("{} 종목 마스터 읽기: {}건 (제외 {}건)", market, stocks.size(), skipped);
+        return stocks;
+    }
+
+    /**
+     * 마스터 레코드 한 줄 파싱
+     * @return 종목 정보, 지원하지 않는 레코드면 null
+     */
+    static StockMaster parse(byte[] line, int start, int end, Market market) {
+        int tail = end - market.getTailLength();
+        if (tail < start + SHORT_CODE_LENGTH + STANDARD_CODE_LENGTH) {
+            return null;
+        }
+
+        String stockCode = ascii(line, start, SHORT_CODE_LENGTH);
+        if (!ValidationUtils.isValidStockCode(stockCode)) {
+            return null;
+        }
+        String standardCode = ascii(line, start + SHORT_CODE_LENGTH, STANDARD_CODE_LENGTH);
+        int nameStart = start + SHORT_CODE_LENGTH + STANDARD_CODE_LENGTH;
+        String name = new String(line, nameStart, tail - nameStart, MS949).trim();
+
+        int basePriceOffset = tail + (market == Market.KOSPI ? KOSPI_BASE_PRICE_OFFSET : KOSDAQ_BASE_PRICE_OFFSET);
+        long basePrice = number(line, basePriceOffset, 9);
+
+        return StockMaster.builder()
+            .stockCode(stockCode)
+            .standardCode(standardCode)
+            .name(name)
+            .market(market)
+            .groupCode(ascii(line, tail + GROUP_CODE_OFFSET, 2))
+            .sectorCode(ascii(line, tail + SECTOR_CODE_OFFSET, 4))
+            .basePrice(basePrice)
+            .tickSize(Price.tickSize(basePrice))
+            .lotSize((int) number(line, basePriceOffset + LOT_SIZE_DELTA, 5))
+            .suspended(line[basePriceOffset + SUSPENDED_DELTA] == 'Y')
+            .liquidation(line[basePriceOffset + LIQUIDATION_DELTA] == 'Y')
+            .administrative(line[basePriceOffset + ADMINISTRATIVE_DELTA] == 'Y')
+            .build();
+    }
+
+    /**
+     * 고정 레코드 바이너리 파일 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    static void write(List<StockMaster> stocks, Path output) {
+        ByteBuffer buffer = ByteBuffer.allocate(StockMasterFormat.HEADER_SIZE
+            + stocks.size() * StockMasterFormat.RECORD_SIZE);
+        buffer.putInt(StockMasterFormat.MAGIC)
+            .putInt(StockMasterFormat.VERSION)
+            .putInt(stocks.size())
+            .putInt(StockMasterFormat.RECORD_SIZE)
+            .putLong(System.currentTimeMillis())
+            .putLong(0);
+
+        for (StockMaster stock : stocks) {
+            int base = buffer.position();
+            int flags = (stock.isSuspended() ? StockMasterFormat.FLAG_SUSPENDED : 0)
+                | (stock.isLiquidation() ? StockMasterFormat.FLAG_LIQUIDATION : 0)
+                | (stock.isAdministrative() ? StockMasterFormat.FLAG_ADMINISTRATIVE : 0);
+            byte[] name = StockMasterFormat.encodeName(stock.getName());
+
+            buffer.putInt(base + StockMasterFormat.STOCK_CODE, ValidationUtils.parseStockCode(stock.getStockCode()));
+            buffer.put(base + StockMasterFormat.MARKET, (byte) stock.getMarket().getCode());
+            buffer.put(base + StockMasterFormat.FLAGS, (byte) flags);
+            putAscii(buffer, base + StockMasterFormat.GROUP_CODE, stock.getGroupCode(), 2);
+            putAscii(buffer, base + StockMasterFormat.SECTOR_CODE, stock.getSectorCode(), 4);
+            putAscii(buffer, base + StockMasterFormat.STANDARD_CODE, stock.getStandardCode(), 12);
+            buffer.putLong(base + StockMasterFormat.BASE_PRICE, stock.getBasePrice());
+            buffer.putInt(base + StockMasterFormat.TICK_SIZE, (int) stock.getTickSize());
+            buffer.putInt(base + StockMasterFormat.LOT_SIZE, stock.getLotSize());
+            buffer.put(base + StockMasterFormat.NAME_LENGTH, (byte) name.length);
+            buffer.put(base + StockMasterFormat.NAME, name);
+            buffer.position(base + StockMasterFormat.RECORD_SIZE);
+        }
+        buffer.flip();
+
+        try {
+            Path parent = output.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "stock-master", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("종목 마스터 파일을 저장할 수 없습니다: " + output, e);
+        }
+    }
+
+    private static String ascii(byte[] line, int offset, int length) {
+        return new String(line, offset, length, StandardCharsets.US_ASCII).trim();
+    }
+
+    private static long number(byte[] line, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = line[i] - '0';
+            if (digit >= 0 && digit <= 9) {
+                value = value * 10 + digit;
+            }
+        }
+        return value;
+    }
+
+    private static void putAscii(ByteBuffer buffer, int offset, String value, int length) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + i, i < bytes.length ? bytes[i] : (byte) ' ');
+        }
+    }
+}
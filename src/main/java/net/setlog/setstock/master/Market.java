@@ -0,0 +1,48 @@
+package net.setlog.setstock.master;
+
+/**
+ * 상장 시장 구분
+ */
+public enum Market {
+
+    KOSPI(1, 228),   // 유가증권시장 (kospi_code.mst 고정 영역 228바이트)
+    KOSDAQ(2, 222);  // 코스닥시장 (kosdaq_code.mst 고정 영역 222바이트)
+
+    private final int code;
+    private final int tailLength;
+
+    Market(int code, int tailLength) {
+        this.code = code;
+        this.tailLength = tailLength;
+    }
+
+    /**
+     * 바이너리 마스터 파일의 시장 코드
+     * @return 시장 코드
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * KIS 종목 마스터 레코드 끝의 고정 길이 영역 크기
+     * @return 바이트 수
+     */
+    int getTailLength() {
+        return tailLength;
+    }
+
+    /**
+     * 시장 코드로 조회
+     * @param code 시장 코드
+     * @return Market
+     */
+    public static Market of(int code) {
+        for (Market market : values()) {
+            if (market.code == code) {
+                return market;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시장 코드입니다: " + code);
+    }
+}
@@ -0,0 +1,43 @@
+package net.setlog.setstock.master;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.common.cache.Weighable;
+
+/**
+ * 종목 기본 정보 (KIS 종목 마스터)
+ *
+ * stockCache 에 종목 코드 키로 저장되는 불변 객체
+ */
+@Getter
+@ToString
+@Builder
+public class StockMaster implements Weighable {
+
+    private final String stockCode;     // 단축 종목 코드 (예: 005930)
+    private final String standardCode;  // 표준 코드 (ISIN)
+    private final String name;          // 한글 종목명
+    private final Market market;        // 시장 구분
+    private final String groupCode;     // 증권 그룹 구분 (ST: 주권, EF: ETF, ...)
+    private final String sectorCode;    // 지수 업종 대분류 코드
+    private final long basePrice;       // 기준가
+    private final long tickSize;        // 기준가의 호가 단위
+    private final int lotSize;          // 정규장 매매 수량 단위
+    private final boolean suspended;        // 거래정지
+    private final boolean liquidation;      // 정리매매
+    private final boolean administrative;   // 관리종목
+
+    /**
+     * 정상 매매 가능 여부
+     * @return 거래정지/정리매매가 아니면 true
+     */
+    public boolean isTradable() {
+        return !suspended && !liquidation;
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return 200;
+    }
+}
@@ -0,0 +1,168 @@
+package net.setlog.setstock.master;
+
+import net.setlog.setstock.symbol.SymbolRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 메모리 매핑된 바이너리 종목 마스터
+ *
+ * 파일 전체를 읽기 전용으로 매핑하고, 열 때 각 종목을 SymbolRegistry 에 등록하여 종목 id → 레코드 위치 배열을 만든다.
+ * 이후 조회는 배열 색인과 매핑 영역 절대 읽기뿐이므로 기동 직후에도 디스크/DB 왕복 없이 응답한다.
+ */
+public final class StockMasterFile {
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final long createdAt;
+    private final int[] recordBySymbol = new int[SymbolRegistry.MAX_SYMBOLS];
+    private final SymbolRegistry symbolRegistry;
+
+    private StockMasterFile(Path path, MappedByteBuffer buffer, SymbolRegistry symbolRegistry) {
+        this.path = path;
+        this.buffer = buffer;
+        this.symbolRegistry = symbolRegistry;
+
+        if (buffer.capacity() < StockMasterFormat.HEADER_SIZE
+            || buffer.getInt(0) != StockMasterFormat.MAGIC
+            || buffer.getInt(4) != StockMasterFormat.VERSION
+            || buffer.getInt(12) != StockMasterFormat.RECORD_SIZE) {
+            throw new IllegalStateException("종목 마스터 파일 형식이 올바르지 않습니다: " + path);
+        }
+        this.count = buffer.getInt(8);
+        this.createdAt = buffer.getLong(16);
+        if ((long) StockMasterFormat.HEADER_SIZE + (long) count * StockMasterFormat.RECORD_SIZE > buffer.capacity()) {
+            throw new IllegalStateException("종목 마스터 파일이 잘려 있습니다: " + path);
+        }
+
+        Arrays.fill(recordBySymbol, -1);
+        for (int i = 0; i < count; i++) {
+            int id = symbolRegistry.register(buffer.getInt(offset(i) + StockMasterFormat.STOCK_CODE));
+            recordBySymbol[id] = i;
+        }
+    }
+
+    /**
+     * 바이너리 종목 마스터 파일 매핑
+     * @param path 파일 경로
+     * @param symbolRegistry 종목 레지스트리 (파일의 모든 종목을 등록)
+     * @return 매핑된 종목 마스터
+     */
+    public static StockMasterFile open(Path path, SymbolRegistry symbolRegistry) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.load();  // 기동 시 미리 페이지를 올려 첫 조회 지연 제거
+            return new StockMasterFile(path, buffer, symbolRegistry);
+        } catch (IOException e) {
+            throw new UncheckedIOException("종목 마스터 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 종목 수
+     * @return 레코드 수
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 파일 생성 시각
+     * @return epoch millis
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * 파일 경로
+     * @return 경로
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 종목 정보 조회
+     * @param stockCode 종목 코드
+     * @return 종목 정보, 없으면 empty
+     */
+    public Optional<StockMaster> find(String stockCode) {
+        int record = record(symbolRegistry.idOf(stockCode));
+        return record < 0 ? Optional.empty() : Optional.of(read(record));
+    }
+
+    /**
+     * 기준가 조회 (객체 생성 없음)
+     * @param symbolId 종목 id
+     * @return 기준가, 없으면 0
+     */
+    public long basePrice(int symbolId) {
+        int record = record(symbolId);
+        return record < 0 ? 0 : buffer.getLong(offset(record) + StockMasterFormat.BASE_PRICE);
+    }
+
+    /**
+     * 매매 가능 여부 조회 (객체 생성 없음)
+     * @param symbolId 종목 id
+     * @return 마스터에 있고 거래정지/정리매매가 아니면 true
+     */
+    public boolean isTradable(int symbolId) {
+        int record = record(symbolId);
+        if (record < 0) {
+            return false;
+        }
+        int flags = buffer.get(offset(record) + StockMasterFormat.FLAGS);
+        return (flags & (StockMasterFormat.FLAG_SUSPENDED | StockMasterFormat.FLAG_LIQUIDATION)) == 0;
+    }
+
+    /**
+     * 레코드 번호로 종목 정보 생성
+     * @param record 레코드 번호 (0 ~ size - 1)
+     * @return 종목 정보
+     */
+    public StockMaster read(int record) {
+        int base = offset(record);
+        int flags = buffer.get(base + StockMasterFormat.FLAGS);
+        byte[] name = new byte[buffer.get(base + StockMasterFormat.NAME_LENGTH) & 0xFF];
+        buffer.get(base + StockMasterFormat.NAME, name);
+
+        return StockMaster.builder()
+            .stockCode(String.format("%06d", buffer.getInt(base + StockMasterFormat.STOCK_CODE)))
+            .standardCode(ascii(base + StockMasterFormat.STANDARD_CODE, 12))
+            .name(new String(name, StandardCharsets.UTF_8))
+            .market(Market.of(buffer.get(base + StockMasterFormat.MARKET)))
+            .groupCode(ascii(base + StockMasterFormat.GROUP_CODE, 2))
+            .sectorCode(ascii(base + StockMasterFormat.SECTOR_CODE, 4))
+            .basePrice(buffer.getLong(base + StockMasterFormat.BASE_PRICE))
+            .tickSize(buffer.getInt(base + StockMasterFormat.TICK_SIZE))
+            .lotSize(buffer.getInt(base + StockMasterFormat.LOT_SIZE))
+            .suspended((flags & StockMasterFormat.FLAG_SUSPENDED) != 0)
+            .liquidation((flags & StockMasterFormat.FLAG_LIQUIDATION) != 0)
+            .administrative((flags & StockMasterFormat.FLAG_ADMINISTRATIVE) != 0)
+            .build();
+    }
+
+    private int record(int symbolId) {
+        return symbolId < 0 || symbolId >= recordBySymbol.length ? -1 : recordBySymbol[symbolId];
+    }
+
+    private static int offset(int record) {
+        return StockMasterFormat.HEADER_SIZE + record * StockMasterFormat.RECORD_SIZE;
+    }
+
+    private String ascii(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII).trim();
+    }
+}
@@ -0,0 +1,55 @@
+package net.setlog.setstock.master;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 종목 마스터 파일 형식
+ *
+ * 헤더(32바이트) 뒤에 종목당 RECORD_SIZE 바이트 고정 레코드가 종목 코드 오름차순으로 이어진다.
+ * 모든 정수는 빅 엔디언이며, 문자열은 고정 길이 ASCII 또는 길이 접두 UTF-8 이다.
+ */
+final class StockMasterFormat {
+
+    static final int MAGIC = 0x5353_544D;  // "SSTM"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;     // magic(4) version(4) count(4) recordSize(4) createdAt(8) reserved(8)
+    static final int RECORD_SIZE = 128;
+
+    // 레코드 내 오프셋
+    static final int STOCK_CODE = 0;       // int
+    static final int MARKET = 4;           // byte
+    static final int FLAGS = 5;            // byte
+    static final int GROUP_CODE = 6;       // ASCII 2
+    static final int SECTOR_CODE = 8;      // ASCII 4
+    static final int STANDARD_CODE = 12;   // ASCII 12
+    static final int BASE_PRICE = 24;      // long
+    static final int TICK_SIZE = 32;       // int
+    static final int LOT_SIZE = 36;        // int
+    static final int NAME_LENGTH = 40;     // byte
+    static final int NAME = 41;            // UTF-8
+    static final int NAME_CAPACITY = RECORD_SIZE - NAME;
+
+    static final int FLAG_SUSPENDED = 1;
+    static final int FLAG_LIQUIDATION = 1 << 1;
+    static final int FLAG_ADMINISTRATIVE = 1 << 2;
+
+    private StockMasterFormat() {
+    }
+
+    /**
+     * 이름을 UTF-8 로 인코딩하되 글자 경계를 지켜 NAME_CAPACITY 이내로 자름
+     */
+    static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= NAME_CAPACITY) {
+            return bytes;
+        }
+        int end = NAME_CAPACITY;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;  // UTF-8 연속 바이트 중간이면 앞 글자 경계로
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+}
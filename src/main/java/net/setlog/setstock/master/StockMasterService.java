@@ -0,0 +1,163 @@
+package net.setlog.setstock.master;
+
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.common.config.KisProperties;
+import net.setlog.setstock.common.util.ValidationUtils;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 종목 마스터 서비스
+ *
+ * 기동 시 바이너리 종목 마스터(kis.master.path)를 메모리 매핑하고 전 종목을 stockCache 에 적재한다.
+ * KIS 마스터 원본(kis.master.kospi-file, kosdaq-file)이 바이너리보다 새로우면 먼저 변환한다.
+ * 장중 재배포 직후에도 DB 나 REST 호출 없이 종목 정보를 바로 조회할 수 있다.
+ */
+@Service
+public class StockMasterService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(StockMasterService.class);
+
+    private final KisProperties.Master properties;
+    private final SymbolRegistry symbolRegistry;
+    private final Cache stockCache;
+
+    // 파일 I/O 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile StockMasterFile masterFile;
+    private volatile boolean running;
+
+    /**
+     * 생성자
+     * @param kisProperties KIS 설정
+     * @param symbolRegistry 종목 레지스트리
+     * @param cacheManager 캐시 매니저
+     */
+    public StockMasterService(KisProperties kisProperties, SymbolRegistry symbolRegistry, CacheManager cacheManager) {
+        this.properties = kisProperties.getMaster();
+        this.symbolRegistry = symbolRegistry;
+        this.stockCache = cacheManager.getCache(CacheConfig.STOCK_CACHE);
+    }
+
+    @Override
+    public void start() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 종목 마스터가 없어도 시세/주문 경로는 동작하므로 기동은 계속
+            log.error("종목 마스터 로드 실패: {}", e.getMessage(), e);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 종목 마스터 다시 읽기 (원본이 갱신되었으면 변환 후 매핑)
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            Path binary = Path.of(properties.getPath());
+            Path kospi = source(properties.getKospiFile());
+            Path kosdaq = source(properties.getKosdaqFile());
+
+            if ((kospi != null || kosdaq != null) && isStale(binary, kospi, kosdaq)) {
+                KisMasterImporter.importFiles(kospi, kosdaq, binary);
+            }
+            if (!Files.exists(binary)) {
+                log.warn("종목 마스터 파일이 없습니다: {}", binary);
+                return;
+            }
+
+            StockMasterFile file = StockMasterFile.open(binary, symbolRegistry);
+            if (stockCache != null) {
+                for (int i = 0; i < file.size(); i++) {
+                    StockMaster stock = file.read(i);
+                    stockCache.put(stock.getStockCode(), stock);
+                }
+            }
+            masterFile = file;
+            log.info("종목 마스터 로드: {}건, {}ms", file.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 종목 정보 조회 (stockCache → 매핑된 마스터 순)
+     * @param stockCode 종목 코드
+     * @return 종목 정보, 없으면 empty
+     */
+    public Optional<StockMaster> getStock(String stockCode) {
+        ValidationUtils.validateStockCode(stockCode, "유효하지 않은 종목 코드입니다: " + stockCode);
+        if (stockCache != null) {
+            StockMaster cached = stockCache.get(stockCode, StockMaster.class);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        StockMasterFile file = masterFile;
+        if (file == null) {
+            return Optional.empty();
+        }
+        Optional<StockMaster> stock = file.find(stockCode);
+        if (stockCache != null) {
+            stock.ifPresent(value -> stockCache.put(stockCode, value));
+        }
+        return stock;
+    }
+
+    /**
+     * 매핑된 종목 마스터 (원시 값 조회용)
+     * @return 종목 마스터 파일, 로드 전이면 empty
+     */
+    public Optional<StockMasterFile> getMasterFile() {
+        return Optional.ofNullable(masterFile);
+    }
+
+    private static Path source(String file) {
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    private static boolean isStale(Path binary, Path... sources) {
+        try {
+            if (!Files.exists(binary)) {
+                return true;
+            }
+            long binaryModified = Files.getLastModifiedTime(binary).toMillis();
+            for (Path source : sources) {
+                if (source != null && Files.exists(source)
+                    && Files.getLastModifiedTime(source).toMillis() > binaryModified) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("종목 마스터 파일 상태를 확인할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.setlog.setstock.order;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import net.setlog.setstock.timer.TimingWheel;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 상태
+ *
+ * CREATED 이벤트로 생성하고 이후 이벤트를 apply 로 반영한다. 실시간 처리와 저널 재생이 같은 apply 를 거치므로
+ * 재기동 후 복원한 상태가 장중 상태와 같다. 상태 변경은 OrderManager 가 lock 을 잡고 수행한다.
+ */
+@Getter
+@ToString(exclude = {"lock", "expiry"})
+public class Order {
+
+    private final String orderId;
+    private final String accountNo;
+    private final String strategyId;
+    private final int stockCode;
+    private final OrderSide side;
+    private final long price;
+    private final long quantity;
+    private final long createdAt;
+
+    private OrderStatus status = OrderStatus.CREATED;
+    private long filledQuantity;   // 누적 체결 수량
+    private long filledAmount;     // 누적 체결 금액 (원)
+    private String brokerOrderNo;  // 증권사 주문번호
+    private long updatedAt;
+
+    @Getter(AccessLevel.NONE)
+    final ReentrantLock lock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    volatile TimingWheel.Timeout expiry;  // 폐장 만료 타이머
+
+    private Order(OrderEvent created) {
+        this.orderId = created.getOrderId();
+        this.accountNo = created.getAccountNo();
+        this.strategyId = created.getStrategyId();
+        this.stockCode = created.getStockCode();
+        this.side = created.getSide();
+        this.price = created.getPrice();
+        this.quantity = created.getQuantity();
+        this.createdAt = created.getTimestamp();
+        this.updatedAt = created.getTimestamp();
+    }
+
+    /**
+     * CREATED 이벤트로 주문 생성
+     * @param event CREATED 이벤트
+     * @return 주문
+     */
+    static Order create(OrderEvent event) {
+        if (event.getStatus() != OrderStatus.CREATED) {
+            throw new IllegalArgumentException("CREATED 이벤트가 아닙니다: " + event);
+        }
+        return new Order(event);
+    }
+
+    /**
+     * 미체결 수량
+     * @return 주문 수량 - 누적 체결 수량
+     */
+    public long getRemainingQuantity() {
+        return quantity - filledQuantity;
+    }
+
+    /**
+     * 평균 체결 가격
+     * @return 원 단위 평균 가격, 체결이 없으면 0
+     */
+    public long getAveragePrice() {
+        return filledQuantity == 0 ? 0 : filledAmount / filledQuantity;
+    }
+
+    /**
+     * 이벤트 반영 가능 여부
+     * @param event 주문 이벤트
+     * @return 허용된 전이이고 체결 수량이 미체결 수량 이내면 true
+     */
+    boolean canApply(OrderEvent event) {
+        if (!status.canTransitionTo(event.getStatus())) {
+            return false;
+        }
+        if (event.getStatus() == OrderStatus.PARTIALLY_FILLED) {
+            return event.getFillQuantity() > 0 && event.getFillQuantity() < getRemainingQuantity();
+        }
+        if (event.getStatus() == OrderStatus.FILLED) {
+            return event.getFillQuantity() == getRemainingQuantity();
+        }
+        return true;
+    }
+
+    /**
+     * 이벤트 반영
+     * @param event 주문 이벤트 (canApply 를 통과한 것)
+     */
+    void apply(OrderEvent event) {
+        status = event.getStatus();
+        updatedAt = event.getTimestamp();
+        if (event.getFillQuantity() > 0) {
+            filledQuantity += event.getFillQuantity();
+            filledAmount += event.getFillPrice() * event.getFillQuantity();
+        }
+        if (event.getBrokerOrderNo() != null) {
+            brokerOrderNo = event.getBrokerOrderNo();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package net.setlog.setstock.order;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 주문 상태 변경 이벤트 (주문 저널 레코드 하나)
+ *
+ * CREATED 이벤트는 주문 정보 전체를, 체결 이벤트는 체결 가격/수량을, ACCEPTED 이벤트는 증권사 주문번호를 담는다.
+ * 그 외 필드는 0 또는 null 이다.
+ */
+@Getter
+@ToString
+@Builder
+public class OrderEvent {
+
+    private final String orderId;        // 주문 ID
+    private final OrderStatus status;    // 이벤트 이후 상태
+    private final long timestamp;        // 발생 시각 (epoch millis)
+
+    // CREATED
+    private final String accountNo;      // 계좌번호
+    private final String strategyId;     // 전략 ID
+    private final int stockCode;         // 종목 코드 (정수)
+    private final OrderSide side;        // 주문 방향
+    private final long price;            // 주문 가격 (원)
+    private final long quantity;         // 주문 수량
+
+    // PARTIALLY_FILLED, FILLED
+    private final long fillPrice;        // 체결 가격 (원)
+    private final long fillQuantity;     // 체결 수량
+
+    // ACCEPTED
+    private final String brokerOrderNo;  // 증권사 주문번호
+}
@@ -0,0 +1,277 @@
+package net.setlog.setstock.order;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 추가 전용 주문 저널
+ *
+ * 주문 상태 변경 이벤트를 OrderJournalFormat 고정 레코드로 매핑 영역에 덧붙인다.
+ * 쓰기는 페이지 캐시에 대한 메모리 복사뿐이므로 체결 통보 경로에 DB 왕복이 없고, 프로세스가 죽어도 기록은 남는다.
+ * 전원 장애까지 대비하려면 force 를 주기적으로 호출한다. 용량이 차면 매핑 크기를 두 배로 늘린다.
+ */
+public final class OrderJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournal.class);
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] scratch = new byte[OrderJournalFormat.RECORD_SIZE];
+    private final ByteBuffer record = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer buffer;
+    private long count;
+
+    private OrderJournal(Path path, FileChannel channel, MappedByteBuffer buffer, long count) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    /**
+     * 저널 파일 열기 (없으면 생성)
+     * @param path 파일 경로
+     * @param initialCapacity 새 파일의 초기 레코드 수
+     * @return 기록된 레코드 뒤에 이어 쓰는 저널
+     */
+    public static OrderJournal open(Path path, int initialCapacity) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                boolean created = channel.size() == 0;
+                long size = created ? bytesFor(initialCapacity) : channel.size();
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (created) {
+                    buffer.putInt(0, OrderJournalFormat.MAGIC)
+                        .putInt(4, OrderJournalFormat.VERSION)
+                        .putInt(8, OrderJournalFormat.RECORD_SIZE)
+                        .putLong(16, System.currentTimeMillis());
+                } else if (buffer.capacity() < OrderJournalFormat.HEADER_SIZE
+                    || buffer.getInt(0) != OrderJournalFormat.MAGIC
+                    || buffer.getInt(4) != OrderJournalFormat.VERSION
+                    || buffer.getInt(8) != OrderJournalFormat.RECORD_SIZE) {
+                    throw new IllegalStateException("주문 저널 파일 형식이 올바르지 않습니다: " + path);
+                }
+
+                OrderJournal journal = new OrderJournal(path, channel, buffer, 0);
+                journal.count = journal.scan(null);
+                return journal;
+            } catch (RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널 파일을 열 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 이벤트 기록
+     * @param event 주문 이벤트
+     * @return 이벤트 순번 (0부터)
+     * @throws IllegalArgumentException 문자열 필드가 레코드 용량을 넘는 경우
+     */
+    public long append(OrderEvent event) {
+        lock.lock();
+        try {
+            long sequence = count;
+            encode(event, sequence);
+            long offset = offset(sequence);
+            if (offset + OrderJournalFormat.RECORD_SIZE > buffer.capacity()) {
+                grow();
+            }
+            buffer.put((int) offset, scratch);
+            count = sequence + 1;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 이벤트를 순서대로 재생
+     * @param consumer 이벤트 소비자
+     * @return 재생한 이벤트 수
+     */
+    public long replay(Consumer<OrderEvent> consumer) {
+        lock.lock();
+        try {
+            return scan(consumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 매핑 영역을 디스크에 동기화
+     */
+    public void force() {
+        lock.lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 이벤트 수
+     * @return 레코드 수
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 파일 경로
+     * @return 경로
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널 파일을 닫을 수 없습니다: " + path, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 첫 레코드부터 유효한 레코드까지 읽기 (체크섬이 맞지 않는 레코드에서 멈춤)
+     * @param consumer 이벤트 소비자, null 이면 개수만 셈
+     * @return 유효한 레코드 수
+     */
+    private long scan(Consumer<OrderEvent> consumer) {
+        long sequence = 0;
+        while (offset(sequence) + OrderJournalFormat.RECORD_SIZE <= buffer.capacity()) {
+            buffer.get((int) offset(sequence), scratch);
+            int checksum = record.getInt(OrderJournalFormat.CHECKSUM);
+            if (checksum == 0) {
+                break;
+            }
+            if (checksum != checksum() || record.getLong(OrderJournalFormat.SEQUENCE) != sequence) {
+                log.warn("주문 저널 {} 의 {}번째 레코드가 손상되어 이후 기록을 무시합니다", path, sequence);
+                break;
+            }
+            if (consumer != null) {
+                consumer.accept(decode());
+            }
+            sequence++;
+        }
+        return sequence;
+    }
+
+    private void encode(OrderEvent event, long sequence) {
+        OrderSide side = event.getSide();
+        record.putInt(OrderJournalFormat.CHECKSUM, 0)
+            .put(OrderJournalFormat.STATUS, (byte) event.getStatus().getCode())
+            .put(OrderJournalFormat.SIDE, (byte) (side == null ? 0 : side.ordinal() + 1))
+            .putShort(6, (short) 0)
+            .putLong(OrderJournalFormat.SEQUENCE, sequence)
+            .putLong(OrderJournalFormat.TIMESTAMP, event.getTimestamp())
+            .putInt(OrderJournalFormat.STOCK_CODE, event.getStockCode())
+            .putInt(OrderJournalFormat.STOCK_CODE + 4, 0)
+            .putLong(OrderJournalFormat.PRICE, event.getPrice())
+            .putLong(OrderJournalFormat.QUANTITY, event.getQuantity())
+            .putLong(OrderJournalFormat.FILL_PRICE, event.getFillPrice())
+            .putLong(OrderJournalFormat.FILL_QUANTITY, event.getFillQuantity());
+        putAscii(OrderJournalFormat.ORDER_ID, event.getOrderId(), OrderJournalFormat.ORDER_ID_CAPACITY);
+        putAscii(OrderJournalFormat.STRATEGY_ID, event.getStrategyId(), OrderJournalFormat.STRATEGY_ID_CAPACITY);
+        putAscii(OrderJournalFormat.ACCOUNT_NO, event.getAccountNo(), OrderJournalFormat.ACCOUNT_NO_CAPACITY);
+        putAscii(OrderJournalFormat.BROKER_ORDER_NO, event.getBrokerOrderNo(), OrderJournalFormat.BROKER_ORDER_NO_CAPACITY);
+        record.putInt(OrderJournalFormat.CHECKSUM, checksum());
+    }
+
+    private OrderEvent decode() {
+        int side = record.get(OrderJournalFormat.SIDE);
+        return OrderEvent.builder()
+            .orderId(getAscii(OrderJournalFormat.ORDER_ID))
+            .status(OrderStatus.of(record.get(OrderJournalFormat.STATUS)))
+            .timestamp(record.getLong(OrderJournalFormat.TIMESTAMP))
+            .accountNo(getAscii(OrderJournalFormat.ACCOUNT_NO))
+            .strategyId(getAscii(OrderJournalFormat.STRATEGY_ID))
+            .stockCode(record.getInt(OrderJournalFormat.STOCK_CODE))
+            .side(side == 0 ? null : OrderSide.values()[side - 1])
+            .price(record.getLong(OrderJournalFormat.PRICE))
+            .quantity(record.getLong(OrderJournalFormat.QUANTITY))
+            .fillPrice(record.getLong(OrderJournalFormat.FILL_PRICE))
+            .fillQuantity(record.getLong(OrderJournalFormat.FILL_QUANTITY))
+            .brokerOrderNo(getAscii(OrderJournalFormat.BROKER_ORDER_NO))
+            .build();
+    }
+
+    /**
+     * 체크섬 영역을 제외한 레코드의 CRC32C (0 은 미기록 표시이므로 1 로 대체)
+     */
+    private int checksum() {
+        crc.reset();
+        crc.update(scratch, OrderJournalFormat.CHECKSUM + 4, OrderJournalFormat.RECORD_SIZE - 4);
+        int value = (int) crc.getValue();
+        return value == 0 ? 1 : value;
+    }
+
+    private void putAscii(int offset, String value, int capacity) {
+        int length = value == null ? 0 : value.length();
+        if (length > capacity) {
+            throw new IllegalArgumentException("주문 저널 필드 길이(" + capacity + ")를 초과했습니다: " + value);
+        }
+        record.put(offset, (byte) (value == null ? -1 : length));
+        for (int i = 0; i < capacity; i++) {
+            record.put(offset + 1 + i, i < length ? (byte) value.charAt(i) : 0);
+        }
+    }
+
+    private String getAscii(int offset) {
+        int length = record.get(offset);
+        return length < 0 ? null : new String(scratch, offset + 1, length, StandardCharsets.US_ASCII);
+    }
+
+    private void grow() {
+        long size = Math.max(bytesFor(1), (long) buffer.capacity() * 2);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("주문 저널 최대 크기를 초과했습니다: " + path);
+        }
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            log.info("주문 저널 확장: {} ({} bytes)", path, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널 파일을 확장할 수 없습니다: " + path, e);
+        }
+    }
+
+    private static long offset(long sequence) {
+        return OrderJournalFormat.HEADER_SIZE + sequence * OrderJournalFormat.RECORD_SIZE;
+    }
+
+    private static long bytesFor(int records) {
+        return offset(records);
+    }
+}
@@ -0,0 +1,40 @@
+package net.setlog.setstock.order;
+
+/**
+ * 주문 저널 파일 형식
+ *
+ * 헤더(32바이트) 뒤에 이벤트당 RECORD_SIZE 바이트 고정 레코드가 발생 순서대로 이어진다.
+ * 레코드 첫 4바이트는 나머지 바이트의 CRC32C 로, 0 이거나 맞지 않으면 기록되지 않은(또는 쓰다 끊긴) 레코드다.
+ * 모든 정수는 빅 엔디언이며, 문자열은 길이 접두 ASCII 이다.
+ */
+final class OrderJournalFormat {
+
+    static final int MAGIC = 0x5353_4F4A;  // "SSOJ"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;     // magic(4) version(4) recordSize(4) reserved(4) createdAt(8) reserved(8)
+    static final int RECORD_SIZE = 160;
+
+    // 레코드 내 오프셋
+    static final int CHECKSUM = 0;         // int
+    static final int STATUS = 4;           // byte
+    static final int SIDE = 5;             // byte (0 = 없음, 1 = 매수, 2 = 매도)
+    static final int SEQUENCE = 8;         // long
+    static final int TIMESTAMP = 16;       // long
+    static final int STOCK_CODE = 24;      // int
+    static final int PRICE = 32;           // long
+    static final int QUANTITY = 40;        // long
+    static final int FILL_PRICE = 48;      // long
+    static final int FILL_QUANTITY = 56;   // long
+    static final int ORDER_ID = 64;        // 길이(1) + ASCII 39
+    static final int STRATEGY_ID = 104;    // 길이(1) + ASCII 23
+    static final int ACCOUNT_NO = 128;     // 길이(1) + ASCII 15
+    static final int BROKER_ORDER_NO = 144;  // 길이(1) + ASCII 15
+
+    static final int ORDER_ID_CAPACITY = 39;
+    static final int STRATEGY_ID_CAPACITY = 23;
+    static final int ACCOUNT_NO_CAPACITY = 15;
+    static final int BROKER_ORDER_NO_CAPACITY = 15;
+
+    private OrderJournalFormat() {
+    }
+}
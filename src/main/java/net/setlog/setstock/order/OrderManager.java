@@ -0,0 +1,329 @@
+package net.setlog.setstock.order;
+
+import net.setlog.setstock.common.config.OrderJournalProperties;
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.util.DateTimeUtils;
+import net.setlog.setstock.common.util.ValidationResult;
+import net.setlog.setstock.risk.PreTradeRiskEngine;
+import net.setlog.setstock.risk.RiskOrder;
+import net.setlog.setstock.timer.DeadlineScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생명주기 관리자
+ *
+ * 주문 상태 전이를 OrderStatus 규칙으로 검증하고, 허용된 전이는 메모리 매핑 주문 저널에 먼저 기록한 뒤 반영한다.
+ * 상태 변경마다 JPA 로 갱신하지 않으므로 체결 통보 경로에 DB 지연이 없다.
+ * 기동 시 당일 저널을 재생하여 미체결 주문 상태와 사전 리스크 엔진 예약을 복원하고, 체결/취소/거부/만료는 예약에도 반영한다.
+ * 당일 주문이므로 미체결 주문은 폐장 시각에 DeadlineScheduler 가 EXPIRED 로 전이한다.
+ */
+@Service
+public class OrderManager implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderManager.class);
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final OrderJournalProperties properties;
+    private final PreTradeRiskEngine riskEngine;
+    private final DeadlineScheduler deadlineScheduler;
+    private final ConcurrentMap<String, Order> openOrders = new ConcurrentHashMap<>();
+
+    private volatile OrderJournal journal;
+    private volatile boolean running;
+
+    /**
+     * 생성자
+     * @param properties 주문 저널 설정
+     * @param riskEngine 사전 리스크 엔진
+     * @param deadlineScheduler 만료 스케줄러
+     */
+    public OrderManager(OrderJournalProperties properties, PreTradeRiskEngine riskEngine,
+                        DeadlineScheduler deadlineScheduler) {
+        this.properties = properties;
+        this.riskEngine = riskEngine;
+        this.deadlineScheduler = deadlineScheduler;
+    }
+
+    @Override
+    public void start() {
+        Path path = Path.of(properties.getDirectory(),
+            "orders-" + DateTimeUtils.nowKorea().toLocalDate().format(FILE_DATE) + ".journal");
+        journal = OrderJournal.open(path, properties.getInitialCapacity());
+        long events = journal.replay(this::restore);
+        for (Order order : openOrders.values()) {
+            riskEngine.restore(toRiskOrder(order), order.getRemainingQuantity());
+            scheduleExpiry(order);
+        }
+        log.info("주문 저널 재생 완료: {} (이벤트 {}건, 미체결 주문 {}건)", path, events, openOrders.size());
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        OrderJournal current = journal;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 주문 생성 (사전 리스크 점검 후 CREATED 기록)
+     * @param request 주문 요청
+     * @return 생성된 주문
+     * @throws net.setlog.setstock.common.exception.ValidationException 리스크 점검에 실패한 경우
+     * @throws BusinessException 같은 주문 ID 의 미체결 주문이 있는 경우
+     */
+    public Order create(RiskOrder request) {
+        OrderEvent event = OrderEvent.builder()
+            .orderId(request.getOrderId())
+            .status(OrderStatus.CREATED)
+            .timestamp(System.currentTimeMillis())
+            .accountNo(request.getAccountNo())
+            .strategyId(request.getStrategyId())
+            .stockCode(request.getStockCode())
+            .side(request.getSide())
+            .price(request.getPrice())
+            .quantity(request.getQuantity())
+            .build();
+        if (openOrders.containsKey(event.getOrderId())) {
+            throw BusinessException.orderException("이미 존재하는 주문입니다: " + event.getOrderId());
+        }
+
+        // 미체결 주문은 항상 예약을 갖고 있으므로 같은 주문 ID 의 동시 생성은 예약 단계에서 하나만 통과한다
+        ValidationResult result = riskEngine.reserve(request);
+        if (!result.isValid()) {
+            throw result.toException();
+        }
+        try {
+            journal.append(event);
+        } catch (RuntimeException e) {
+            riskEngine.release(event.getOrderId());
+            throw e;
+        }
+
+        // CREATED 를 기록한 뒤에 공개하여 다른 스레드의 전이가 CREATED 보다 먼저 기록되지 않게 한다
+        Order order = Order.create(event);
+        openOrders.put(order.getOrderId(), order);
+        scheduleExpiry(order);
+        return order;
+    }
+
+    /**
+     * 증권사 제출 기록
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    public Order submit(String orderId) {
+        return transition(orderId, event(orderId, OrderStatus.SUBMITTED).build());
+    }
+
+    /**
+     * 증권사 접수 기록
+     * @param orderId 주문 ID
+     * @param brokerOrderNo 증권사 주문번호
+     * @return 주문
+     */
+    public Order accept(String orderId, String brokerOrderNo) {
+        return transition(orderId, event(orderId, OrderStatus.ACCEPTED).brokerOrderNo(brokerOrderNo).build());
+    }
+
+    /**
+     * 체결 기록 (미체결 수량이 0이 되면 FILLED, 아니면 PARTIALLY_FILLED)
+     * @param orderId 주문 ID
+     * @param fillPrice 체결 가격
+     * @param fillQuantity 체결 수량
+     * @return 주문
+     */
+    public Order fill(String orderId, long fillPrice, long fillQuantity) {
+        Order order = find(orderId);
+        order.lock.lock();
+        try {
+            // 동시에 들어온 체결이 서로의 미체결 수량을 보도록 잠금 안에서 상태 결정
+            OrderStatus status = fillQuantity == order.getRemainingQuantity()
+                ? OrderStatus.FILLED
+                : OrderStatus.PARTIALLY_FILLED;
+            transition(order, event(orderId, status).fillPrice(fillPrice).fillQuantity(fillQuantity).build());
+        } finally {
+            order.lock.unlock();
+        }
+        return order;
+    }
+
+    /**
+     * 취소 확인 기록 (체결된 수량은 유지)
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    public Order cancel(String orderId) {
+        return close(orderId, OrderStatus.CANCELLED);
+    }
+
+    /**
+     * 거부 기록
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    public Order reject(String orderId) {
+        return close(orderId, OrderStatus.REJECTED);
+    }
+
+    /**
+     * 만료 기록 (장 마감 등)
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    public Order expire(String orderId) {
+        return close(orderId, OrderStatus.EXPIRED);
+    }
+
+    /**
+     * 미체결 주문 조회
+     * @param orderId 주문 ID
+     * @return 주문, 없거나 종료되었으면 empty
+     */
+    public Optional<Order> getOpenOrder(String orderId) {
+        return Optional.ofNullable(openOrders.get(orderId));
+    }
+
+    /**
+     * 미체결 주문 목록
+     * @return 읽기 전용 주문 목록
+     */
+    public Collection<Order> getOpenOrders() {
+        return Collections.unmodifiableCollection(openOrders.values());
+    }
+
+    /**
+     * 저널을 디스크에 동기화 (매 1초)
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void flushJournal() {
+        OrderJournal current = journal;
+        if (running && current != null) {
+            current.force();
+        }
+    }
+
+    private Order close(String orderId, OrderStatus status) {
+        return transition(orderId, event(orderId, status).build());
+    }
+
+    private Order transition(String orderId, OrderEvent event) {
+        return transition(find(orderId), event);
+    }
+
+    private Order transition(Order order, OrderEvent event) {
+        order.lock.lock();
+        try {
+            if (!order.canApply(event)) {
+                throw BusinessException.orderException(String.format("허용되지 않는 주문 상태 전이입니다: %s %s -> %s (미체결 %d, 체결 %d)",
+                    order.getOrderId(), order.getStatus(), event.getStatus(),
+                    order.getRemainingQuantity(), event.getFillQuantity()));
+            }
+            journal.append(event);
+            order.apply(event);
+            // 체결과 취소가 엇갈려도 저널 순서대로 예약에 반영되도록 같은 잠금 안에서 처리
+            applyRisk(event);
+            if (order.getStatus().isTerminal()) {
+                openOrders.remove(order.getOrderId(), order);
+                if (order.expiry != null) {
+                    order.expiry.cancel();
+                }
+            }
+        } finally {
+            order.lock.unlock();
+        }
+        return order;
+    }
+
+    private void applyRisk(OrderEvent event) {
+        switch (event.getStatus()) {
+            case PARTIALLY_FILLED, FILLED ->
+                riskEngine.onFill(event.getOrderId(), event.getFillPrice(), event.getFillQuantity());
+            case CANCELLED, REJECTED, EXPIRED -> riskEngine.release(event.getOrderId());
+            default -> {
+                // 예약 변화 없음
+            }
+        }
+    }
+
+    private void scheduleExpiry(Order order) {
+        String orderId = order.getOrderId();
+        order.expiry = deadlineScheduler.scheduleAtClose(() -> {
+            if (openOrders.containsKey(orderId)) {
+                try {
+                    expire(orderId);
+                } catch (BusinessException e) {
+                    // 만료 직전에 종료된 주문
+                    log.debug("주문 만료 생략: {} ({})", orderId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Order find(String orderId) {
+        Order order = openOrders.get(orderId);
+        if (order == null) {
+            throw BusinessException.orderException("미체결 주문을 찾을 수 없습니다: " + orderId);
+        }
+        return order;
+    }
+
+    private static RiskOrder toRiskOrder(Order order) {
+        return RiskOrder.builder()
+            .orderId(order.getOrderId())
+            .accountNo(order.getAccountNo())
+            .strategyId(order.getStrategyId())
+            .stockCode(order.getStockCode())
+            .side(order.getSide())
+            .price(order.getPrice())
+            .quantity(order.getQuantity())
+            .build();
+    }
+
+    private static OrderEvent.OrderEventBuilder event(String orderId, OrderStatus status) {
+        return OrderEvent.builder()
+            .orderId(orderId)
+            .status(status)
+            .timestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * 저널 이벤트로 미체결 주문 복원 (리스크 엔진 예약은 재생을 마친 뒤 미체결 잔량으로 복원)
+     */
+    private void restore(OrderEvent event) {
+        if (event.getStatus() == OrderStatus.CREATED) {
+            openOrders.put(event.getOrderId(), Order.create(event));
+            return;
+        }
+        Order order = openOrders.get(event.getOrderId());
+        if (order == null || !order.canApply(event)) {
+            log.warn("주문 저널 이벤트를 적용할 수 없어 건너뜁니다: {}", event);
+            return;
+        }
+        order.apply(event);
+        if (order.getStatus().isTerminal()) {
+            openOrders.remove(order.getOrderId());
+        }
+    }
+}
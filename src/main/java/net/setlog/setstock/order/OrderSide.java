@@ -0,0 +1,26 @@
+package net.setlog.setstock.order;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+
+/**
+ * 주문 방향
+ */
+public enum OrderSide {
+
+    BUY(TradeConstants.DIRECTION_BUY),
+    SELL(TradeConstants.DIRECTION_SELL);
+
+    private final String code;
+
+    OrderSide(String code) {
+        this.code = code;
+    }
+
+    /**
+     * 거래 방향 코드 반환
+     * @return TradeConstants.DIRECTION_* 값
+     */
+    public String getCode() {
+        return code;
+    }
+}
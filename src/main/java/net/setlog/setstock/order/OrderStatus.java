@@ -0,0 +1,92 @@
+package net.setlog.setstock.order;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 주문 상태와 허용 전이
+ *
+ * CREATED → SUBMITTED → ACCEPTED → PARTIALLY_FILLED → FILLED 순으로 진행하며,
+ * 체결 통보가 접수 응답보다 먼저 올 수 있으므로 SUBMITTED 에서 바로 체결 상태로 갈 수 있다.
+ * FILLED, CANCELLED, REJECTED, EXPIRED 는 종료 상태로 더 이상 전이하지 않는다.
+ */
+public enum OrderStatus {
+
+    CREATED(1, TradeConstants.ORDER_STATUS_CREATED),
+    SUBMITTED(2, TradeConstants.ORDER_STATUS_SUBMITTED),
+    ACCEPTED(3, TradeConstants.ORDER_STATUS_ACCEPTED),
+    PARTIALLY_FILLED(4, TradeConstants.ORDER_STATUS_PARTIALLY_FILLED),
+    FILLED(5, TradeConstants.ORDER_STATUS_FILLED),
+    CANCELLED(6, TradeConstants.ORDER_STATUS_CANCELLED),
+    REJECTED(7, TradeConstants.ORDER_STATUS_REJECTED),
+    EXPIRED(8, TradeConstants.ORDER_STATUS_EXPIRED);
+
+    static {
+        CREATED.next = EnumSet.of(SUBMITTED, CANCELLED, REJECTED, EXPIRED);
+        SUBMITTED.next = EnumSet.of(ACCEPTED, PARTIALLY_FILLED, FILLED, CANCELLED, REJECTED, EXPIRED);
+        ACCEPTED.next = EnumSet.of(PARTIALLY_FILLED, FILLED, CANCELLED, EXPIRED);
+        PARTIALLY_FILLED.next = EnumSet.of(PARTIALLY_FILLED, FILLED, CANCELLED, EXPIRED);
+        FILLED.next = EnumSet.noneOf(OrderStatus.class);
+        CANCELLED.next = EnumSet.noneOf(OrderStatus.class);
+        REJECTED.next = EnumSet.noneOf(OrderStatus.class);
+        EXPIRED.next = EnumSet.noneOf(OrderStatus.class);
+    }
+
+    private final int code;
+    private final String value;
+    private Set<OrderStatus> next;
+
+    OrderStatus(int code, String value) {
+        this.code = code;
+        this.value = value;
+    }
+
+    /**
+     * 주문 저널의 상태 코드
+     * @return 상태 코드
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * 주문 상태 문자열 반환
+     * @return TradeConstants.ORDER_STATUS_* 값
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 종료 상태 여부
+     * @return FILLED, CANCELLED, REJECTED, EXPIRED 이면 true
+     */
+    public boolean isTerminal() {
+        return next.isEmpty();
+    }
+
+    /**
+     * 전이 가능 여부
+     * @param target 다음 상태
+     * @return 허용된 전이면 true
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return next.contains(target);
+    }
+
+    /**
+     * 상태 코드로 조회
+     * @param code 상태 코드
+     * @return OrderStatus
+     */
+    public static OrderStatus of(int code) {
+        for (OrderStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 주문 상태 코드입니다: " + code);
+    }
+}
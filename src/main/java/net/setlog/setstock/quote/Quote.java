@@ -0,0 +1,57 @@
+package net.setlog.setstock.quote;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.realtime.Tick;
+
+/**
+ * 종목 현재가 시세
+ *
+ * 실시간 체결 또는 현재가 조회(KIS_PRICE_PATH) 결과로 만들어지는 불변 객체
+ */
+@Getter
+@ToString
+@Builder
+public class Quote {
+
+    /**
+     * 시세 출처
+     */
+    public enum Source {
+        REALTIME,  // 실시간 체결
+        REST       // 현재가 조회 API
+    }
+
+    private final String stockCode;       // 종목 코드
+    private final long price;             // 현재가
+    private final long change;            // 전일 대비
+    private final int changeRate;         // 전일 대비율 (0.01% 단위)
+    private final long open;              // 시가
+    private final long high;              // 고가
+    private final long low;               // 저가
+    private final long accumulatedVolume; // 누적 거래량
+    private final long timestamp;         // 기준 시각 (epoch millis)
+    private final Source source;          // 시세 출처
+
+    /**
+     * 실시간 체결로부터 시세 생성
+     * @param stockCode 종목 코드
+     * @param tick 체결 레코드
+     * @return Quote 객체
+     */
+    public static Quote fromTick(String stockCode, Tick tick) {
+        return Quote.builder()
+            .stockCode(stockCode)
+            .price(tick.getPrice())
+            .change(tick.getChange())
+            .changeRate(tick.getChangeRate())
+            .open(tick.getOpen())
+            .high(tick.getHigh())
+            .low(tick.getLow())
+            .accumulatedVolume(tick.getAccumulatedVolume())
+            .timestamp(tick.getReceivedAt())
+            .source(Source.REALTIME)
+            .build();
+    }
+}
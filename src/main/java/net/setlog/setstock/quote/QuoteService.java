@@ -0,0 +1,108 @@
+package net.setlog.setstock.quote;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.exception.ApiException;
+import net.setlog.setstock.common.util.ValidationUtils;
+import net.setlog.setstock.realtime.LatestTickStore;
+import net.setlog.setstock.realtime.Tick;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 현재가 조회 서비스
+ *
+ * 1. 실시간 체결이 TICK_FRESHNESS_MS 이내에 수신된 종목은 체결 값으로 바로 응답한다.
+ * 2. 그 외에는 priceCache(AsyncCache)를 통해 조회하며, 같은 종목에 대한 동시 요청은
+ *    진행 중인 하나의 REST 호출 결과를 함께 기다린다.
+ */
+@Service
+public class QuoteService {
+
+    static final long TICK_FRESHNESS_MS = 3000;  // 실시간 체결 유효 시간
+
+    private final LatestTickStore latestTickStore;
+    private final ObjectProvider<QuoteSource> quoteSource;
+    private final AsyncCache<Object, Object> cache;
+
+    /**
+     * 생성자
+     * @param latestTickStore 최신 체결 저장소
+     * @param quoteSource 현재가 조회 API
+     * @param cacheManager 캐시 매니저
+     */
+    public QuoteService(LatestTickStore latestTickStore, ObjectProvider<QuoteSource> quoteSource,
+                        CacheManager cacheManager) {
+        this.latestTickStore = latestTickStore;
+        this.quoteSource = quoteSource;
+        this.cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.PRICE_CACHE)).getAsyncCache();
+    }
+
+    /**
+     * 현재가 조회
+     * @param stockCode 종목 코드
+     * @return 현재가 시세
+     */
+    public Quote getQuote(String stockCode) {
+        try {
+            return getQuoteAsync(stockCode)
+                .orTimeout(ApiConstants.API_READ_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException apiException) {
+                throw apiException;
+            }
+            if (cause instanceof TimeoutException) {
+                throw ApiException.externalApiException("현재가 조회 시간이 초과되었습니다: " + stockCode, cause);
+            }
+            throw ApiException.externalApiException("현재가 조회 중 오류가 발생했습니다: " + stockCode, cause);
+        }
+    }
+
+    /**
+     * 현재가 비동기 조회
+     * @param stockCode 종목 코드
+     * @return 현재가 시세
+     */
+    public CompletableFuture<Quote> getQuoteAsync(String stockCode) {
+        ValidationUtils.validateStockCode(stockCode, "유효하지 않은 종목 코드입니다: " + stockCode);
+
+        Quote realtime = fromFreshTick(stockCode);
+        if (realtime != null) {
+            return CompletableFuture.completedFuture(realtime);
+        }
+        return cache.get(stockCode, (key, executor) -> load(stockCode)).thenApply(Quote.class::cast);
+    }
+
+    /**
+     * 실시간 체결이 유효하면 체결 기반 시세 반환
+     */
+    private Quote fromFreshTick(String stockCode) {
+        int code = Integer.parseInt(stockCode);
+        long receivedAt = latestTickStore.lastReceivedAt(code);
+        if (receivedAt == 0 || System.currentTimeMillis() - receivedAt > TICK_FRESHNESS_MS) {
+            return null;
+        }
+
+        Tick tick = new Tick();
+        return latestTickStore.read(code, tick) ? Quote.fromTick(stockCode, tick) : null;
+    }
+
+    private CompletableFuture<Quote> load(String stockCode) {
+        QuoteSource source = quoteSource.getIfAvailable();
+        if (source == null) {
+            return CompletableFuture.failedFuture(
+                ApiException.externalApiException("현재가 조회 API가 구성되지 않았습니다", null));
+        }
+        return source.fetchQuote(stockCode);
+    }
+}
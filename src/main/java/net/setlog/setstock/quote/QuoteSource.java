@@ -0,0 +1,18 @@
+package net.setlog.setstock.quote;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 현재가 조회 API (KIS_PRICE_PATH)
+ *
+ * 구현체는 KisRateLimiter 를 거쳐 호출해야 한다.
+ */
+public interface QuoteSource {
+
+    /**
+     * 현재가 조회
+     * @param stockCode 종목 코드
+     * @return 조회 결과
+     */
+    CompletableFuture<Quote> fetchQuote(String stockCode);
+}
@@ -0,0 +1,217 @@
+package net.setlog.setstock.realtime;
+
+import jakarta.websocket.ClientEndpointConfig;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.MessageHandler;
+import jakarta.websocket.Session;
+import net.setlog.setstock.common.config.KisProperties;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.util.ValidationUtils;
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.client.ClientProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한국투자증권 실시간 체결 웹소켓 클라이언트
+ *
+ * H0STCNT0 체결 프레임을 수신 스레드에서 바로 파싱하여 링 버퍼에 발행한다.
+ * 연결이 끊기면 Tyrus 재연결 핸들러가 WEBSOCKET_RECONNECT_DELAY_MS 간격으로 재접속하고,
+ * 재접속 후 구독 중인 종목을 다시 등록한다.
+ */
+public class KisRealtimeClient extends Endpoint implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(KisRealtimeClient.class);
+
+    private static final String TR_TYPE_SUBSCRIBE = "1";
+    private static final String TR_TYPE_UNSUBSCRIBE = "2";
+    private static final String PINGPONG = "PINGPONG";
+
+    private final KisProperties properties;
+    private final TickRingBuffer ringBuffer;
+    private final TickParser parser = new TickParser();
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile Session session;
+    private volatile boolean running;
+    private volatile int reconnectAttempts;
+
+    /**
+     * 생성자
+     * @param properties KIS 설정
+     * @param ringBuffer 체결 링 버퍼
+     */
+    public KisRealtimeClient(KisProperties properties, TickRingBuffer ringBuffer) {
+        this.properties = properties;
+        this.ringBuffer = ringBuffer;
+        this.subscriptions.addAll(properties.getRealtime().getSymbols());
+    }
+
+    @Override
+    public void start() {
+        ClientManager client = ClientManager.createClient();
+        client.getProperties().put(ClientProperties.HANDSHAKE_TIMEOUT, ApiConstants.WEBSOCKET_CONNECT_TIMEOUT_MS);
+        client.getProperties().put(ClientProperties.RECONNECT_HANDLER, new ReconnectHandler());
+
+        running = true;
+        try {
+            client.asyncConnectToServer(this, ClientEndpointConfig.Builder.create().build(),
+                URI.create(properties.getRealtimeUrl()));
+        } catch (DeploymentException e) {
+            running = false;
+            throw new IllegalStateException("실시간 시세 웹소켓 연결 설정에 실패했습니다", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Session current = session;
+        if (current != null && current.isOpen()) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.warn("실시간 시세 웹소켓 종료 중 예외 발생: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        this.session = session;
+        this.reconnectAttempts = 0;
+        session.addMessageHandler(String.class, (MessageHandler.Whole<String>) this::onMessage);
+        log.info("실시간 시세 웹소켓 연결: {}, 구독 종목 {}건", properties.getRealtimeUrl(), subscriptions.size());
+
+        for (String stockCode : subscriptions) {
+            send(TR_TYPE_SUBSCRIBE, stockCode);
+        }
+    }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        this.session = null;
+        log.warn("실시간 시세 웹소켓 연결 종료: {}", closeReason);
+    }
+
+    @Override
+    public void onError(Session session, Throwable thr) {
+        log.error("실시간 시세 웹소켓 오류 발생: {}", thr.getMessage(), thr);
+    }
+
+    /**
+     * 종목 실시간 체결 구독
+     * @param stockCode 종목 코드
+     */
+    public void subscribe(String stockCode) {
+        ValidationUtils.validateStockCode(stockCode, "유효하지 않은 종목 코드입니다: " + stockCode);
+        if (subscriptions.add(stockCode)) {
+            send(TR_TYPE_SUBSCRIBE, stockCode);
+        }
+    }
+
+    /**
+     * 종목 실시간 체결 구독 해제
+     * @param stockCode 종목 코드
+     */
+    public void unsubscribe(String stockCode) {
+        if (subscriptions.remove(stockCode)) {
+            send(TR_TYPE_UNSUBSCRIBE, stockCode);
+        }
+    }
+
+    /**
+     * 구독 중인 종목 목록
+     * @return 종목 코드 집합
+     */
+    public Set<String> getSubscriptions() {
+        return Set.copyOf(subscriptions);
+    }
+
+    /**
+     * 형식 오류로 버려진 레코드 수
+     * @return 누적 오류 건수
+     */
+    public long getMalformedCount() {
+        return parser.getMalformedCount();
+    }
+
+    private void onMessage(String message) {
+        if (parser.parse(message, ringBuffer, System.currentTimeMillis()) >= 0) {
+            return;
+        }
+
+        // 체결 데이터가 아닌 JSON 제어 메시지
+        if (message.contains(PINGPONG)) {
+            Session current = session;
+            if (current != null) {
+                current.getAsyncRemote().sendText(message);
+            }
+        } else {
+            log.debug("실시간 시세 제어 메시지 수신: {}", message);
+        }
+    }
+
+    private void send(String trType, String stockCode) {
+        Session current = session;
+        if (current == null || !current.isOpen()) {
+            return;  // 연결 시 onOpen 에서 일괄 구독
+        }
+
+        String request = "{\"header\":{\"approval_key\":\"" + properties.getRealtime().getApprovalKey() + "\","
+            + "\"custtype\":\"P\",\"tr_type\":\"" + trType + "\",\"content-type\":\"utf-8\"},"
+            + "\"body\":{\"input\":{\"tr_id\":\"" + ApiConstants.TR_ID_WEBSOCKET_PRICE + "\","
+            + "\"tr_key\":\"" + stockCode + "\"}}}";
+        current.getAsyncRemote().sendText(request);
+    }
+
+    /**
+     * 재연결 정책 (WEBSOCKET_MAX_RECONNECT_ATTEMPTS 회까지 재시도)
+     */
+    private class ReconnectHandler extends ClientManager.ReconnectHandler {
+
+        @Override
+        public boolean onDisconnect(CloseReason closeReason) {
+            return shouldReconnect();
+        }
+
+        @Override
+        public boolean onConnectFailure(Exception exception) {
+            log.warn("실시간 시세 웹소켓 연결 실패: {}", exception.getMessage());
+            return shouldReconnect();
+        }
+
+        @Override
+        public long getDelay() {
+            return TimeUnit.MILLISECONDS.toSeconds(ApiConstants.WEBSOCKET_RECONNECT_DELAY_MS);
+        }
+
+        private boolean shouldReconnect() {
+            if (!running) {
+                return false;
+            }
+            int attempts = ++reconnectAttempts;
+            if (attempts > ApiConstants.WEBSOCKET_MAX_RECONNECT_ATTEMPTS) {
+                log.error("실시간 시세 웹소켓 재연결 한도 초과 ({}회)", ApiConstants.WEBSOCKET_MAX_RECONNECT_ATTEMPTS);
+                return false;
+            }
+            log.info("실시간 시세 웹소켓 재연결 시도 {}/{}", attempts, ApiConstants.WEBSOCKET_MAX_RECONNECT_ATTEMPTS);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package net.setlog.setstock.realtime;
+
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 종목별 최신 체결 저장소
+ *
+ * 디스패처 스레드가 체결마다 종목 슬롯을 덮어쓰고, 조회 스레드는 낙관적 읽기로 일관된 스냅샷을 복사해 간다.
+ * 종목 id(SymbolRegistry)를 배열 인덱스로 사용하므로 체결당 객체 생성이 없다.
+ */
+@Component
+public class LatestTickStore implements TickListener {
+
+    private final SymbolRegistry symbolRegistry;
+    private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS);
+
+    /**
+     * 생성자
+     * @param tickDispatcher 체결 디스패처
+     * @param symbolRegistry 종목 레지스트리
+     */
+    public LatestTickStore(TickDispatcher tickDispatcher, SymbolRegistry symbolRegistry) {
+        this.symbolRegistry = symbolRegistry;
+        tickDispatcher.addListener(this);
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        int id = symbolRegistry.idOf(tick.stockCode);
+        if (id < 0) {
+            id = symbolRegistry.register(tick.stockCode);
+        }
+
+        Slot slot = slots.get(id);
+        if (slot == null) {
+            slot = new Slot();
+            slots.set(id, slot);  // 단일 기록자(디스패처 스레드)
+        }
+
+        long stamp = slot.lock.writeLock();
+        try {
+            slot.tick.copyFrom(tick);
+        } finally {
+            slot.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 최신 체결 복사
+     * @param stockCode 종목 코드 (정수)
+     * @param target 복사 대상
+     * @return 체결이 있으면 true
+     */
+    public boolean read(int stockCode, Tick target) {
+        int id = symbolRegistry.idOf(stockCode);
+        if (id < 0) {
+            return false;
+        }
+        Slot slot = slots.get(id);
+        if (slot == null) {
+            return false;
+        }
+
+        long stamp = slot.lock.tryOptimisticRead();
+        target.copyFrom(slot.tick);
+        if (!slot.lock.validate(stamp)) {
+            stamp = slot.lock.readLock();
+            try {
+                target.copyFrom(slot.tick);
+            } finally {
+                slot.lock.unlockRead(stamp);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 최신 체결 수신 시각
+     * @param stockCode 종목 코드 (정수)
+     * @return 수신 시각 (epoch millis), 체결이 없으면 0
+     */
+    public long lastReceivedAt(int stockCode) {
+        int id = symbolRegistry.idOf(stockCode);
+        if (id < 0) {
+            return 0;
+        }
+        Slot slot = slots.get(id);
+        if (slot == null) {
+            return 0;
+        }
+
+        long stamp = slot.lock.tryOptimisticRead();
+        long receivedAt = slot.tick.receivedAt;
+        return slot.lock.validate(stamp) ? receivedAt : 0;
+    }
+
+    private static final class Slot {
+        private final StampedLock lock = new StampedLock();
+        private final Tick tick = new Tick();
+    }
+}
@@ -0,0 +1,74 @@
+package net.setlog.setstock.realtime;
+
+import lombok.Getter;
+
+/**
+ * 실시간 체결(H0STCNT0) 레코드
+ *
+ * 링 버퍼에 미리 할당되어 재사용되는 가변 객체로, 모든 필드를 원시 타입으로 보관한다.
+ * 가격은 원 단위 정수, 등락률은 0.01% 단위 정수로 저장한다.
+ * 소비자는 onTick 호출 범위 밖에서 참조를 보관하면 안 되며, 필요한 경우 copyFrom 으로 복사해야 한다.
+ */
+@Getter
+public final class Tick {
+
+    int stockCode;          // 종목코드 (6자리 숫자의 정수 표현)
+    int secondOfDay;        // 체결 시각 (자정 기준 초)
+    long price;             // 현재가
+    int sign;               // 전일 대비 부호 (1:상한, 2:상승, 3:보합, 4:하한, 5:하락)
+    long change;            // 전일 대비
+    int changeRate;         // 전일 대비율 (0.01% 단위)
+    long open;              // 시가
+    long high;              // 고가
+    long low;               // 저가
+    long askPrice;          // 매도호가1
+    long bidPrice;          // 매수호가1
+    long volume;            // 체결 거래량
+    long accumulatedVolume; // 누적 거래량
+    long accumulatedAmount; // 누적 거래대금
+    long receivedAt;        // 수신 시각 (epoch millis)
+
+    /**
+     * 다른 레코드의 값을 복사
+     * @param other 원본 레코드
+     */
+    public void copyFrom(Tick other) {
+        this.stockCode = other.stockCode;
+        this.secondOfDay = other.secondOfDay;
+        this.price = other.price;
+        this.sign = other.sign;
+        this.change = other.change;
+        this.changeRate = other.changeRate;
+        this.open = other.open;
+        this.high = other.high;
+        this.low = other.low;
+        this.askPrice = other.askPrice;
+        this.bidPrice = other.bidPrice;
+        this.volume = other.volume;
+        this.accumulatedVolume = other.accumulatedVolume;
+        this.accumulatedAmount = other.accumulatedAmount;
+        this.receivedAt = other.receivedAt;
+    }
+
+    /**
+     * 체결 시각을 HHmmss 정수로 반환 (경계 구간에서만 사용)
+     * @return 체결 시간 (예: 09:33:54 -> 93354)
+     */
+    public int getTime() {
+        return secondOfDay / 3600 * 10000 + secondOfDay / 60 % 60 * 100 + secondOfDay % 60;
+    }
+
+    /**
+     * 종목 코드를 6자리 문자열로 반환 (경계 구간에서만 사용)
+     * @return 종목 코드 문자열
+     */
+    public String getStockCodeString() {
+        return String.format("%06d", stockCode);
+    }
+
+    @Override
+    public String toString() {
+        return "Tick{" + getStockCodeString() + " " + getTime() + " price=" + price
+            + " volume=" + volume + " accVolume=" + accumulatedVolume + "}";
+    }
+}
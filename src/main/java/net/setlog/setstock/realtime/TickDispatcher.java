@@ -0,0 +1,109 @@
+package net.setlog.setstock.realtime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 체결 디스패처
+ *
+ * 전용 스레드에서 링 버퍼를 비우며 등록된 리스너에 체결을 순서대로 전달한다.
+ * 수신이 없으면 잠시 스핀한 뒤 짧게 park 하여 CPU 점유를 줄인다.
+ */
+public class TickDispatcher implements SmartLifecycle, TickListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TickDispatcher.class);
+
+    private static final int MAX_BATCH = 256;
+    private static final int SPIN_LIMIT = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final TickRingBuffer ringBuffer;
+    private final List<TickListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * 생성자
+     * @param ringBuffer 체결 링 버퍼
+     */
+    public TickDispatcher(TickRingBuffer ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
+    /**
+     * 리스너 등록
+     * @param listener 체결 리스너
+     */
+    public void addListener(TickListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 리스너 해제
+     * @param listener 체결 리스너
+     */
+    public void removeListener(TickListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        for (TickListener listener : listeners) {
+            try {
+                listener.onTick(tick);
+            } catch (RuntimeException e) {
+                log.error("체결 리스너 처리 중 예외 발생: {}", tick, e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "tick-dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        int idle = 0;
+        while (running) {
+            if (ringBuffer.drain(this, MAX_BATCH) > 0) {
+                idle = 0;
+            } else if (++idle < SPIN_LIMIT) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+        // 종료 전 남은 체결 처리
+        while (ringBuffer.drain(this, MAX_BATCH) > 0) {
+            // drain
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.setlog.setstock.realtime;
+
+/**
+ * 실시간 체결 리스너
+ *
+ * 디스패처 스레드에서 순서대로 호출되므로 블로킹 작업을 수행하면 안 된다.
+ */
+@FunctionalInterface
+public interface TickListener {
+
+    /**
+     * 체결 수신 처리
+     * @param tick 재사용되는 체결 레코드 (호출 범위 밖에서 보관 금지)
+     */
+    void onTick(Tick tick);
+}
@@ -0,0 +1,249 @@
+package net.setlog.setstock.realtime;
+
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.util.CompactTimeParser;
+
+/**
+ * 실시간 체결(H0STCNT0) 프레임 파서
+ *
+ * 프레임 형식: {암호화여부}|{TR_ID}|{건수}|{필드1}^{필드2}^...
+ * 건수가 2 이상이면 레코드(46개 필드)가 '^' 로 연속해서 붙어 온다.
+ * 수신 문자열을 분할하거나 BigDecimal 로 변환하지 않고, 문자 단위로 읽어 링 버퍼 슬롯에 직접 기록한다.
+ * 한 연결의 수신 스레드에서만 사용한다.
+ */
+public final class TickParser {
+
+    public static final int FIELD_COUNT = 46;  // H0STCNT0 레코드당 필드 수
+
+    private static final char FRAME_SEPARATOR = '|';
+    private static final char FIELD_SEPARATOR = '^';
+    private static final String TR_ID = ApiConstants.TR_ID_WEBSOCKET_PRICE;
+
+    // 필드 인덱스
+    private static final int FIELD_STOCK_CODE = 0;
+    private static final int FIELD_TIME = 1;
+    private static final int FIELD_PRICE = 2;
+    private static final int FIELD_SIGN = 3;
+    private static final int FIELD_CHANGE = 4;
+    private static final int FIELD_CHANGE_RATE = 5;
+    private static final int FIELD_OPEN = 7;
+    private static final int FIELD_HIGH = 8;
+    private static final int FIELD_LOW = 9;
+    private static final int FIELD_ASK_PRICE = 10;
+    private static final int FIELD_BID_PRICE = 11;
+    private static final int FIELD_VOLUME = 12;
+    private static final int FIELD_ACCUMULATED_VOLUME = 13;
+    private static final int FIELD_ACCUMULATED_AMOUNT = 14;
+    private static final int LAST_PARSED_FIELD = FIELD_ACCUMULATED_AMOUNT;
+
+    // 마지막 레코드/필드 파싱 결과
+    private boolean valid;
+    private long malformedCount;
+
+    /**
+     * 체결 프레임을 파싱하여 링 버퍼에 발행
+     * @param frame 수신 프레임
+     * @param ring 체결 링 버퍼
+     * @param receivedAt 수신 시각 (epoch millis)
+     * @return 발행한 체결 수, 체결 데이터 프레임이 아니면 -1
+     */
+    public int parse(CharSequence frame, TickRingBuffer ring, long receivedAt) {
+        int len = frame.length();
+        if (len < 2 || frame.charAt(0) != '0' || frame.charAt(1) != FRAME_SEPARATOR) {
+            return -1;  // 암호화 프레임(1) 또는 JSON 제어 메시지
+        }
+
+        int p = 2;
+        if (!regionMatches(frame, p, TR_ID) || p + TR_ID.length() >= len
+            || frame.charAt(p + TR_ID.length()) != FRAME_SEPARATOR) {
+            return -1;
+        }
+        p += TR_ID.length() + 1;
+
+        int count = 0;
+        for (; p < len && frame.charAt(p) != FRAME_SEPARATOR; p++) {
+            char c = frame.charAt(p);
+            if (c < '0' || c > '9') {
+                malformedCount++;
+                return -1;
+            }
+            count = count * 10 + (c - '0');
+        }
+        p++;
+
+        int published = 0;
+        for (int i = 0; i < count && p < len; i++) {
+            long sequence = ring.tryClaim();
+            if (sequence < 0) {
+                p = skipFields(frame, p, len, FIELD_COUNT);
+                continue;
+            }
+
+            Tick tick = ring.get(sequence);
+            p = parseRecord(frame, p, len, tick);
+            if (!valid) {
+                malformedCount++;
+                continue;
+            }
+            tick.receivedAt = receivedAt;
+            ring.publish(sequence);
+            published++;
+        }
+        return published;
+    }
+
+    /**
+     * 형식 오류로 버려진 레코드 수
+     * @return 누적 오류 건수
+     */
+    public long getMalformedCount() {
+        return malformedCount;
+    }
+
+    /**
+     * 레코드 하나를 파싱하여 Tick 에 기록
+     * @return 다음 레코드 시작 위치
+     */
+    private int parseRecord(CharSequence s, int start, int len, Tick tick) {
+        valid = true;
+        int p = start;
+        for (int field = 0; field <= LAST_PARSED_FIELD; field++) {
+            int end = indexOfField(s, p, len);
+            switch (field) {
+                case FIELD_STOCK_CODE -> tick.stockCode = (int) parseLong(s, p, end);
+                case FIELD_TIME -> tick.secondOfDay = parseTime(s, p, end);
+                case FIELD_PRICE -> tick.price = parseLong(s, p, end);
+                case FIELD_SIGN -> tick.sign = (int) parseLong(s, p, end);
+                case FIELD_CHANGE -> tick.change = parseLong(s, p, end);
+                case FIELD_CHANGE_RATE -> tick.changeRate = (int) parseHundredths(s, p, end);
+                case FIELD_OPEN -> tick.open = parseLong(s, p, end);
+                case FIELD_HIGH -> tick.high = parseLong(s, p, end);
+                case FIELD_LOW -> tick.low = parseLong(s, p, end);
+                case FIELD_ASK_PRICE -> tick.askPrice = parseLong(s, p, end);
+                case FIELD_BID_PRICE -> tick.bidPrice = parseLong(s, p, end);
+                case FIELD_VOLUME -> tick.volume = parseLong(s, p, end);
+                case FIELD_ACCUMULATED_VOLUME -> tick.accumulatedVolume = parseLong(s, p, end);
+                case FIELD_ACCUMULATED_AMOUNT -> tick.accumulatedAmount = parseLong(s, p, end);
+                default -> {
+                    // 사용하지 않는 필드
+                }
+            }
+            p = end + 1;
+        }
+        return skipFields(s, p, len, FIELD_COUNT - LAST_PARSED_FIELD - 1);
+    }
+
+    /**
+     * 지정한 수의 필드를 건너뜀
+     * @return 건너뛴 뒤 위치
+     */
+    private static int skipFields(CharSequence s, int p, int len, int fields) {
+        for (int i = 0; i < fields && p < len; i++) {
+            p = indexOfField(s, p, len) + 1;
+        }
+        return p;
+    }
+
+    /**
+     * 현재 필드의 끝 위치 ('^' 위치 또는 문자열 끝)
+     */
+    private static int indexOfField(CharSequence s, int p, int len) {
+        while (p < len && s.charAt(p) != FIELD_SEPARATOR) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * HHmmss 체결 시각을 자정 기준 초로 파싱
+     */
+    private int parseTime(CharSequence s, int start, int end) {
+        int secondOfDay = end - start == CompactTimeParser.TIME_LENGTH
+            ? CompactTimeParser.parseTime(s, start) : CompactTimeParser.INVALID;
+        if (secondOfDay == CompactTimeParser.INVALID) {
+            valid = false;
+            return 0;
+        }
+        return secondOfDay;
+    }
+
+    /**
+     * 부호가 있는 정수 파싱
+     */
+    private long parseLong(CharSequence s, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        boolean negative = false;
+        int p = start;
+        char first = s.charAt(p);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            p++;
+        }
+
+        long value = 0;
+        for (; p < end; p++) {
+            char c = s.charAt(p);
+            if (c < '0' || c > '9') {
+                valid = false;
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 소수를 0.01 단위 정수로 파싱 (예: "-0.14" -> -14)
+     */
+    private long parseHundredths(CharSequence s, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        boolean negative = false;
+        int p = start;
+        char first = s.charAt(p);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            p++;
+        }
+
+        long value = 0;
+        int fractionDigits = -1;
+        for (; p < end; p++) {
+            char c = s.charAt(p);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                valid = false;
+                return 0;
+            }
+            if (fractionDigits >= 2) {
+                continue;  // 셋째 자리 이하는 버림
+            }
+            value = value * 10 + (c - '0');
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        for (int i = Math.max(fractionDigits, 0); i < 2; i++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean regionMatches(CharSequence s, int offset, String expected) {
+        if (offset + expected.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (s.charAt(offset + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
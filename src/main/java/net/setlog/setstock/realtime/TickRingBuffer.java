@@ -0,0 +1,121 @@
+package net.setlog.setstock.realtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 생산자/단일 소비자 체결 링 버퍼
+ *
+ * 생성 시점에 모든 Tick 슬롯을 미리 할당하고, 생산자(웹소켓 수신 스레드)는 슬롯을 직접 채운 뒤 발행한다.
+ * 버퍼가 가득 찬 경우 생산자를 막지 않고 해당 체결을 버리며 버린 건수를 기록한다.
+ * 누적 거래량이 함께 전달되므로 소비자는 이후 체결로 거래량을 보정할 수 있다.
+ */
+public final class TickRingBuffer {
+
+    private final Tick[] entries;
+    private final int mask;
+
+    // 마지막으로 발행된 시퀀스 (생산자 기록, 소비자 읽기)
+    private final AtomicLong published = new AtomicLong(-1);
+    // 마지막으로 소비된 시퀀스 (소비자 기록, 생산자 읽기)
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private final AtomicLong dropped = new AtomicLong();
+
+    // 생산자 스레드 전용 필드
+    private long nextSequence = 0;
+    private long cachedConsumed = -1;
+
+    /**
+     * 생성자
+     * @param capacity 버퍼 크기 (2의 거듭제곱)
+     */
+    public TickRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.entries = new Tick[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Tick();
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 다음 슬롯 확보 (생산자 전용)
+     * 발행 전까지는 시퀀스가 확정되지 않으므로, 파싱에 실패하면 publish 하지 않고 버리면 된다.
+     * @return 확보한 시퀀스, 버퍼가 가득 찼으면 -1
+     */
+    public long tryClaim() {
+        long wrapPoint = nextSequence - entries.length;
+        if (wrapPoint > cachedConsumed) {
+            cachedConsumed = consumed.get();
+            if (wrapPoint > cachedConsumed) {
+                dropped.incrementAndGet();
+                return -1;
+            }
+        }
+        return nextSequence;
+    }
+
+    /**
+     * 시퀀스에 해당하는 슬롯 반환
+     * @param sequence 시퀀스
+     * @return Tick 슬롯
+     */
+    public Tick get(long sequence) {
+        return entries[(int) (sequence & mask)];
+    }
+
+    /**
+     * 확보한 슬롯 발행 (생산자 전용)
+     * @param sequence tryClaim 으로 확보한 시퀀스
+     */
+    public void publish(long sequence) {
+        nextSequence = sequence + 1;
+        published.lazySet(sequence);
+    }
+
+    /**
+     * 발행된 체결을 꺼내 리스너에 전달 (소비자 전용)
+     * @param listener 체결 리스너
+     * @param maxBatch 한 번에 처리할 최대 건수
+     * @return 처리한 건수
+     */
+    public int drain(TickListener listener, int maxBatch) {
+        long current = consumed.get();
+        long available = published.get();
+        if (available <= current) {
+            return 0;
+        }
+
+        long last = Math.min(available, current + maxBatch);
+        for (long seq = current + 1; seq <= last; seq++) {
+            listener.onTick(get(seq));
+        }
+        consumed.lazySet(last);
+        return (int) (last - current);
+    }
+
+    /**
+     * 소비 대기 중인 체결 수
+     * @return 대기 건수
+     */
+    public long size() {
+        return published.get() - consumed.get();
+    }
+
+    /**
+     * 버퍼 크기
+     * @return 슬롯 수
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * 버퍼가 가득 차서 버려진 체결 수
+     * @return 누적 드롭 건수
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
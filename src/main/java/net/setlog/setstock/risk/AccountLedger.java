@@ -0,0 +1,256 @@
+package net.setlog.setstock.risk;
+
+import net.setlog.setstock.order.OrderSide;
+import net.setlog.setstock.symbol.SymbolRegistry;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 계좌별 인메모리 원장
+ *
+ * 주문 가능 현금, 예약 현금, 종목별 보유 수량/원가/익스포저, 전략별 미체결 주문 수를 원자 변수로 보관한다.
+ * 예약과 해제는 모두 CAS 로 처리하여 잠금 없이 여러 전략 스레드가 동시에 점검할 수 있다.
+ * 종목별 값은 SymbolRegistry 의 종목 id 로 색인한다. 값의 변경은 PreTradeRiskEngine 만 수행한다.
+ */
+public final class AccountLedger {
+
+    private final String accountNo;
+
+    private final AtomicLong availableCash = new AtomicLong();  // 주문 가능 현금
+    private final AtomicLong reservedCash = new AtomicLong();   // 미체결 매수 주문에 묶인 현금
+    private final AtomicLong equity = new AtomicLong();         // 총 평가금액 (포지션 한도 기준)
+
+    private final AtomicLongArray quantities = new AtomicLongArray(SymbolRegistry.MAX_SYMBOLS);     // 보유 수량
+    private final AtomicLongArray sellReserved = new AtomicLongArray(SymbolRegistry.MAX_SYMBOLS);   // 미체결 매도 수량
+    private final AtomicLongArray positionCosts = new AtomicLongArray(SymbolRegistry.MAX_SYMBOLS);  // 보유 원가
+    private final AtomicLongArray exposures = new AtomicLongArray(SymbolRegistry.MAX_SYMBOLS);      // 보유 원가 + 미체결 매수 약정금액
+
+    private final ConcurrentMap<String, AtomicInteger> openOrdersByStrategy = new ConcurrentHashMap<>();
+    private final Set<OrderKey> openOrderKeys = ConcurrentHashMap.newKeySet();
+
+    AccountLedger(String accountNo) {
+        this.accountNo = accountNo;
+    }
+
+    /**
+     * 계좌번호
+     * @return 계좌번호
+     */
+    public String getAccountNo() {
+        return accountNo;
+    }
+
+    /**
+     * 주문 가능 현금
+     * @return 원 단위 금액
+     */
+    public long getAvailableCash() {
+        return availableCash.get();
+    }
+
+    /**
+     * 미체결 매수 주문에 예약된 현금
+     * @return 원 단위 금액
+     */
+    public long getReservedCash() {
+        return reservedCash.get();
+    }
+
+    /**
+     * 총 평가금액
+     * @return 원 단위 금액
+     */
+    public long getEquity() {
+        return equity.get();
+    }
+
+    /**
+     * 보유 수량
+     * @param symbolId 종목 id
+     * @return 보유 수량
+     */
+    public long getQuantity(int symbolId) {
+        return quantities.get(symbolId);
+    }
+
+    /**
+     * 매도 가능 수량 (보유 수량 - 미체결 매도 수량)
+     * @param symbolId 종목 id
+     * @return 매도 가능 수량
+     */
+    public long getSellableQuantity(int symbolId) {
+        return quantities.get(symbolId) - sellReserved.get(symbolId);
+    }
+
+    /**
+     * 종목 익스포저 (보유 원가 + 미체결 매수 약정금액)
+     * @param symbolId 종목 id
+     * @return 원 단위 금액
+     */
+    public long getExposure(int symbolId) {
+        return exposures.get(symbolId);
+    }
+
+    /**
+     * 전략의 미체결 주문 수
+     * @param strategyId 전략 ID
+     * @return 미체결 주문 수
+     */
+    public int getOpenOrders(String strategyId) {
+        AtomicInteger count = openOrdersByStrategy.get(strategyId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * 증권사 잔고로 현금 동기화 (미체결 주문 반영 전 예수금 기준)
+     * @param cash 주문 가능 예수금
+     * @param totalEquity 총 평가금액
+     */
+    public void syncCash(long cash, long totalEquity) {
+        availableCash.set(cash - reservedCash.get());
+        equity.set(totalEquity);
+    }
+
+    /**
+     * 증권사 잔고로 종목 포지션 동기화
+     * @param symbolId 종목 id
+     * @param quantity 보유 수량
+     * @param cost 보유 원가 (원)
+     */
+    public void syncPosition(int symbolId, long quantity, long cost) {
+        quantities.set(symbolId, quantity);
+        long previous = positionCosts.getAndSet(symbolId, cost);
+        exposures.addAndGet(symbolId, cost - previous);
+    }
+
+    // ---- PreTradeRiskEngine 전용 ----
+
+    boolean addOrderKey(OrderKey key) {
+        return openOrderKeys.add(key);
+    }
+
+    void removeOrderKey(OrderKey key) {
+        openOrderKeys.remove(key);
+    }
+
+    boolean tryAcquireOrderSlot(String strategyId, int maxOrders) {
+        AtomicInteger count = openOrdersByStrategy.computeIfAbsent(strategyId, k -> new AtomicInteger());
+        int current;
+        do {
+            current = count.get();
+            if (current >= maxOrders) {
+                return false;
+            }
+        } while (!count.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    void acquireOrderSlot(String strategyId) {
+        openOrdersByStrategy.computeIfAbsent(strategyId, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    void releaseOrderSlot(String strategyId) {
+        AtomicInteger count = openOrdersByStrategy.get(strategyId);
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    boolean tryReserveCash(long amount) {
+        long current;
+        do {
+            current = availableCash.get();
+            if (current < amount) {
+                return false;
+            }
+        } while (!availableCash.compareAndSet(current, current - amount));
+        reservedCash.addAndGet(amount);
+        return true;
+    }
+
+    void reserveCash(long amount) {
+        availableCash.addAndGet(-amount);
+        reservedCash.addAndGet(amount);
+    }
+
+    void releaseCash(long amount) {
+        reservedCash.addAndGet(-amount);
+        availableCash.addAndGet(amount);
+    }
+
+    boolean tryAddExposure(int symbolId, long amount, long limit) {
+        long current;
+        do {
+            current = exposures.get(symbolId);
+            if (current + amount > limit) {
+                return false;
+            }
+        } while (!exposures.compareAndSet(symbolId, current, current + amount));
+        return true;
+    }
+
+    void addExposure(int symbolId, long delta) {
+        exposures.addAndGet(symbolId, delta);
+    }
+
+    boolean tryReserveShares(int symbolId, long quantity) {
+        long current;
+        do {
+            current = sellReserved.get(symbolId);
+            if (current + quantity > quantities.get(symbolId)) {
+                return false;
+            }
+        } while (!sellReserved.compareAndSet(symbolId, current, current + quantity));
+        return true;
+    }
+
+    void reserveShares(int symbolId, long quantity) {
+        sellReserved.addAndGet(symbolId, quantity);
+    }
+
+    void releaseShares(int symbolId, long quantity) {
+        sellReserved.addAndGet(symbolId, -quantity);
+    }
+
+    /**
+     * 매수 체결 반영
+     * @param releasedCash 이번 체결분만큼 해제할 예약 현금
+     * @param actualCost 실제 매수 대금 (수수료 포함)
+     * @param fillNotional 체결 약정금액
+     * @param orderNotional 주문 가격 기준 약정금액
+     */
+    void fillBuy(int symbolId, long quantity, long releasedCash, long actualCost, long fillNotional, long orderNotional) {
+        reservedCash.addAndGet(-releasedCash);
+        availableCash.addAndGet(releasedCash - actualCost);
+        quantities.addAndGet(symbolId, quantity);
+        positionCosts.addAndGet(symbolId, fillNotional);
+        exposures.addAndGet(symbolId, fillNotional - orderNotional);
+    }
+
+    /**
+     * 매도 체결 반영 (평균 원가 기준으로 보유 원가 차감)
+     * @param proceeds 매도 대금 (수수료, 세금 차감)
+     */
+    void fillSell(int symbolId, long quantity, long proceeds) {
+        long held = quantities.get(symbolId);
+        long cost = positionCosts.get(symbolId);
+        long removed = held <= quantity ? cost : cost * quantity / held;
+
+        sellReserved.addAndGet(symbolId, -quantity);
+        quantities.addAndGet(symbolId, -quantity);
+        positionCosts.addAndGet(symbolId, -removed);
+        exposures.addAndGet(symbolId, -removed);
+        availableCash.addAndGet(proceeds);
+    }
+
+    /**
+     * 중복 주문 판별 키
+     */
+    record OrderKey(String strategyId, int symbolId, OrderSide side, long price, long quantity) {
+    }
+}
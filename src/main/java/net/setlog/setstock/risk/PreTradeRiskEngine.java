@@ -0,0 +1,323 @@
+package net.setlog.setstock.risk;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.util.Money;
+import net.setlog.setstock.common.util.Rate;
+import net.setlog.setstock.common.util.ValidationResult;
+import net.setlog.setstock.order.OrderSide;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사전 주문 리스크 엔진
+ *
+ * 주문을 내기 전에 계좌별 인메모리 원장(AccountLedger)에서 중복 주문, 전략별 주문 수, 종목 포지션 한도,
+ * 주문 가능 현금(매도는 매도 가능 수량)을 차례로 점검하고 통과하면 그 자리에서 자원을 예약한다.
+ * 각 단계는 CAS 로 원자적으로 예약되며, 뒤 단계가 실패하면 앞 단계 예약을 되돌리므로 DB 나 계좌 캐시를 거치지 않고
+ * 여러 전략이 동시에 주문해도 초과 예약이 생기지 않는다. 체결/취소/거부 통보로 예약을 실제 잔고로 옮기거나 해제한다.
+ */
+@Component
+public class PreTradeRiskEngine {
+
+    public static final String INVALID_ORDER = "INVALID_ORDER";
+    public static final String DUPLICATE_ORDER = "DUPLICATE_ORDER";
+    public static final String MAX_ORDERS_EXCEEDED = "MAX_ORDERS_EXCEEDED";
+    public static final String POSITION_LIMIT_EXCEEDED = "POSITION_LIMIT_EXCEEDED";
+    public static final String INSUFFICIENT_FUNDS = "INSUFFICIENT_FUNDS";
+    public static final String INSUFFICIENT_POSITION = "INSUFFICIENT_POSITION";
+
+    // 주문 경로에서 할당하지 않도록 실패 결과를 미리 만들어 재사용
+    private static final ValidationResult INVALID =
+        ValidationResult.failure(INVALID_ORDER, "주문 가격과 수량은 0보다 커야 합니다.");
+    private static final ValidationResult DUPLICATE =
+        ValidationResult.failure(DUPLICATE_ORDER, "동일한 미체결 주문이 이미 있습니다.");
+    private static final ValidationResult MAX_ORDERS =
+        ValidationResult.failure(MAX_ORDERS_EXCEEDED, "전략당 최대 주문 수를 초과했습니다.");
+    private static final ValidationResult POSITION_LIMIT =
+        ValidationResult.failure(POSITION_LIMIT_EXCEEDED, "종목 최대 포지션 크기를 초과했습니다.");
+    private static final ValidationResult FUNDS =
+        ValidationResult.failure(INSUFFICIENT_FUNDS, "주문 가능 금액이 부족합니다.");
+    private static final ValidationResult POSITION =
+        ValidationResult.failure(INSUFFICIENT_POSITION, "매도 가능 수량이 부족합니다.");
+
+    private final SymbolRegistry symbolRegistry;
+    private final ConcurrentMap<String, AccountLedger> ledgers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    private final Counter accepted;
+    private final ConcurrentMap<String, Counter> rejected = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     * @param symbolRegistry 종목 레지스트리
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public PreTradeRiskEngine(SymbolRegistry symbolRegistry, MeterRegistry meterRegistry) {
+        this.symbolRegistry = symbolRegistry;
+        this.accepted = meterRegistry.counter("risk.checks", "result", "ACCEPTED");
+        for (ValidationResult failure : new ValidationResult[] {INVALID, DUPLICATE, MAX_ORDERS, POSITION_LIMIT, FUNDS, POSITION}) {
+            rejected.put(failure.getErrorCode(), meterRegistry.counter("risk.checks", "result", failure.getErrorCode()));
+        }
+    }
+
+    /**
+     * 계좌 원장 조회 (없으면 생성)
+     * @param accountNo 계좌번호
+     * @return 계좌 원장
+     */
+    public AccountLedger ledger(String accountNo) {
+        return ledgers.computeIfAbsent(accountNo, AccountLedger::new);
+    }
+
+    /**
+     * 주문 사전 점검 및 자원 예약
+     * 통과하면 주문 ID 로 예약이 등록되며, 이후 onFill/release 로 정리해야 한다.
+     * @param order 점검 대상 주문
+     * @return 통과하면 ValidationResult.VALID, 아니면 거부 사유
+     */
+    public ValidationResult reserve(RiskOrder order) {
+        ValidationResult result = tryReserve(order);
+        if (result.isValid()) {
+            accepted.increment();
+        } else {
+            rejected.get(result.getErrorCode()).increment();
+        }
+        return result;
+    }
+
+    /**
+     * 체결 반영 (부분 체결 가능)
+     * 매수는 체결분만큼 예약 현금을 실제 매수 대금으로 바꾸고, 매도는 매도 대금을 주문 가능 현금에 더한다.
+     * 주문 수량이 모두 체결되면 예약을 정리한다.
+     * @param orderId 주문 ID
+     * @param fillPrice 체결 가격
+     * @param fillQuantity 체결 수량
+     * @return 예약된 주문이면 true
+     */
+    public boolean onFill(String orderId, long fillPrice, long fillQuantity) {
+        Reservation reservation = reservations.get(orderId);
+        if (reservation == null || fillQuantity <= 0) {
+            return false;
+        }
+
+        long taken = reservation.take(fillQuantity);
+        if (taken == 0) {
+            return false;
+        }
+        boolean completed = reservation.remaining.get() == 0;
+        AccountLedger ledger = reservation.ledger;
+        int symbolId = reservation.key.symbolId();
+
+        if (reservation.key.side() == OrderSide.BUY) {
+            long released = completed
+                ? reservation.reservedCash.getAndSet(0)
+                : reservation.releaseCash(Money.buyCost(reservation.key.price(), taken, TradeConstants.DEFAULT_FEE_RATE_PPM));
+            ledger.fillBuy(symbolId, taken, released,
+                Money.buyCost(fillPrice, taken, TradeConstants.DEFAULT_FEE_RATE_PPM),
+                Money.notional(fillPrice, taken), Money.notional(reservation.key.price(), taken));
+        } else {
+            ledger.fillSell(symbolId, taken,
+                Money.sellProceeds(fillPrice, taken, TradeConstants.DEFAULT_FEE_RATE_PPM, TradeConstants.TAX_RATE_PPM));
+        }
+
+        if (completed) {
+            complete(orderId, reservation);
+        }
+        return true;
+    }
+
+    /**
+     * 미체결 잔량 예약 해제 (취소, 거부, 만료)
+     * @param orderId 주문 ID
+     * @return 예약된 주문이면 true
+     */
+    public boolean release(String orderId) {
+        Reservation reservation = reservations.get(orderId);
+        if (reservation == null) {
+            return false;
+        }
+
+        long remaining = reservation.take(Long.MAX_VALUE);
+        AccountLedger ledger = reservation.ledger;
+        int symbolId = reservation.key.symbolId();
+        if (reservation.key.side() == OrderSide.BUY) {
+            ledger.releaseCash(reservation.reservedCash.getAndSet(0));
+            ledger.addExposure(symbolId, -Money.notional(reservation.key.price(), remaining));
+        } else {
+            ledger.releaseShares(symbolId, remaining);
+        }
+        complete(orderId, reservation);
+        return true;
+    }
+
+    /**
+     * 재기동 시 미체결 주문의 예약 복원 (한도 점검 없이 미체결 잔량만큼 예약)
+     * 주문 저널을 재생한 뒤 잔고 동기화 전에 호출하며, syncCash 가 예약 현금을 뺀 주문 가능 현금을 다시 계산한다.
+     * 복원된 예약은 장중 예약과 같이 onFill/release 로 정리된다.
+     * @param order 원 주문 (중복 판별 키와 전략 주문 수 기준)
+     * @param remainingQuantity 미체결 수량
+     * @return 예약을 복원했으면 true, 이미 예약이 있거나 미체결 수량이 없으면 false
+     */
+    public boolean restore(RiskOrder order, long remainingQuantity) {
+        if (remainingQuantity <= 0 || reservations.containsKey(order.getOrderId())) {
+            return false;
+        }
+
+        AccountLedger ledger = ledger(order.getAccountNo());
+        int symbolId = symbolRegistry.register(order.getStockCode());
+        AccountLedger.OrderKey key = new AccountLedger.OrderKey(
+            order.getStrategyId(), symbolId, order.getSide(), order.getPrice(), order.getQuantity());
+        long cash = order.getSide() == OrderSide.BUY
+            ? Money.buyCost(order.getPrice(), remainingQuantity, TradeConstants.DEFAULT_FEE_RATE_PPM)
+            : 0;
+        if (reservations.putIfAbsent(order.getOrderId(), new Reservation(ledger, key, remainingQuantity, cash)) != null) {
+            return false;
+        }
+
+        ledger.addOrderKey(key);
+        ledger.acquireOrderSlot(order.getStrategyId());
+        if (order.getSide() == OrderSide.BUY) {
+            ledger.reserveCash(cash);
+            ledger.addExposure(symbolId, Money.notional(order.getPrice(), remainingQuantity));
+        } else {
+            ledger.reserveShares(symbolId, remainingQuantity);
+        }
+        return true;
+    }
+
+    /**
+     * 주문의 미체결 수량 조회
+     * @param orderId 주문 ID
+     * @return 미체결 수량, 예약이 없으면 empty
+     */
+    public Optional<Long> getRemainingQuantity(String orderId) {
+        Reservation reservation = reservations.get(orderId);
+        return reservation == null ? Optional.empty() : Optional.of(reservation.remaining.get());
+    }
+
+    private ValidationResult tryReserve(RiskOrder order) {
+        if (order.getPrice() <= 0 || order.getQuantity() <= 0) {
+            return INVALID;
+        }
+        if (reservations.containsKey(order.getOrderId())) {
+            return DUPLICATE;
+        }
+
+        AccountLedger ledger = ledger(order.getAccountNo());
+        int symbolId = symbolRegistry.register(order.getStockCode());
+        AccountLedger.OrderKey key = new AccountLedger.OrderKey(
+            order.getStrategyId(), symbolId, order.getSide(), order.getPrice(), order.getQuantity());
+
+        if (!ledger.addOrderKey(key)) {
+            return DUPLICATE;
+        }
+        if (!ledger.tryAcquireOrderSlot(order.getStrategyId(), TradeConstants.MAX_ORDERS_PER_STRATEGY)) {
+            ledger.removeOrderKey(key);
+            return MAX_ORDERS;
+        }
+
+        ValidationResult result = order.getSide() == OrderSide.BUY
+            ? reserveBuy(ledger, symbolId, order)
+            : reserveSell(ledger, symbolId, order);
+        if (!result.isValid()) {
+            ledger.releaseOrderSlot(order.getStrategyId());
+            ledger.removeOrderKey(key);
+            return result;
+        }
+        long cash = order.getSide() == OrderSide.BUY
+            ? Money.buyCost(order.getPrice(), order.getQuantity(), TradeConstants.DEFAULT_FEE_RATE_PPM)
+            : 0;
+        Reservation reservation = new Reservation(ledger, key, order.getQuantity(), cash);
+        if (reservations.putIfAbsent(order.getOrderId(), reservation) != null) {
+            // 같은 주문 ID 로 동시에 들어온 요청
+            if (order.getSide() == OrderSide.BUY) {
+                ledger.releaseCash(cash);
+                ledger.addExposure(symbolId, -Money.notional(order.getPrice(), order.getQuantity()));
+            } else {
+                ledger.releaseShares(symbolId, order.getQuantity());
+            }
+            ledger.releaseOrderSlot(order.getStrategyId());
+            ledger.removeOrderKey(key);
+            return DUPLICATE;
+        }
+        return ValidationResult.VALID;
+    }
+
+    private ValidationResult reserveBuy(AccountLedger ledger, int symbolId, RiskOrder order) {
+        long notional = Money.notional(order.getPrice(), order.getQuantity());
+        long limit = Rate.apply(ledger.getEquity(), TradeConstants.MAX_POSITION_SIZE_RATE_PPM, RoundingMode.DOWN);
+        if (!ledger.tryAddExposure(symbolId, notional, limit)) {
+            return POSITION_LIMIT;
+        }
+        long cost = Money.buyCost(order.getPrice(), order.getQuantity(), TradeConstants.DEFAULT_FEE_RATE_PPM);
+        if (!ledger.tryReserveCash(cost)) {
+            ledger.addExposure(symbolId, -notional);
+            return FUNDS;
+        }
+        return ValidationResult.VALID;
+    }
+
+    private ValidationResult reserveSell(AccountLedger ledger, int symbolId, RiskOrder order) {
+        return ledger.tryReserveShares(symbolId, order.getQuantity()) ? ValidationResult.VALID : POSITION;
+    }
+
+    private void complete(String orderId, Reservation reservation) {
+        if (reservations.remove(orderId, reservation)) {
+            reservation.ledger.releaseOrderSlot(reservation.key.strategyId());
+            reservation.ledger.removeOrderKey(reservation.key);
+        }
+    }
+
+    /**
+     * 주문별 예약 (미체결 수량, 남은 예약 현금)
+     */
+    private static final class Reservation {
+        private final AccountLedger ledger;
+        private final AccountLedger.OrderKey key;
+        private final AtomicLong remaining;
+        private final AtomicLong reservedCash;
+
+        private Reservation(AccountLedger ledger, AccountLedger.OrderKey key, long quantity, long cash) {
+            this.ledger = ledger;
+            this.key = key;
+            this.remaining = new AtomicLong(quantity);
+            this.reservedCash = new AtomicLong(cash);
+        }
+
+        /**
+         * 미체결 수량에서 최대 quantity 만큼 차감
+         * @return 실제 차감한 수량
+         */
+        private long take(long quantity) {
+            long current;
+            long taken;
+            do {
+                current = remaining.get();
+                taken = Math.min(current, quantity);
+            } while (taken > 0 && !remaining.compareAndSet(current, current - taken));
+            return taken;
+        }
+
+        /**
+         * 남은 예약 현금에서 최대 amount 만큼 차감
+         * @return 실제 차감한 금액
+         */
+        private long releaseCash(long amount) {
+            long current;
+            long released;
+            do {
+                current = reservedCash.get();
+                released = Math.min(current, amount);
+            } while (!reservedCash.compareAndSet(current, current - released));
+            return released;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.setlog.setstock.risk;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.order.OrderSide;
+
+/**
+ * 사전 리스크 점검 대상 주문
+ *
+ * 가격은 원 단위 정수이며, 시장가 주문은 예약 기준이 될 보호 가격(예: 상한가)을 넣어야 한다.
+ */
+@Getter
+@ToString
+@Builder
+public class RiskOrder {
+
+    private final String orderId;      // 주문 ID (예약/해제 키)
+    private final String accountNo;    // 계좌번호
+    private final String strategyId;   // 전략 ID
+    private final int stockCode;       // 종목 코드 (정수)
+    private final OrderSide side;      // 주문 방향
+    private final long price;          // 주문 가격 (원)
+    private final long quantity;       // 주문 수량
+}
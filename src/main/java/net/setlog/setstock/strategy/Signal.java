@@ -0,0 +1,26 @@
+package net.setlog.setstock.strategy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.candle.CandleType;
+
+/**
+ * 전략 매매 신호 (불변)
+ *
+ * sequence 는 종목별로 증가하므로 같은 종목의 신호는 발생 순서대로 정렬할 수 있다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class Signal {
+
+    private final String strategyId;    // 전략 ID
+    private final String strategyType;  // 전략 유형 (TradeConstants.STRATEGY_TYPE_*)
+    private final int stockCode;        // 종목 코드 (정수)
+    private final SignalType type;      // 신호 유형
+    private final long price;           // 신호 기준 가격 (캔들 종가 또는 체결가)
+    private final CandleType candleType;  // 캔들 주기 (체결 기반 신호면 null)
+    private final long sequence;        // 종목별 신호 순번
+    private final long timestamp;       // 발생 시각 (epoch millis)
+}
@@ -0,0 +1,16 @@
+package net.setlog.setstock.strategy;
+
+/**
+ * 매매 신호 리스너
+ *
+ * 같은 종목의 신호는 항상 같은 파티션 스레드에서 순서대로 전달되지만, 서로 다른 종목은 동시에 전달될 수 있다.
+ */
+@FunctionalInterface
+public interface SignalListener {
+
+    /**
+     * 신호 처리
+     * @param signal 매매 신호
+     */
+    void onSignal(Signal signal);
+}
@@ -0,0 +1,27 @@
+package net.setlog.setstock.strategy;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+
+/**
+ * 매매 신호 유형
+ */
+public enum SignalType {
+
+    BUY(TradeConstants.SIGNAL_TYPE_BUY),
+    SELL(TradeConstants.SIGNAL_TYPE_SELL),
+    HOLD(TradeConstants.SIGNAL_TYPE_HOLD);
+
+    private final String value;
+
+    SignalType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * 신호 유형 문자열 반환
+     * @return TradeConstants.SIGNAL_TYPE_* 값
+     */
+    public String getValue() {
+        return value;
+    }
+}
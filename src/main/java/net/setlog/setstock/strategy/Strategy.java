@@ -0,0 +1,52 @@
+package net.setlog.setstock.strategy;
+
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.realtime.Tick;
+
+/**
+ * 매매 전략
+ *
+ * StrategyEngine 은 종목을 파티션 스레드에 고정하여 평가하므로, 같은 종목에 대한 호출은 한 스레드에서 순서대로 일어나고
+ * 서로 다른 종목은 동시에 호출된다. 종목별 상태를 종목 id 로 나누어 두면 잠금 없이 관리할 수 있다.
+ * 평가 시간은 전략별 지연 히스토그램(strategy.evaluation)으로 기록되므로 블로킹 작업을 수행하면 안 된다.
+ */
+public interface Strategy {
+
+    /**
+     * 전략 ID
+     * @return 전략 ID
+     */
+    String getId();
+
+    /**
+     * 전략 유형
+     * @return TradeConstants.STRATEGY_TYPE_* 값
+     */
+    String getType();
+
+    /**
+     * 체결마다 평가할지 여부 (true 인 전략이 하나라도 있어야 체결을 파티션에 전달)
+     * @return 체결 기반 전략이면 true
+     */
+    default boolean isTickDriven() {
+        return false;
+    }
+
+    /**
+     * 완성된 캔들 평가
+     * @param candle 완성된 캔들 (지표는 이미 갱신된 상태)
+     * @return 신호, 없으면 null
+     */
+    default SignalType onCandle(Candle candle) {
+        return null;
+    }
+
+    /**
+     * 체결 평가 (isTickDriven 인 경우에만 호출)
+     * @param tick 엔진이 복사한 체결 레코드
+     * @return 신호, 없으면 null
+     */
+    default SignalType onTick(Tick tick) {
+        return null;
+    }
+}
@@ -0,0 +1,356 @@
+package net.setlog.setstock.strategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.candle.CandleAggregator;
+import net.setlog.setstock.candle.CandleListener;
+import net.setlog.setstock.common.config.StrategyEngineProperties;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.exception.ErrorReporter;
+import net.setlog.setstock.indicator.IndicatorEngine;
+import net.setlog.setstock.realtime.Tick;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickListener;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 병렬 전략 평가 엔진
+ *
+ * 종목 id 로 종목을 파티션(CPU 코어 수만큼의 전용 스레드)에 고정하고, 완성된 캔들과 체결을 해당 파티션 큐에 넣는다.
+ * 각 파티션은 이벤트마다 활성 전략(최대 MAX_ACTIVE_STRATEGIES)을 차례로 평가하므로 전략 사이에 공유 잠금이 없고,
+ * 한 종목의 이벤트와 신호는 항상 한 스레드에서 순서대로 처리된다. 병렬성은 종목 사이에서 얻으므로
+ * 같은 캔들에 대해 뒤 전략의 신호는 여전히 앞 전략들의 평가 시간만큼 늦지만, 다른 파티션 종목의 평가는 기다리지 않는다.
+ * 큐가 비면 파티션 스레드는 잠깐 스핀한 뒤 다음 이벤트가 깨울 때까지 park 한다 (유휴 시 주기적으로 깨어나지 않음).
+ * 전략별 평가 시간은 strategy.evaluation 타이머(히스토그램)로 기록한다.
+ * 지표 엔진보다 늦게 캔들 리스너로 등록되므로 전략은 완성 캔들의 지표가 갱신된 뒤 호출된다.
+ */
+@Component
+public class StrategyEngine implements SmartLifecycle, CandleListener, TickListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StrategyEngine.class);
+
+    private static final String STRATEGY_ERROR = "STRATEGY_ERROR";
+    private static final int SPIN_LIMIT = 100;
+
+    private final SymbolRegistry symbolRegistry;
+    private final ErrorReporter errorReporter;
+    private final MeterRegistry meterRegistry;
+    private final Partition[] partitions;
+    private final int queueCapacity;
+    private final List<SignalListener> listeners = new CopyOnWriteArrayList<>();
+    private final Counter droppedTicks;
+
+    // 파티션 스레드가 잠금 없이 읽는 활성 전략 스냅샷 (변경 시 새 배열로 교체)
+    private volatile ActiveStrategy[] active = new ActiveStrategy[0];
+    private volatile boolean tickDriven;
+    private volatile boolean running;
+
+    /**
+     * 생성자
+     * @param properties 전략 엔진 설정
+     * @param tickDispatcher 체결 디스패처
+     * @param candleAggregator 캔들 집계기
+     * @param indicatorEngine 지표 엔진 (캔들 리스너 등록 순서 보장용)
+     * @param symbolRegistry 종목 레지스트리
+     * @param errorReporter 오류 집계기
+     * @param meterRegistry 메트릭 레지스트리
+     * @param strategies 등록할 전략 빈
+     */
+    public StrategyEngine(StrategyEngineProperties properties, TickDispatcher tickDispatcher,
+                          CandleAggregator candleAggregator, IndicatorEngine indicatorEngine,
+                          SymbolRegistry symbolRegistry, ErrorReporter errorReporter, MeterRegistry meterRegistry,
+                          ObjectProvider<Strategy> strategies) {
+        this.symbolRegistry = symbolRegistry;
+        this.errorReporter = errorReporter;
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = properties.getQueueCapacity();
+
+        int count = properties.getPartitions() > 0
+            ? properties.getPartitions()
+            : Runtime.getRuntime().availableProcessors();
+        this.partitions = new Partition[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = new Partition(i);
+        }
+        this.droppedTicks = meterRegistry.counter("strategy.ticks.dropped");
+
+        strategies.orderedStream().forEach(this::register);
+        candleAggregator.addListener(this);
+        tickDispatcher.addListener(this);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (Partition partition : partitions) {
+            partition.start();
+        }
+        log.info("전략 엔진 시작: 파티션 {}개, 활성 전략 {}개", partitions.length, active.length);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Partition partition : partitions) {
+            partition.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 전략 등록
+     * @param strategy 전략
+     * @throws BusinessException 활성 전략 수가 MAX_ACTIVE_STRATEGIES 에 도달했거나 같은 ID 가 있는 경우
+     */
+    public synchronized void register(Strategy strategy) {
+        ActiveStrategy[] current = active;
+        if (current.length >= TradeConstants.MAX_ACTIVE_STRATEGIES) {
+            throw BusinessException.strategyException("최대 활성 전략 수를 초과했습니다: " + TradeConstants.MAX_ACTIVE_STRATEGIES);
+        }
+        for (ActiveStrategy existing : current) {
+            if (existing.strategy.getId().equals(strategy.getId())) {
+                throw BusinessException.strategyException("이미 등록된 전략입니다: " + strategy.getId());
+            }
+        }
+
+        Timer timer = Timer.builder("strategy.evaluation")
+            .tag("strategy", strategy.getId())
+            .tag("type", strategy.getType())
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        ActiveStrategy[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = new ActiveStrategy(strategy, timer);
+        publish(next);
+    }
+
+    /**
+     * 전략 해제
+     * @param strategyId 전략 ID
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean unregister(String strategyId) {
+        ActiveStrategy[] current = active;
+        List<ActiveStrategy> next = new ArrayList<>(current.length);
+        for (ActiveStrategy entry : current) {
+            if (!entry.strategy.getId().equals(strategyId)) {
+                next.add(entry);
+            }
+        }
+        if (next.size() == current.length) {
+            return false;
+        }
+        publish(next.toArray(new ActiveStrategy[0]));
+        return true;
+    }
+
+    /**
+     * 신호 리스너 등록
+     * @param listener 신호 리스너
+     */
+    public void addListener(SignalListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 신호 리스너 해제
+     * @param listener 신호 리스너
+     */
+    public void removeListener(SignalListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 활성 전략 수
+     * @return 전략 수
+     */
+    public int getActiveCount() {
+        return active.length;
+    }
+
+    @Override
+    public void onCandleClosed(Candle candle) {
+        if (active.length == 0) {
+            return;
+        }
+        int id = symbolRegistry.register(candle.getStockCode());
+        partitionOf(id).offer(new Event(id, candle, null), true);
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        if (!tickDriven || tick.getPrice() <= 0) {
+            return;
+        }
+        int id = symbolRegistry.idOf(tick.getStockCode());
+        if (id < 0) {
+            id = symbolRegistry.register(tick.getStockCode());
+        }
+        // 디스패처의 Tick 은 재사용되므로 파티션으로 넘기기 전에 복사
+        Tick copy = new Tick();
+        copy.copyFrom(tick);
+        if (!partitionOf(id).offer(new Event(id, null, copy), false)) {
+            droppedTicks.increment();
+        }
+    }
+
+    private Partition partitionOf(int symbolId) {
+        return partitions[symbolId % partitions.length];
+    }
+
+    private void publish(ActiveStrategy[] next) {
+        boolean anyTickDriven = false;
+        for (ActiveStrategy entry : next) {
+            anyTickDriven |= entry.strategy.isTickDriven();
+        }
+        active = next;
+        tickDriven = anyTickDriven;
+    }
+
+    private void emit(Signal signal) {
+        for (SignalListener listener : listeners) {
+            try {
+                listener.onSignal(signal);
+            } catch (RuntimeException e) {
+                log.error("신호 리스너 처리 중 예외 발생: {}", signal, e);
+            }
+        }
+    }
+
+    /**
+     * 활성 전략과 지연 타이머
+     */
+    private record ActiveStrategy(Strategy strategy, Timer timer) {
+    }
+
+    /**
+     * 파티션 이벤트 (캔들 또는 체결 중 하나)
+     */
+    private record Event(int symbolId, Candle candle, Tick tick) {
+    }
+
+    /**
+     * 종목 파티션 (전용 평가 스레드와 잠금 없는 이벤트 큐)
+     */
+    private final class Partition {
+        private final int index;
+        private final Queue<Event> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final long[] sequences = new long[SymbolRegistry.MAX_SYMBOLS];  // 이 파티션 스레드만 접근
+        private volatile boolean parked;  // 파티션 스레드가 park 직전에 설정, offer 가 보면 unpark
+        private Thread thread;
+
+        private Partition(int index) {
+            this.index = index;
+        }
+
+        /**
+         * 이벤트 추가
+         * @param event 이벤트
+         * @param force 상한을 넘어도 넣을지 여부 (캔들)
+         * @return 넣었으면 true
+         */
+        private boolean offer(Event event, boolean force) {
+            if (pending.incrementAndGet() > queueCapacity && !force) {
+                pending.decrementAndGet();
+                return false;
+            }
+            queue.offer(event);
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        private void start() {
+            thread = new Thread(this::run, "strategy-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void stop() {
+            if (thread != null) {
+                LockSupport.unpark(thread);
+                try {
+                    thread.join(TimeUnit.SECONDS.toMillis(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void run() {
+            int idle = 0;
+            while (running) {
+                Event event = queue.poll();
+                if (event != null) {
+                    pending.decrementAndGet();
+                    evaluate(event);
+                    idle = 0;
+                } else if (++idle < SPIN_LIMIT) {
+                    Thread.onSpinWait();
+                } else {
+                    // parked 를 쓴 뒤 큐를 다시 확인하므로, 그 사이 들어온 이벤트는 여기서 보거나 offer 가 unpark 한다
+                    parked = true;
+                    if (queue.isEmpty() && running) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    idle = 0;
+                }
+            }
+        }
+
+        private void evaluate(Event event) {
+            for (ActiveStrategy entry : active) {
+                Strategy strategy = entry.strategy;
+                if (event.tick != null && !strategy.isTickDriven()) {
+                    continue;
+                }
+
+                SignalType type;
+                long start = System.nanoTime();
+                try {
+                    type = event.candle != null ? strategy.onCandle(event.candle) : strategy.onTick(event.tick);
+                } catch (RuntimeException e) {
+                    if (errorReporter.record(STRATEGY_ERROR, 500)) {
+                        log.error("전략 평가 중 예외 발생: {} {}", strategy.getId(),
+                            event.candle != null ? event.candle : event.tick, e);
+                    }
+                    continue;
+                } finally {
+                    entry.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+
+                if (type != null) {
+                    emit(new Signal(strategy.getId(), strategy.getType(),
+                        event.candle != null ? event.candle.getStockCode() : event.tick.getStockCode(), type,
+                        event.candle != null ? event.candle.getClose() : event.tick.getPrice(),
+                        event.candle != null ? event.candle.getType() : null,
+                        ++sequences[event.symbolId], System.currentTimeMillis()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package net.setlog.setstock.symbol;
+
+import net.setlog.setstock.common.util.ValidationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 종목 심볼 레지스트리
+ *
+ * 종목 코드를 처음 볼 때 한 번만 검증하고 0부터 연속된 int id 를 부여한다.
+ * 체결/캔들/지표/포지션처럼 종목별 상태를 갖는 구성 요소는 이 id 로 크기 MAX_SYMBOLS 의 배열을 색인하고,
+ * 문자열 종목 코드는 API/캐시 경계에서만 codeOf 로 되돌린다.
+ * 등록은 드물게 일어나므로 동기화하고, 조회는 잠금 없이 배열 접근만 한다.
+ */
+@Component
+public class SymbolRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(SymbolRegistry.class);
+
+    /**
+     * 등록 가능한 최대 종목 수 (유가증권/코스닥 상장 종목 + ETF/ETN 여유분)
+     */
+    public static final int MAX_SYMBOLS = 8192;
+
+    /**
+     * 등록되지 않은 종목
+     */
+    public static final int NO_SYMBOL = -1;
+
+    private static final int CODE_SPACE = 1_000_000;  // 6자리 숫자 코드 범위
+
+    private final AtomicIntegerArray idByCode = new AtomicIntegerArray(CODE_SPACE);  // 0 = 미등록, 그 외 id + 1
+    private final int[] codeById = new int[MAX_SYMBOLS];
+    private final String[] codeStringById = new String[MAX_SYMBOLS];
+    private volatile int size;
+
+    /**
+     * 종목 id 조회
+     * @param stockCode 정수 종목 코드 (예: 5930)
+     * @return 종목 id, 미등록이면 NO_SYMBOL
+     */
+    public int idOf(int stockCode) {
+        if (stockCode < 0 || stockCode >= CODE_SPACE) {
+            return NO_SYMBOL;
+        }
+        return idByCode.get(stockCode) - 1;
+    }
+
+    /**
+     * 종목 id 조회
+     * @param stockCode 종목 코드 (예: "005930")
+     * @return 종목 id, 미등록이거나 형식이 잘못되었으면 NO_SYMBOL
+     */
+    public int idOf(CharSequence stockCode) {
+        int code = ValidationUtils.parseStockCode(stockCode);
+        return code < 0 ? NO_SYMBOL : idOf(code);
+    }
+
+    /**
+     * 종목 등록 (이미 등록된 종목이면 기존 id 반환)
+     * @param stockCode 종목 코드 (예: "005930")
+     * @return 종목 id
+     * @throws net.setlog.setstock.common.exception.BusinessException 종목 코드 형식이 잘못된 경우
+     * @throws IllegalStateException 등록 한도를 넘은 경우
+     */
+    public int register(String stockCode) {
+        ValidationUtils.validateStockCode(stockCode, "유효하지 않은 종목 코드입니다: " + stockCode);
+        return register(ValidationUtils.parseStockCode(stockCode));
+    }
+
+    /**
+     * 종목 등록 (이미 등록된 종목이면 기존 id 반환)
+     * @param stockCode 정수 종목 코드 (예: 5930)
+     * @return 종목 id
+     * @throws IllegalArgumentException 6자리 범위를 벗어난 경우
+     * @throws IllegalStateException 등록 한도를 넘은 경우
+     */
+    public int register(int stockCode) {
+        int id = idOf(stockCode);
+        if (id >= 0) {
+            return id;
+        }
+        if (stockCode < 0 || stockCode >= CODE_SPACE) {
+            throw new IllegalArgumentException("유효하지 않은 종목 코드입니다: " + stockCode);
+        }
+
+        synchronized (this) {
+            id = idByCode.get(stockCode) - 1;
+            if (id >= 0) {
+                return id;
+            }
+            id = size;
+            if (id >= MAX_SYMBOLS) {
+                throw new IllegalStateException("종목 등록 한도(" + MAX_SYMBOLS + ")를 초과했습니다");
+            }
+            codeById[id] = stockCode;
+            codeStringById[id] = String.format("%06d", stockCode);
+            size = id + 1;
+            idByCode.set(stockCode, id + 1);  // 코드 배열 기록 이후 공개
+        }
+        log.debug("종목 등록: {} -> {}", codeStringById[id], id);
+        return id;
+    }
+
+    /**
+     * 종목 코드 조회
+     * @param id 종목 id
+     * @return 종목 코드 (예: "005930")
+     * @throws IllegalArgumentException 등록되지 않은 id 인 경우
+     */
+    public String codeOf(int id) {
+        checkId(id);
+        return codeStringById[id];
+    }
+
+    /**
+     * 정수 종목 코드 조회
+     * @param id 종목 id
+     * @return 정수 종목 코드 (예: 5930)
+     * @throws IllegalArgumentException 등록되지 않은 id 인 경우
+     */
+    public int stockCodeOf(int id) {
+        checkId(id);
+        return codeById[id];
+    }
+
+    /**
+     * 등록된 종목 수 (id 는 0 ~ size - 1)
+     * @return 종목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("등록되지 않은 종목 id 입니다: " + id);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package net.setlog.setstock.timer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.setlog.setstock.common.config.TimingWheelProperties;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.util.DateTimeUtils;
+import net.setlog.setstock.common.util.EpochMinutes;
+import net.setlog.setstock.common.util.TradingCalendar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 포지션/주문 만료 스케줄러
+ *
+ * 포지션 최대 보유 시간, 주문 만료 같은 건별 마감 시각을 프로세스 내 계층형 타이밍 휠로 관리한다.
+ * 포지션마다 Quartz JDBC 잡을 만들거나 주기적으로 전체를 훑지 않고, 등록/취소 O(1) 로 처리한다.
+ * 포지션 청산 마감은 당일 폐장 시각(DateTimeUtils.getMarketCloseTime)보다 exit-lead 만큼 앞당겨
+ * 종가 단일가(15:20) 전에 남은 포지션이 정리되고, 당일 주문 만료는 폐장 시각에 일어난다.
+ * 만료 작업은 전용 타이머 스레드에서 실행되므로 블로킹 작업은 다른 스레드로 넘겨야 한다.
+ */
+@Component
+public class DeadlineScheduler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineScheduler.class);
+
+    private static final long MAX_POSITION_DURATION_MILLIS =
+        TimeUnit.MINUTES.toMillis(TradeConstants.MAX_POSITION_DURATION_MINUTES);
+
+    private final TimingWheel wheel;
+    private final long tickNanos;
+    private final long exitLeadMillis;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * 생성자
+     * @param properties 타이밍 휠 설정
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public DeadlineScheduler(TimingWheelProperties properties, MeterRegistry meterRegistry) {
+        this.wheel = new TimingWheel(properties.getTick().toMillis(), properties.getWheelSize(),
+            properties.getLevels(), System.currentTimeMillis());
+        this.tickNanos = properties.getTick().toNanos();
+        this.exitLeadMillis = properties.getExitLead().toMillis();
+        Gauge.builder("deadline.pending", wheel, TimingWheel::size).register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "deadline-timer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 마감 작업 등록
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     * @param task 만료 시 실행할 작업
+     * @return 취소용 타이머 핸들
+     */
+    public TimingWheel.Timeout schedule(long deadlineMillis, Runnable task) {
+        return wheel.schedule(deadlineMillis, () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("만료 작업 처리 중 예외 발생", e);
+            }
+        });
+    }
+
+    /**
+     * 청산 마감 시각(폐장 - exit-lead)을 넘지 않는 마감 작업 등록
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     * @param task 만료 시 실행할 작업
+     * @return 취소용 타이머 핸들
+     */
+    public TimingWheel.Timeout scheduleBeforeClose(long deadlineMillis, Runnable task) {
+        return schedule(exitDeadlineMillis(deadlineMillis, System.currentTimeMillis()), task);
+    }
+
+    /**
+     * 폐장 시각에 실행할 작업 등록 (당일 주문 만료 등)
+     * @param task 폐장 시 실행할 작업
+     * @return 취소용 타이머 핸들
+     */
+    public TimingWheel.Timeout scheduleAtClose(Runnable task) {
+        return schedule(sessionCloseMillis(System.currentTimeMillis()), task);
+    }
+
+    /**
+     * 포지션 최대 보유 시간 청산 등록 (MAX_POSITION_DURATION_MINUTES 또는 청산 마감 중 이른 시각)
+     * @param openedAtMillis 포지션 진입 시각 (epoch millis)
+     * @param exit 청산 작업
+     * @return 취소용 타이머 핸들 (포지션을 먼저 정리하면 취소)
+     */
+    public TimingWheel.Timeout schedulePositionExit(long openedAtMillis, Runnable exit) {
+        return scheduleBeforeClose(openedAtMillis + MAX_POSITION_DURATION_MILLIS, exit);
+    }
+
+    /**
+     * 대기 중인 마감 작업 수
+     * @return 작업 수
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    /**
+     * 청산 마감을 적용한 만료 시각
+     * 이미 청산 마감이 지났으면 지난 시각을 그대로 반환하여 다음 틱에 바로 실행된다.
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     * @param nowMillis 기준 시각 (epoch millis)
+     * @return 만료 시각과 (다음 폐장 - exit-lead) 중 이른 시각
+     */
+    long exitDeadlineMillis(long deadlineMillis, long nowMillis) {
+        return Math.min(deadlineMillis, sessionCloseMillis(nowMillis) - exitLeadMillis);
+    }
+
+    /**
+     * 지정 시각 이후 가장 가까운 폐장 시각
+     * 당일이 거래일이고 아직 폐장 전이면 당일 폐장, 아니면 다음 거래일 폐장이다.
+     * @param nowMillis 기준 시각 (epoch millis)
+     * @return 폐장 시각 (epoch millis)
+     */
+    public static long sessionCloseMillis(long nowMillis) {
+        TradingCalendar calendar = TradingCalendar.getDefault();
+        long epochDay = calendar.onOrAfter(EpochMinutes.epochDay(EpochMinutes.ofEpochMillis(nowMillis)));
+        long close = closeMillis(epochDay);
+        if (close <= nowMillis) {
+            close = closeMillis(calendar.plusTradingDays(epochDay, 1));
+        }
+        return close;
+    }
+
+    private static long closeMillis(long epochDay) {
+        return EpochMinutes.toEpochMillis(EpochMinutes.of(DateTimeUtils.getMarketCloseTime(LocalDate.ofEpochDay(epochDay))));
+    }
+
+    private void run() {
+        while (running) {
+            wheel.advance(System.currentTimeMillis());
+            LockSupport.parkNanos(tickNanos);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package net.setlog.setstock.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 해시 타이밍 휠
+ *
+ * 단계마다 wheelSize 개의 슬롯을 두고, 만료 시각이 가까운 타이머는 아래 단계에, 먼 타이머는 위 단계에 넣는다.
+ * 위 단계 슬롯 차례가 오면 그 슬롯의 타이머를 아래 단계로 다시 나누어 넣는다(cascade).
+ * 슬롯은 이중 연결 리스트이므로 등록과 취소는 O(1) 이고, 틱마다 해당 슬롯만 처리하므로 전체 타이머를 훑지 않는다.
+ * 기본값(틱 100ms, 슬롯 256, 4단계)이면 약 13년 앞까지 표현한다.
+ * 상태 변경은 짧은 잠금 안에서 수행하고, 만료된 작업은 잠금 밖에서 advance 호출 스레드가 실행한다.
+ */
+public final class TimingWheel {
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Timeout[][] slots;  // [단계][슬롯] 의 리스트 머리
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long currentTick;  // 아직 처리하지 않은 첫 틱
+    private int size;
+
+    /**
+     * 생성자
+     * @param tickMillis 틱 간격 (밀리초)
+     * @param wheelSize 단계별 슬롯 수 (2의 거듭제곱)
+     * @param levels 단계 수
+     * @param originMillis 틱 0 의 시각 (epoch millis)
+     */
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long originMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1 || levels < 1
+            || Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.slots = new Timeout[levels][wheelSize];
+    }
+
+    /**
+     * 타이머 등록
+     * 이미 지난 시각이면 다음 틱에 만료된다. 표현 범위를 넘는 시각은 범위 끝으로 당긴다.
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     * @param task 만료 시 실행할 작업
+     * @return 취소용 타이머 핸들
+     */
+    public Timeout schedule(long deadlineMillis, Runnable task) {
+        Timeout timeout = new Timeout(this, deadlineMillis, task);
+        lock.lock();
+        try {
+            long horizon = currentTick + (1L << (bits * levels)) - 1;
+            long tick = Math.ceilDiv(deadlineMillis - originMillis, tickMillis);
+            timeout.tick = Math.min(Math.max(tick, currentTick), horizon);
+            place(timeout);
+            size++;
+        } finally {
+            lock.unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * 지정 시각까지 지난 틱을 처리하고 만료된 작업 실행
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 만료된 타이머 수
+     */
+    public int advance(long nowMillis) {
+        List<Timeout> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            long target = Math.floorDiv(nowMillis - originMillis, tickMillis);
+            while (currentTick <= target) {
+                processTick(currentTick, expired);
+                currentTick++;
+                if (size == 0) {
+                    // 남은 타이머가 없으면 빈 슬롯을 돌 필요 없음
+                    currentTick = Math.max(currentTick, target + 1);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Timeout timeout : expired) {
+            timeout.task.run();
+        }
+        return expired.size();
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     * @return 타이머 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 틱 간격
+     * @return 밀리초
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    boolean cancel(Timeout timeout) {
+        lock.lock();
+        try {
+            if (timeout.state != Timeout.PENDING) {
+                return false;
+            }
+            unlink(timeout);
+            timeout.state = Timeout.CANCELLED;
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void processTick(long tick, List<Timeout> expired) {
+        // 위 단계부터 내려야 같은 틱에 여러 단계가 넘어갈 때 아래 단계 슬롯을 놓치지 않음
+        for (int level = levels - 1; level >= 1; level--) {
+            if ((tick & ((1L << (bits * level)) - 1)) == 0) {
+                int slot = (int) (tick >>> (bits * level)) & mask;
+                Timeout head = slots[level][slot];
+                slots[level][slot] = null;
+                while (head != null) {
+                    Timeout next = head.next;
+                    head.prev = null;
+                    head.next = null;
+                    place(head);
+                    head = next;
+                }
+            }
+        }
+
+        int slot = (int) tick & mask;
+        Timeout head = slots[0][slot];
+        slots[0][slot] = null;
+        while (head != null) {
+            Timeout next = head.next;
+            head.prev = null;
+            head.next = null;
+            head.level = -1;
+            head.state = Timeout.EXPIRED;
+            size--;
+            expired.add(head);
+            head = next;
+        }
+    }
+
+    /**
+     * 현재 틱과 상위 자리가 같아지는 가장 낮은 단계의 슬롯에 넣기
+     */
+    private void place(Timeout timeout) {
+        int level = 0;
+        while (level < levels - 1 && (timeout.tick >>> (bits * (level + 1))) != (currentTick >>> (bits * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) (timeout.tick >>> (bits * level)) & mask;
+        Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * 타이머 핸들 (슬롯 리스트 노드)
+     */
+    public static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TimingWheel wheel;
+        private final long deadlineMillis;
+        private final Runnable task;
+
+        // 이하 wheel.lock 으로 보호
+        private long tick;
+        private int level;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+        private int state = PENDING;
+
+        private Timeout(TimingWheel wheel, long deadlineMillis, Runnable task) {
+            this.wheel = wheel;
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        /**
+         * 요청한 만료 시각
+         * @return epoch millis
+         */
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 타이머 취소
+         * @return 만료 전에 취소했으면 true
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        /**
+         * 대기 중 여부
+         * @return 만료/취소 전이면 true
+         */
+        public boolean isPending() {
+            wheel.lock.lock();
+            try {
+                return state == PENDING;
+            } finally {
+                wheel.lock.unlock();
+            }
+        }
+    }
+}
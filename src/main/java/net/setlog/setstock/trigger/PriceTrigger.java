@@ -0,0 +1,86 @@
+package net.setlog.setstock.trigger;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.util.Price;
+import net.setlog.setstock.common.util.Rate;
+import net.setlog.setstock.order.OrderSide;
+
+import java.math.RoundingMode;
+
+/**
+ * 가격 트리거
+ *
+ * 종목 체결가가 기준가를 지정한 방향으로 넘으면 한 번 발동하고 제거된다.
+ * 발동 시 보낼 주문 정보(계좌, 전략, 방향, 수량)를 함께 담는다.
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public class PriceTrigger {
+
+    private final long id;                     // 트리거 ID (TriggerIndex 등록 시 부여)
+    private final TriggerType type;            // 트리거 종류
+    private final TriggerDirection direction;  // 발동 방향
+    private final int stockCode;               // 종목 코드 (정수)
+    private final long price;                  // 기준가 (원)
+    private final String accountNo;            // 계좌번호
+    private final String strategyId;           // 전략 ID
+    private final OrderSide side;              // 발동 시 주문 방향
+    private final long quantity;               // 발동 시 주문 수량
+
+    /**
+     * 매수 포지션 손절매 트리거 (진입가 대비 기본 손절 비율만큼 하락하면 매도)
+     * @param accountNo 계좌번호
+     * @param strategyId 전략 ID
+     * @param stockCode 종목 코드 (정수)
+     * @param entryPrice 진입가
+     * @param quantity 수량
+     * @return 손절매 트리거
+     */
+    public static PriceTrigger stopLoss(String accountNo, String strategyId, int stockCode, long entryPrice, long quantity) {
+        long level = entryPrice - Rate.apply(entryPrice, TradeConstants.DEFAULT_STOP_LOSS_RATE_PPM, RoundingMode.DOWN);
+        return exit(TriggerType.STOP_LOSS, TriggerDirection.DOWN, accountNo, strategyId, stockCode,
+            Price.ceilToTick(level), quantity);
+    }
+
+    /**
+     * 매수 포지션 익절매 트리거 (진입가 대비 기본 익절 비율만큼 상승하면 매도)
+     * @param accountNo 계좌번호
+     * @param strategyId 전략 ID
+     * @param stockCode 종목 코드 (정수)
+     * @param entryPrice 진입가
+     * @param quantity 수량
+     * @return 익절매 트리거
+     */
+    public static PriceTrigger takeProfit(String accountNo, String strategyId, int stockCode, long entryPrice, long quantity) {
+        long level = entryPrice + Rate.apply(entryPrice, TradeConstants.DEFAULT_TAKE_PROFIT_RATE_PPM, RoundingMode.UP);
+        return exit(TriggerType.TAKE_PROFIT, TriggerDirection.UP, accountNo, strategyId, stockCode,
+            Price.ceilToTick(level), quantity);
+    }
+
+    /**
+     * 체결가가 기준가를 넘었는지 확인
+     * @param tradePrice 체결가
+     * @return 발동 조건을 만족하면 true
+     */
+    public boolean isCrossedBy(long tradePrice) {
+        return direction == TriggerDirection.UP ? tradePrice >= price : tradePrice <= price;
+    }
+
+    private static PriceTrigger exit(TriggerType type, TriggerDirection direction, String accountNo, String strategyId,
+                                     int stockCode, long level, long quantity) {
+        return PriceTrigger.builder()
+            .type(type)
+            .direction(direction)
+            .stockCode(stockCode)
+            .price(level)
+            .accountNo(accountNo)
+            .strategyId(strategyId)
+            .side(OrderSide.SELL)
+            .quantity(quantity)
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package net.setlog.setstock.trigger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 종목별 가격 트리거 북
+ *
+ * 상향(UP)/하향(DOWN) 트리거를 기준가 원시 배열로 정렬해 두되, 다음에 발동할 트리거가 배열 끝에 오도록 한다.
+ * 상향은 기준가 내림차순, 하향은 오름차순이므로 체결가가 넘은 트리거는 항상 배열 끝의 연속 구간이고,
+ * 발동은 끝에서 k 개를 떼어내는 O(k), 등록/취소는 이진 탐색 O(log n) 후 배열 이동이다.
+ * 가장 가까운 기준가를 volatile 로 게시하여 대부분의 체결은 잠금 없이 비교 두 번으로 끝난다.
+ * 같은 기준가에서는 먼저 등록한 트리거가 먼저 발동한다. 변경은 lock 을 잡고 수행한다.
+ */
+final class TriggerBook {
+
+    final ReentrantLock lock = new ReentrantLock();
+
+    private final Levels up = new Levels(true);
+    private final Levels down = new Levels(false);
+
+    private volatile long nextUp = Long.MAX_VALUE;    // 가장 낮은 상향 기준가
+    private volatile long nextDown = Long.MIN_VALUE;  // 가장 높은 하향 기준가
+
+    /**
+     * 체결가가 발동 구간에 들어왔는지 확인 (잠금 없음)
+     * @param price 체결가
+     * @return 발동할 트리거가 있으면 true
+     */
+    boolean isCrossed(long price) {
+        return price >= nextUp || price <= nextDown;
+    }
+
+    /**
+     * 트리거 추가
+     * @param trigger 가격 트리거
+     */
+    void add(PriceTrigger trigger) {
+        levels(trigger).add(trigger);
+        publish();
+    }
+
+    /**
+     * 트리거 제거
+     * @param trigger 가격 트리거
+     * @return 북에 있었으면 true
+     */
+    boolean remove(PriceTrigger trigger) {
+        boolean removed = levels(trigger).remove(trigger);
+        if (removed) {
+            publish();
+        }
+        return removed;
+    }
+
+    /**
+     * 체결가가 넘은 트리거를 모두 떼어내기
+     * @param price 체결가
+     * @param fired 발동한 트리거를 담을 목록
+     * @return 발동한 트리거 수
+     */
+    int fire(long price, List<PriceTrigger> fired) {
+        int count = up.pop(price, fired) + down.pop(price, fired);
+        if (count > 0) {
+            publish();
+        }
+        return count;
+    }
+
+    /**
+     * 등록된 트리거 수
+     * @return 상향 + 하향 트리거 수
+     */
+    int size() {
+        return up.size + down.size;
+    }
+
+    private Levels levels(PriceTrigger trigger) {
+        return trigger.getDirection() == TriggerDirection.UP ? up : down;
+    }
+
+    private void publish() {
+        nextUp = up.size == 0 ? Long.MAX_VALUE : up.prices[up.size - 1];
+        nextDown = down.size == 0 ? Long.MIN_VALUE : down.prices[down.size - 1];
+    }
+
+    /**
+     * 한 방향의 기준가 정렬 배열 (rank 오름차순, 끝이 다음 발동 대상)
+     */
+    private static final class Levels {
+        private final boolean upward;
+        private long[] prices = new long[8];
+        private PriceTrigger[] triggers = new PriceTrigger[8];
+        private int size;
+
+        private Levels(boolean upward) {
+            this.upward = upward;
+        }
+
+        private void add(PriceTrigger trigger) {
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                triggers = Arrays.copyOf(triggers, size * 2);
+            }
+            // 같은 기준가 앞쪽에 넣어 먼저 등록한 트리거가 끝에 더 가깝게 유지
+            int index = lowerBound(rank(trigger.getPrice()));
+            System.arraycopy(prices, index, prices, index + 1, size - index);
+            System.arraycopy(triggers, index, triggers, index + 1, size - index);
+            prices[index] = trigger.getPrice();
+            triggers[index] = trigger;
+            size++;
+        }
+
+        private boolean remove(PriceTrigger trigger) {
+            long rank = rank(trigger.getPrice());
+            for (int i = lowerBound(rank); i < size && rank(prices[i]) == rank; i++) {
+                if (triggers[i] == trigger) {
+                    System.arraycopy(prices, i + 1, prices, i, size - i - 1);
+                    System.arraycopy(triggers, i + 1, triggers, i, size - i - 1);
+                    triggers[--size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int pop(long price, List<PriceTrigger> fired) {
+            int count = 0;
+            while (size > 0 && (upward ? price >= prices[size - 1] : price <= prices[size - 1])) {
+                fired.add(triggers[--size]);
+                triggers[size] = null;
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * rank 가 key 이상인 첫 위치
+         */
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (rank(prices[mid]) < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * 발동에 가까울수록 큰 값 (상향은 낮은 기준가, 하향은 높은 기준가)
+         */
+        private long rank(long price) {
+            return upward ? -price : price;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package net.setlog.setstock.trigger;
+
+/**
+ * 가격 트리거 발동 방향
+ */
+public enum TriggerDirection {
+
+    UP,   // 체결가가 기준가 이상이 되면 발동
+    DOWN  // 체결가가 기준가 이하가 되면 발동
+}
@@ -0,0 +1,175 @@
+package net.setlog.setstock.trigger;
+
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.realtime.Tick;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickListener;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 가격 트리거 인덱스 (손절매, 익절매, 조건부 주문)
+ *
+ * 종목 id 별 TriggerBook 에 트리거를 기준가 순으로 보관하고, 체결마다 해당 종목 북에서 체결가가 넘은 트리거만 떼어내 발동한다.
+ * 포지션마다 손절가를 훑지 않으므로 계좌/전략 전체의 트리거가 수천 개여도 체결당 비용은 넘은 트리거 수에 비례한다.
+ * 트리거는 정확히 한 번 발동하거나 취소되며, 발동과 취소가 겹치면 먼저 ID 를 제거한 쪽이 이긴다.
+ */
+@Component
+public class TriggerIndex implements TickListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TriggerIndex.class);
+
+    private final SymbolRegistry symbolRegistry;
+    private final AtomicReferenceArray<TriggerBook> books = new AtomicReferenceArray<>(SymbolRegistry.MAX_SYMBOLS);
+    private final ConcurrentMap<Long, PriceTrigger> triggers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<TriggerListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 생성자
+     * @param tickDispatcher 체결 디스패처
+     * @param symbolRegistry 종목 레지스트리
+     */
+    public TriggerIndex(TickDispatcher tickDispatcher, SymbolRegistry symbolRegistry) {
+        this.symbolRegistry = symbolRegistry;
+        tickDispatcher.addListener(this);
+    }
+
+    /**
+     * 트리거 발동 리스너 등록
+     * @param listener 트리거 리스너
+     */
+    public void addListener(TriggerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 트리거 발동 리스너 해제
+     * @param listener 트리거 리스너
+     */
+    public void removeListener(TriggerListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 트리거 등록
+     * @param trigger 가격 트리거 (id 는 무시)
+     * @return ID 가 부여된 트리거
+     */
+    public PriceTrigger register(PriceTrigger trigger) {
+        if (trigger.getDirection() == null || trigger.getType() == null || trigger.getPrice() <= 0) {
+            throw BusinessException.orderException("유효하지 않은 가격 트리거입니다: " + trigger);
+        }
+
+        PriceTrigger registered = trigger.toBuilder().id(sequence.incrementAndGet()).build();
+        TriggerBook book = bookAt(symbolRegistry.register(registered.getStockCode()));
+        // 북에 넣기 전에 ID 를 게시해야 곧바로 발동해도 누락되지 않음
+        triggers.put(registered.getId(), registered);
+        book.lock.lock();
+        try {
+            book.add(registered);
+        } finally {
+            book.lock.unlock();
+        }
+        return registered;
+    }
+
+    /**
+     * 트리거 취소
+     * @param triggerId 트리거 ID
+     * @return 발동 전에 취소했으면 true
+     */
+    public boolean cancel(long triggerId) {
+        PriceTrigger trigger = triggers.remove(triggerId);
+        if (trigger == null) {
+            return false;
+        }
+        TriggerBook book = books.get(symbolRegistry.idOf(trigger.getStockCode()));
+        book.lock.lock();
+        try {
+            book.remove(trigger);
+        } finally {
+            book.lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 트리거 조회
+     * @param triggerId 트리거 ID
+     * @return 대기 중인 트리거, 발동/취소되었으면 empty
+     */
+    public Optional<PriceTrigger> get(long triggerId) {
+        return Optional.ofNullable(triggers.get(triggerId));
+    }
+
+    /**
+     * 대기 중인 트리거 수
+     * @return 전체 트리거 수
+     */
+    public int size() {
+        return triggers.size();
+    }
+
+    @Override
+    public void onTick(Tick tick) {
+        long price = tick.getPrice();
+        if (price <= 0) {
+            return;
+        }
+        int id = symbolRegistry.idOf(tick.getStockCode());
+        if (id < 0) {
+            return;
+        }
+        TriggerBook book = books.get(id);
+        if (book == null || !book.isCrossed(price)) {
+            return;
+        }
+
+        List<PriceTrigger> fired = new ArrayList<>();
+        book.lock.lock();
+        try {
+            book.fire(price, fired);
+        } finally {
+            book.lock.unlock();
+        }
+
+        for (PriceTrigger trigger : fired) {
+            if (triggers.remove(trigger.getId()) != null) {
+                emit(trigger, price);
+            }
+        }
+    }
+
+    private void emit(PriceTrigger trigger, long price) {
+        for (TriggerListener listener : listeners) {
+            try {
+                listener.onTriggered(trigger, price);
+            } catch (RuntimeException e) {
+                log.error("트리거 리스너 처리 중 예외 발생: {}", trigger, e);
+            }
+        }
+    }
+
+    private TriggerBook bookAt(int symbolId) {
+        TriggerBook book = books.get(symbolId);
+        if (book == null) {
+            book = new TriggerBook();
+            if (!books.compareAndSet(symbolId, null, book)) {
+                book = books.get(symbolId);
+            }
+        }
+        return book;
+    }
+}
@@ -0,0 +1,17 @@
+package net.setlog.setstock.trigger;
+
+/**
+ * 가격 트리거 발동 리스너
+ *
+ * 체결 디스패처 스레드에서 호출되므로 주문 전송 같은 블로킹 작업은 다른 스레드로 넘겨야 한다.
+ */
+@FunctionalInterface
+public interface TriggerListener {
+
+    /**
+     * 트리거 발동 처리
+     * @param trigger 발동한 트리거 (인덱스에서 제거됨)
+     * @param price 발동시킨 체결가
+     */
+    void onTriggered(PriceTrigger trigger, long price);
+}
@@ -0,0 +1,11 @@
+package net.setlog.setstock.trigger;
+
+/**
+ * 가격 트리거 종류
+ */
+public enum TriggerType {
+
+    STOP_LOSS,    // 손절매
+    TAKE_PROFIT,  // 익절매
+    CONDITIONAL   // 조건부 주문 (TradeConstants.ORDER_TYPE_CONDITIONAL)
+}
@@ -0,0 +1,160 @@
+package net.setlog.setstock.candle;
+
+import net.setlog.setstock.common.util.EpochMinutes;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickParser;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class CandleAggregatorTests {
+
+    private static final int CODE = 5930;
+    private static final long RECEIVED_AT = 1_741_737_600_000L;  // 2025-03-12(수) 09:00 KST
+    private static final int EPOCH_DAY = EpochMinutes.epochDay(EpochMinutes.ofEpochMillis(RECEIVED_AT));
+    private static final int LATE_OPEN_DAY = (int) LocalDate.of(2025, 11, 13).toEpochDay();  // 수능일 10:00 ~ 16:30
+
+    private final TickParser parser = new TickParser();
+    private final TickRingBuffer ring = new TickRingBuffer(16);
+    private final List<Candle> closed = new ArrayList<>();
+    private CandleAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new CandleAggregator(new TickDispatcher(ring), new SymbolRegistry());
+        aggregator.addListener(closed::add);
+    }
+
+    @Test
+    void rollsOverToNextBucketAndEmitsClosedCandle() {
+        feed(record("090010", 70_000, 10, 10));
+        feed(record("090040", 70_500, 5, 15));
+        assertThat(closed).isEmpty();
+
+        feed(record("090105", 69_800, 5, 20));
+
+        assertThat(closed).hasSize(1);
+        Candle candle = closed.get(0);
+        assertThat(candle.getType()).isEqualTo(CandleType.MIN_1);
+        assertThat(candle.getEpochDay()).isEqualTo(EPOCH_DAY);
+        assertThat(candle.getStartMinute()).isEqualTo(9 * 60);
+        assertThat(candle.getOpen()).isEqualTo(70_000);
+        assertThat(candle.getHigh()).isEqualTo(70_500);
+        assertThat(candle.getLow()).isEqualTo(70_000);
+        assertThat(candle.getClose()).isEqualTo(70_500);
+        assertThat(candle.getVolume()).isEqualTo(15);
+        assertThat(candle.isClosed()).isTrue();
+        assertThat(aggregator.getFormingCandle(CODE, CandleType.MIN_1))
+            .hasValueSatisfying(forming -> assertThat(forming.getStartMinute()).isEqualTo(9 * 60 + 1));
+    }
+
+    @Test
+    void preOpenTicksJoinFirstBucket() {
+        feed(record("085930", 70_000, 100, 100));
+        feed(record("090020", 70_100, 10, 110));
+
+        assertThat(closed).isEmpty();
+        Optional<Candle> forming = aggregator.getFormingCandle(CODE, CandleType.MIN_1);
+        assertThat(forming).hasValueSatisfying(candle -> {
+            assertThat(candle.getStartMinute()).isEqualTo(9 * 60);
+            assertThat(candle.getOpen()).isEqualTo(70_000);
+            assertThat(candle.getVolume()).isEqualTo(110);
+            assertThat(candle.getTickCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void closeFlushesExpiredBucketsWithoutNewTicks() {
+        feed(record("090010", 70_000, 10, 10));
+
+        aggregator.closeExpired(EPOCH_DAY, 9 * 60 + 1);
+        assertThat(closed).extracting(Candle::getType).containsExactly(CandleType.MIN_1);
+        assertThat(aggregator.getFormingCandle(CODE, CandleType.MIN_1)).isEmpty();
+
+        // 장 마감 후에는 남은 모든 주기(일봉 포함)가 닫힌다
+        aggregator.closeExpired(EPOCH_DAY, 15 * 60 + 31);
+        assertThat(closed).extracting(Candle::getType).containsExactly(CandleType.values());
+    }
+
+    @Test
+    void listenersRunOutsideSymbolLock() {
+        List<Optional<Candle>> seen = new ArrayList<>();
+        aggregator.addListener(candle -> seen.add(aggregator.getFormingCandle(CODE, CandleType.MIN_1)));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            feed(record("090010", 70_000, 10, 10));
+            feed(record("090105", 70_100, 10, 20));
+        });
+
+        assertThat(seen).hasSize(1);
+        assertThat(seen.get(0)).hasValueSatisfying(candle -> assertThat(candle.getStartMinute()).isEqualTo(9 * 60 + 1));
+    }
+
+    @Test
+    void closingAuctionPrintJoinsLastBucket() {
+        feed(record("152910", 70_000, 10, 10));
+        feed(record("153000", 70_200, 500, 510));
+        assertThat(closed).isEmpty();
+
+        aggregator.closeExpired(EPOCH_DAY, 15 * 60 + 30);
+        assertThat(closed).isEmpty();  // 종가 단일가 체결을 기다림
+        aggregator.closeExpired(EPOCH_DAY, 15 * 60 + 31);
+
+        Candle last = closed.get(0);
+        assertThat(last.getType()).isEqualTo(CandleType.MIN_1);
+        assertThat(last.getStartMinute()).isEqualTo(15 * 60 + 29);
+        assertThat(last.getClose()).isEqualTo(70_200);
+        assertThat(last.getVolume()).isEqualTo(510);
+        for (Candle candle : closed) {
+            assertThat(candle.getType().bucketIndex(candle.getEpochMinute(), EPOCH_DAY)).isNotNegative();
+        }
+    }
+
+    @Test
+    void lateOpenDayBucketsStartAtCalendarOpen() {
+        long receivedAt = EpochMinutes.toEpochMillis(EpochMinutes.of(LATE_OPEN_DAY, 10 * 60));
+
+        feed(record("095930", 70_000, 10, 10), receivedAt);
+        feed(record("100110", 70_100, 10, 20), receivedAt);
+
+        assertThat(closed).hasSize(1);
+        Candle first = closed.get(0);
+        assertThat(first.getEpochDay()).isEqualTo(LATE_OPEN_DAY);
+        assertThat(first.getStartMinute()).isEqualTo(10 * 60);
+        assertThat(CandleType.MIN_1.bucketIndex(first.getEpochMinute(), LATE_OPEN_DAY)).isZero();
+        assertThat(aggregator.getFormingCandle(CODE, CandleType.MIN_15))
+            .hasValueSatisfying(candle -> assertThat(candle.getStartMinute()).isEqualTo(10 * 60));
+    }
+
+    private void feed(String record) {
+        feed(record, RECEIVED_AT);
+    }
+
+    private void feed(String record, long receivedAt) {
+        parser.parse("0|H0STCNT0|001|" + record, ring, receivedAt);
+        ring.drain(aggregator, Integer.MAX_VALUE);
+    }
+
+    private static String record(String time, long price, long volume, long accumulatedVolume) {
+        String[] fields = new String[TickParser.FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        fields[0] = "005930";
+        fields[1] = time;
+        fields[2] = Long.toString(price);
+        fields[3] = "2";
+        fields[12] = Long.toString(volume);
+        fields[13] = Long.toString(accumulatedVolume);
+        return String.join("^", fields);
+    }
+}
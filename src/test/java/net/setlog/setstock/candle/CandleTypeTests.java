@@ -0,0 +1,88 @@
+package net.setlog.setstock.candle;
+
+import net.setlog.setstock.common.util.EpochMinutes;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 KRX 달력(calendar/krx-calendar.txt) 기준 구간 정렬/색인/열거
+ */
+class CandleTypeTests {
+
+    private static int at(int year, int month, int day, int hour, int minute) {
+        return EpochMinutes.of(LocalDateTime.of(year, month, day, hour, minute));
+    }
+
+    private static long day(int year, int month, int day) {
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    @Test
+    void alignsToBucketStartFromMarketOpen() {
+        assertThat(CandleType.MIN_5.align(at(2025, 3, 12, 9, 7))).isEqualTo(at(2025, 3, 12, 9, 5));
+        assertThat(CandleType.HOUR_1.align(at(2025, 3, 12, 10, 59))).isEqualTo(at(2025, 3, 12, 10, 0));
+        assertThat(CandleType.MIN_1.align(at(2025, 3, 12, 8, 30))).isEqualTo(at(2025, 3, 12, 9, 0));
+        assertThat(CandleType.DAY_1.align(at(2025, 3, 12, 14, 0))).isEqualTo(at(2025, 3, 12, 9, 0));
+    }
+
+    @Test
+    void bucketIndexIsDenseOverTradingMinutes() {
+        long base = day(2025, 3, 12);
+
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 12, 9, 0), base)).isZero();
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 12, 15, 29), base)).isEqualTo(389);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 13, 9, 0), base)).isEqualTo(390);
+        assertThat(CandleType.MIN_5.bucketIndex(at(2025, 3, 13, 9, 7), base)).isEqualTo(78 + 1);
+        assertThat(CandleType.DAY_1.bucketIndex(at(2025, 3, 17, 11, 0), base)).isEqualTo(3);  // 주말 제외
+
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 12, 8, 59), base)).isEqualTo(-1);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 12, 15, 30), base)).isEqualTo(-1);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 15, 10, 0), base)).isEqualTo(-1);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 3, 11, 10, 0), base)).isEqualTo(-1);
+    }
+
+    @Test
+    void bucketIndexFollowsLateOpenSession() {
+        long base = day(2025, 11, 12);  // 다음 날은 수능일 (10:00 ~ 16:30)
+
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 11, 13, 9, 30), base)).isEqualTo(-1);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 11, 13, 10, 0), base)).isEqualTo(390);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 11, 13, 16, 29), base)).isEqualTo(390 + 389);
+        assertThat(CandleType.MIN_1.bucketIndex(at(2025, 11, 13, 16, 30), base)).isEqualTo(-1);
+    }
+
+    @Test
+    void enumeratesBucketsSkippingClosedHours() {
+        assertThat(CandleType.HOUR_1.buckets(at(2025, 3, 14, 14, 30), at(2025, 3, 17, 11, 0)).toArray())
+            .containsExactly(at(2025, 3, 14, 15, 0), at(2025, 3, 17, 9, 0), at(2025, 3, 17, 10, 0));
+        assertThat(CandleType.MIN_30.buckets(at(2025, 11, 13, 0, 0), at(2025, 11, 13, 11, 0)).toArray())
+            .containsExactly(at(2025, 11, 13, 10, 0), at(2025, 11, 13, 10, 30));
+    }
+
+    @Test
+    void dailyBucketStartsAtLateOpen() {
+        // 집계기는 일봉 시작을 해당일 개장 시각(수능일 10:00)으로 기록한다
+        assertThat(CandleType.DAY_1.align(at(2025, 11, 13, 14, 0))).isEqualTo(at(2025, 11, 13, 10, 0));
+        assertThat(CandleType.MIN_30.align(at(2025, 11, 13, 10, 45))).isEqualTo(at(2025, 11, 13, 10, 30));
+        assertThat(CandleType.DAY_1.buckets(at(2025, 11, 12, 0, 0), at(2025, 11, 15, 0, 0)).toArray())
+            .containsExactly(at(2025, 11, 12, 9, 0), at(2025, 11, 13, 10, 0), at(2025, 11, 14, 9, 0));
+    }
+
+    @Test
+    void enumeratedBucketsHaveIncreasingIndexes() {
+        long base = day(2025, 11, 10);
+        int[] keys = CandleType.MIN_5.buckets(at(2025, 11, 10, 0, 0), at(2025, 11, 18, 0, 0)).toArray();
+
+        assertThat(keys).hasSize(6 * 78);
+        int previous = -1;
+        for (int key : keys) {
+            int index = CandleType.MIN_5.bucketIndex(key, base);
+            assertThat(index).isGreaterThan(previous);
+            previous = index;
+        }
+    }
+}
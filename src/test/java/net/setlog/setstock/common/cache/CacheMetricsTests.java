@@ -0,0 +1,71 @@
+package net.setlog.setstock.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.CacheConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsTests {
+
+    private static final List<String> CACHES = List.of(CacheConfig.STOCK_CACHE, CacheConfig.PRICE_CACHE,
+        CacheConfig.CANDLE_CACHE, CacheConfig.INDICATOR_CACHE, CacheConfig.ACCOUNT_CACHE, CacheConfig.TOKEN_CACHE);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void registersMetersForEveryConfiguredCache() {
+        new CacheConfig().cacheManager(registry);
+
+        for (String cache : CACHES) {
+            assertThat(registry.find("cache.gets").tags("cache", cache, "result", "hit").counter()).as(cache).isNotNull();
+            assertThat(registry.find("cache.gets").tags("cache", cache, "result", "miss").counter()).as(cache).isNotNull();
+            assertThat(registry.find("cache.loads").tags("cache", cache, "result", "success").timer()).as(cache).isNotNull();
+            assertThat(registry.find("cache.loads").tags("cache", cache, "result", "failure").timer()).as(cache).isNotNull();
+            for (RemovalCause cause : RemovalCause.values()) {
+                assertThat(registry.find("cache.evictions").tags("cache", cache, "cause", cause.name()).summary())
+                    .as(cache + " " + cause).isNotNull();
+            }
+            assertThat(registry.find("cache.size").tag("cache", cache).gauge()).as(cache).isNotNull();
+            assertThat(registry.find("cache.weight").tag("cache", cache).gauge()).as(cache).isNotNull();
+            assertThat(registry.find("cache.hit.ratio").tag("cache", cache).gauge()).as(cache).isNotNull();
+        }
+    }
+
+    @Test
+    void recordsHitsMissesLoadsAndEvictionsByCause() {
+        Cache<Object, Object> cache = CacheMetrics.bind(registry, "test",
+            CacheMetrics.recordStats(Caffeine.newBuilder().maximumSize(1).executor(Runnable::run), registry, "test").build());
+
+        cache.get("a", key -> "A");
+        cache.get("a", key -> "A");
+        cache.put("b", "B");
+        cache.cleanUp();
+
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tags("cache", "test", "result", "miss").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.loads").tags("cache", "test", "result", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("cache.evictions").tags("cache", "test", "cause", RemovalCause.SIZE.name()).summary().count())
+            .isEqualTo(1);
+        assertThat(registry.get("cache.weight").tag("cache", "test").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void weightGaugeReportsEstimatedBytesForWeightedCaches() {
+        LoadingCache<Object, Object> cache = CacheMetrics.bind(registry, "weighted",
+            CacheMetrics.recordStats(Caffeine.newBuilder().maximumWeight(1 << 20).weigher(new CacheWeigher())
+                .executor(Runnable::run), registry, "weighted").build(key -> new double[100]));
+
+        cache.get("k");
+        cache.cleanUp();
+
+        assertThat(registry.get("cache.weight").tag("cache", "weighted").gauge().value())
+            .isEqualTo(new CacheWeigher().weigh("k", new double[100]));
+    }
+}
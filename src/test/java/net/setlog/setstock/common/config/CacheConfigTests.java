@@ -0,0 +1,60 @@
+package net.setlog.setstock.common.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigTests {
+
+    private final CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(new SimpleMeterRegistry());
+
+    @Test
+    void registersOnlyConfiguredCaches() {
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(CacheConfig.STOCK_CACHE,
+            CacheConfig.PRICE_CACHE, CacheConfig.CANDLE_CACHE, CacheConfig.INDICATOR_CACHE,
+            CacheConfig.ACCOUNT_CACHE, CacheConfig.TOKEN_CACHE);
+        assertThat(cacheManager.getCache("unknownCache")).isNull();
+    }
+
+    @Test
+    void priceCacheIsAsyncWithSubSecondExpiry() {
+        CaffeineCache priceCache = caffeineCache(CacheConfig.PRICE_CACHE);
+
+        assertThat(priceCache.getAsyncCache()).isNotNull();
+        assertThat(expireAfterWrite(priceCache.getAsyncCache().synchronous())).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void candleAndIndicatorCachesAreBoundedByWeight() {
+        for (String name : new String[] {CacheConfig.CANDLE_CACHE, CacheConfig.INDICATOR_CACHE}) {
+            Policy.Eviction<Object, Object> eviction = caffeineCache(name).getNativeCache().policy().eviction().orElseThrow();
+            assertThat(eviction.isWeighted()).as(name).isTrue();
+            assertThat(eviction.weightedSize()).as(name).isPresent();
+        }
+        Policy.Eviction<Object, Object> stock =
+            caffeineCache(CacheConfig.STOCK_CACHE).getNativeCache().policy().eviction().orElseThrow();
+        assertThat(stock.isWeighted()).isFalse();
+    }
+
+    @Test
+    void tokenCacheExpiresBeforeTokenLifetime() {
+        Duration expiry = expireAfterWrite(caffeineCache(CacheConfig.TOKEN_CACHE).getNativeCache());
+
+        assertThat(expiry).isPositive().isLessThan(Duration.ofHours(8));
+    }
+
+    private CaffeineCache caffeineCache(String name) {
+        return (CaffeineCache) cacheManager.getCache(name);
+    }
+
+    private static Duration expireAfterWrite(Cache<Object, Object> cache) {
+        return cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter();
+    }
+}
@@ -0,0 +1,119 @@
+package net.setlog.setstock.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuartzVirtualThreadPoolTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrency() {
+        QuartzVirtualThreadPool pool = new QuartzVirtualThreadPool();
+        pool.setMaxConcurrency(0);
+
+        assertThatThrownBy(pool::initialize).isInstanceOf(SchedulerConfigException.class);
+    }
+
+    @Test
+    void reportsFreeSlotsUpToMaxConcurrency() throws Exception {
+        QuartzVirtualThreadPool pool = pool(100);
+        assertThat(pool.blockForAvailableThreads()).isEqualTo(100);
+
+        CountDownLatch started = new CountDownLatch(1);
+        pool.runInThread(blockingJob(started, new AtomicInteger()));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(pool.blockForAvailableThreads()).isEqualTo(99);
+    }
+
+    @Test
+    void capsConcurrentJobs() throws Exception {
+        QuartzVirtualThreadPool pool = pool(2);
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        pool.runInThread(blockingJob(started, running));
+        pool.runInThread(blockingJob(started, running));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 빈 자리가 없으면 다음 작업 배정과 가용 스레드 대기가 모두 막힌다
+        CountDownLatch thirdStarted = new CountDownLatch(1);
+        CompletableFuture<Boolean> third = CompletableFuture.supplyAsync(
+            () -> pool.runInThread(blockingJob(thirdStarted, running)));
+        CompletableFuture<Integer> available = CompletableFuture.supplyAsync(pool::blockForAvailableThreads);
+        assertThat(thirdStarted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(available).isNotDone();
+        assertThat(running).hasValue(2);
+
+        release.countDown();
+        assertThat(third.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thirdStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(available.get(5, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void shutdownWaitsForRunningJobs() throws Exception {
+        QuartzVirtualThreadPool pool = pool(3);
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        pool.runInThread(blockingJob(started, running));
+        pool.runInThread(blockingJob(started, running));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> pool.shutdown(true));
+        Thread.sleep(200);
+        assertThat(shutdown).isNotDone();
+        assertThat(pool.runInThread(() -> { })).isFalse();
+        assertThat(pool.blockForAvailableThreads()).isZero();
+
+        release.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+        assertThat(running).hasValue(0);
+    }
+
+    @Test
+    void shutdownWithoutWaitReturnsImmediately() throws Exception {
+        QuartzVirtualThreadPool pool = pool(1);
+        CountDownLatch started = new CountDownLatch(1);
+        pool.runInThread(blockingJob(started, new AtomicInteger()));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.runAsync(() -> pool.shutdown(false)).get(5, TimeUnit.SECONDS);
+    }
+
+    private static QuartzVirtualThreadPool pool(int maxConcurrency) throws SchedulerConfigException {
+        QuartzVirtualThreadPool pool = new QuartzVirtualThreadPool();
+        pool.setMaxConcurrency(maxConcurrency);
+        pool.setInstanceName("test");
+        pool.initialize();
+        return pool;
+    }
+
+    private Runnable blockingJob(CountDownLatch started, AtomicInteger running) {
+        return () -> {
+            running.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package net.setlog.setstock.common.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.ErrorLogProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorReporterTests {
+
+    @Test
+    void logsBurstThenSamplesAndCountsEveryError() {
+        ErrorLogProperties properties = new ErrorLogProperties();
+        properties.setWindow(Duration.ofHours(1));
+        properties.setBurst(3);
+        properties.setSampleEvery(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ErrorReporter reporter = new ErrorReporter(properties, registry);
+
+        int logged = 0;
+        for (int i = 0; i < 53; i++) {
+            if (reporter.record("EXTERNAL_API_ERROR", 500)) {
+                logged++;
+            }
+        }
+
+        // 처음 3건 + 이후 10건마다 1건(13, 23, 33, 43, 53번째)
+        assertThat(logged).isEqualTo(8);
+        assertThat(reporter.record("VALIDATION_ERROR", 400)).isTrue();
+        assertThat(registry.get("api.errors").tag("errorCode", "EXTERNAL_API_ERROR").counter().count())
+            .isEqualTo(53);
+        assertThat(registry.get("api.errors").tag("errorCode", "VALIDATION_ERROR").counter().count())
+            .isEqualTo(1);
+    }
+}
@@ -0,0 +1,40 @@
+package net.setlog.setstock.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactTimeParserTests {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void parsesCompactFieldsLikeJavaTime() {
+        String text = "20240229153000";
+        long expected = LocalDateTime.of(2024, 2, 29, 15, 30).atZone(KOREA_ZONE).toEpochSecond();
+
+        assertThat(CompactTimeParser.parseDate(text, 0)).isEqualTo(LocalDate.of(2024, 2, 29).toEpochDay());
+        assertThat(CompactTimeParser.parseTime(text, 8)).isEqualTo(15 * 3600 + 30 * 60);
+        assertThat(CompactTimeParser.parseEpochSecond(text, 0)).isEqualTo(expected);
+        assertThat(CompactTimeParser.parseEpochSecond(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), 0))
+            .isEqualTo(expected);
+        assertThat(CompactTimeParser.parseEpochMinute(text, 0, text, 8))
+            .isEqualTo(EpochMinutes.of(LocalDateTime.of(2024, 2, 29, 15, 30)));
+    }
+
+    @Test
+    void rejectsMalformedOrOutOfRangeFields() {
+        assertThat(CompactTimeParser.parseDate("20230229", 0)).isEqualTo(CompactTimeParser.INVALID);
+        assertThat(CompactTimeParser.parseDate("2024-1-01", 0)).isEqualTo(CompactTimeParser.INVALID);
+        assertThat(CompactTimeParser.parseDate("2024010", 0)).isEqualTo(CompactTimeParser.INVALID);
+        assertThat(CompactTimeParser.parseTime("246000", 0)).isEqualTo(CompactTimeParser.INVALID);
+        assertThat(CompactTimeParser.parseTime("09 000", 0)).isEqualTo(CompactTimeParser.INVALID);
+        assertThat(CompactTimeParser.parseEpochSecond("20241301090000", 0)).isEqualTo(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,48 @@
+package net.setlog.setstock.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpochMinutesTests {
+
+    private static final ZoneId KOREA = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void convertsEpochMillisInKoreanTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 3, 12, 9, 33, 54);
+        long epochMillis = dateTime.atZone(KOREA).toInstant().toEpochMilli();
+
+        int epochMinute = EpochMinutes.ofEpochMillis(epochMillis);
+
+        assertThat(EpochMinutes.toLocalDateTime(epochMinute)).isEqualTo(dateTime.withSecond(0));
+        assertThat(EpochMinutes.epochDay(epochMinute)).isEqualTo(LocalDate.of(2025, 3, 12).toEpochDay());
+        assertThat(EpochMinutes.minuteOfDay(epochMinute)).isEqualTo(9 * 60 + 33);
+        assertThat(EpochMinutes.toEpochMillis(epochMinute)).isEqualTo(epochMillis - 54_000);
+        // UTC 자정 이전(한국 시간 오전 9시 이전)도 한국 날짜로 나뉜다
+        assertThat(EpochMinutes.epochDay(EpochMinutes.ofEpochMillis(0))).isZero();
+        assertThat(EpochMinutes.minuteOfDay(EpochMinutes.ofEpochMillis(0))).isEqualTo(9 * 60);
+    }
+
+    @Test
+    void combinesKisDateAndTime() {
+        assertThat(EpochMinutes.ofKis(20250312, 93354))
+            .isEqualTo(EpochMinutes.of(LocalDateTime.of(2025, 3, 12, 9, 33)));
+        assertThat(EpochMinutes.of(LocalDate.of(2024, 2, 29).toEpochDay(), 0))
+            .isEqualTo(EpochMinutes.ofKis(20240229, 0));
+    }
+
+    @Test
+    void toEpochDayMatchesLocalDate() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 10)); date = date.plusDays(13)) {
+            assertThat(EpochMinutes.toEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()))
+                .isEqualTo(date.toEpochDay());
+        }
+        assertThat(EpochMinutes.toEpochDay(2000, 2, 29)).isEqualTo(LocalDate.of(2000, 2, 29).toEpochDay());
+        assertThat(EpochMinutes.toEpochDay(2100, 3, 1)).isEqualTo(LocalDate.of(2100, 3, 1).toEpochDay());
+    }
+}
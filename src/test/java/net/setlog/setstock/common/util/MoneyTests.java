@@ -0,0 +1,72 @@
+package net.setlog.setstock.common.util;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTests {
+
+    @Test
+    void fixedPointRatesMatchDecimalConstants() {
+        assertThat(Rate.of(TradeConstants.DEFAULT_FEE_RATE)).isEqualTo(TradeConstants.DEFAULT_FEE_RATE_PPM);
+        assertThat(Rate.of(TradeConstants.TAX_RATE)).isEqualTo(TradeConstants.TAX_RATE_PPM);
+        assertThat(Rate.of(TradeConstants.DEFAULT_STOP_LOSS_PERCENTAGE)).isEqualTo(TradeConstants.DEFAULT_STOP_LOSS_RATE_PPM);
+        assertThat(Rate.toBigDecimal(TradeConstants.TAX_RATE_PPM)).isEqualByComparingTo("0.0023");
+    }
+
+    @Test
+    void changeRateMatchesNumberUtils() {
+        long[][] cases = {{71900, 72400}, {72400, 71900}, {3, 4}, {1_000, 999}, {0, 0}, {0, 5},
+            {1_000_010, 1_000_060}, {1_000_010, 999_960}, {20_000, 20_001}};
+        for (long[] c : cases) {
+            BigDecimal expected = NumberUtils.calculateChangeRate(BigDecimal.valueOf(c[0]), BigDecimal.valueOf(c[1]));
+            assertThat(Rate.changePercent(c[0], c[1])).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void changePercentRoundsRawRatioOnlyOnce() {
+        // 50 / 1,000,010 = 0.0049999...% : 백만분율(50ppm)을 거쳐 반올림하면 0.01% 가 된다
+        assertThat(Rate.changeRate(1_000_010, 1_000_060)).isEqualTo(50);
+        assertThat(Rate.toPercent(Rate.changeRate(1_000_010, 1_000_060))).isEqualByComparingTo("0.01");
+        assertThat(Rate.changePercent(1_000_010, 1_000_060)).isEqualByComparingTo("0.00");
+        assertThat(Rate.changePercent(20_000, 20_001)).isEqualByComparingTo("0.01");  // 정확히 0.005% 는 올림
+    }
+
+    @Test
+    void feeAndTaxAreTruncatedToWon() {
+        long amount = Money.notional(71_900, 13);  // 934,700원
+        assertThat(Money.fee(amount, TradeConstants.DEFAULT_FEE_RATE_PPM)).isEqualTo(140);   // 140.205
+        assertThat(Money.tax(amount, TradeConstants.TAX_RATE_PPM)).isEqualTo(2_149);         // 2,149.81
+        assertThat(Money.realizedPnl(70_000, 71_900, 13, TradeConstants.DEFAULT_FEE_RATE_PPM, TradeConstants.TAX_RATE_PPM))
+            .isEqualTo(934_700 - 140 - 2_149 - (910_000 + 136));
+    }
+
+    @Test
+    void applyDoesNotOverflowForLargeAmounts() {
+        long amount = 5_000_000_000_000_000L;
+        assertThat(Rate.apply(amount, 2_300, RoundingMode.DOWN))
+            .isEqualTo(new BigDecimal(amount).multiply(new BigDecimal("0.0023")).longValueExact());
+        assertThatThrownBy(() -> Money.notional(Long.MAX_VALUE, 2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void tickSizeFollowsKrxPriceBands() {
+        assertThat(Price.tickSize(1_999)).isEqualTo(1);
+        assertThat(Price.tickSize(2_000)).isEqualTo(5);
+        assertThat(Price.tickSize(71_900)).isEqualTo(100);
+        assertThat(Price.tickSize(500_000)).isEqualTo(1_000);
+        assertThat(Price.floorToTick(71_950)).isEqualTo(71_900);
+        assertThat(Price.ceilToTick(199_950)).isEqualTo(200_000);
+        assertThat(Price.addTicks(1_999, 2)).isEqualTo(2_005);
+        assertThat(Price.addTicks(2_005, -2)).isEqualTo(1_999);
+        assertThat(Price.ticksBetween(1_999, 2_005)).isEqualTo(2);
+        assertThat(Price.ticksBetween(49_950, 50_100)).isEqualTo(2);
+        assertThat(Price.ticksBetween(50_100, 49_950)).isEqualTo(-2);
+    }
+}
@@ -0,0 +1,58 @@
+package net.setlog.setstock.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TradingCalendarTests {
+
+    private static long day(int year, int month, int dayOfMonth) {
+        return LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+
+    private static TradingCalendar calendar() throws Exception {
+        return TradingCalendar.load(new StringReader("""
+            range 2025-10-01 2025-10-31
+            2025-10-03 closed 개천절
+            2025-10-06 closed
+            2025-10-07 closed
+            2025-10-08 closed
+            2025-10-09 closed
+            2025-10-16 10:00 16:30 # 개장 지연
+            """));
+    }
+
+    @Test
+    void skipsHolidaysInConstantTimeLookups() throws Exception {
+        TradingCalendar calendar = calendar();
+
+        assertThat(calendar.isTradingDay(day(2025, 10, 2))).isTrue();
+        assertThat(calendar.isTradingDay(day(2025, 10, 7))).isFalse();
+        assertThat(calendar.minusTradingDays(day(2025, 10, 10), 1)).isEqualTo(day(2025, 10, 2));
+        assertThat(calendar.plusTradingDays(day(2025, 10, 2), 1)).isEqualTo(day(2025, 10, 10));
+        assertThat(calendar.onOrBefore(day(2025, 10, 5))).isEqualTo(day(2025, 10, 2));
+        assertThat(calendar.countTradingDays(day(2025, 10, 1), day(2025, 10, 10))).isEqualTo(3);
+    }
+
+    @Test
+    void extendsWithWeekdaysOutsideRange() throws Exception {
+        TradingCalendar calendar = calendar();
+
+        assertThat(calendar.minusTradingDays(day(2025, 10, 1), 1)).isEqualTo(day(2025, 9, 30));
+        assertThat(calendar.plusTradingDays(day(2025, 10, 31), 1)).isEqualTo(day(2025, 11, 3));
+        assertThat(calendar.countTradingDays(day(2025, 9, 29), day(2025, 11, 3))).isEqualTo(2 + 18 + 1);
+    }
+
+    @Test
+    void keepsSpecialSessionHours() throws Exception {
+        TradingCalendar calendar = calendar();
+
+        assertThat(calendar.openMinute(day(2025, 10, 16))).isEqualTo(600);
+        assertThat(calendar.closeMinute(day(2025, 10, 16))).isEqualTo(990);
+        assertThat(calendar.openMinute(day(2025, 10, 15))).isEqualTo(540);
+        assertThat(calendar.openMinute(day(2025, 10, 3))).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,62 @@
+package net.setlog.setstock.common.util;
+
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationUtilsTests {
+
+    @Test
+    void checkReturnsResultWithoutThrowing() {
+        assertThat(ValidationUtils.checkOrderQuantity(10, 100)).isSameAs(ValidationResult.VALID);
+        assertThat(ValidationUtils.checkOrderQuantity(0, 100))
+            .isSameAs(ValidationUtils.checkOrderQuantity(-1, 100));
+
+        ValidationResult exceeded = ValidationUtils.checkOrderQuantity(150, 100);
+        assertThat(exceeded.isValid()).isFalse();
+        assertThat(exceeded.getErrorCode()).isEqualTo("QUANTITY_EXCEEDED");
+        assertThat(exceeded.getMessage()).isEqualTo("주문 수량(150)이 최대 주문 가능 수량(100)을 초과했습니다.");
+
+        ValidationResult funds = ValidationUtils.checkSufficientFunds(1_500_000L, 1_000_000L);
+        assertThat(funds.getErrorCode()).isEqualTo("INSUFFICIENT_FUNDS");
+        assertThat(funds.getMessage()).isEqualTo("계좌 잔고가 부족합니다. 필요: ₩1,500,000, 가용: ₩1,000,000");
+        assertThat(ValidationUtils.checkSufficientFunds(new BigDecimal("1000"), new BigDecimal("1000")).isValid()).isTrue();
+    }
+
+    @Test
+    void fundsMessageMatchesFormatCurrencyRegardlessOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            BigDecimal required = new BigDecimal("1500000");
+            BigDecimal available = new BigDecimal("1000000");
+            assertThat(ValidationUtils.checkSufficientFunds(required, available).getMessage())
+                .isEqualTo("계좌 잔고가 부족합니다. 필요: " + NumberUtils.formatCurrency(required)
+                    + ", 가용: " + NumberUtils.formatCurrency(available));
+            assertThat(ValidationUtils.checkSufficientFunds(1_500_000L, 1_000_000L).getMessage())
+                .contains("₩1,500,000");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void validateThrowsStacklessBusinessException() {
+        assertThatThrownBy(() -> ValidationUtils.validateOrderQuantity(150, 100))
+            .isInstanceOf(BusinessException.class)
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("주문 수량(150)이 최대 주문 가능 수량(100)을 초과했습니다.")
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+
+        assertThatThrownBy(() -> ValidationUtils.validateStockCode("00593A", "유효하지 않은 종목 코드"))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("유효하지 않은 종목 코드")
+            .extracting(e -> ((BusinessException) e).getErrorCode()).isEqualTo("VALIDATION_ERROR");
+    }
+}
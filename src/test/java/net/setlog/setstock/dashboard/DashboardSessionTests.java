@@ -0,0 +1,38 @@
+package net.setlog.setstock.dashboard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardSessionTests {
+
+    @Test
+    void slowSessionReceivesOnlyLatestFramePerSymbol() throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        DashboardSession dashboardSession = new DashboardSession(session);
+
+        TextMessage first = new TextMessage("{\"price\":71900}");
+        TextMessage latest = new TextMessage("{\"price\":72000}");
+        TextMessage other = new TextMessage("{\"price\":188000}");
+
+        assertThat(dashboardSession.offer(0, first)).isFalse();
+        assertThat(dashboardSession.offer(0, latest)).isTrue();
+        assertThat(dashboardSession.offer(1, other)).isFalse();
+
+        assertThat(dashboardSession.schedule()).isTrue();
+        assertThat(dashboardSession.schedule()).isFalse();
+        assertThat(dashboardSession.drain()).isEqualTo(2);
+
+        verify(session, never()).sendMessage(first);
+        verify(session).sendMessage(latest);
+        verify(session).sendMessage(other);
+        assertThat(dashboardSession.schedule()).isFalse();
+    }
+}
@@ -0,0 +1,40 @@
+package net.setlog.setstock.dashboard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.DashboardProperties;
+import net.setlog.setstock.realtime.LatestTickStore;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MarketDataBroadcasterTests {
+
+    @Test
+    void subscribesOnlyRegisteredSymbols() {
+        SymbolRegistry symbolRegistry = new SymbolRegistry();
+        symbolRegistry.register("005930");
+        TickDispatcher tickDispatcher = new TickDispatcher(new TickRingBuffer(16));
+        MarketDataBroadcaster broadcaster = new MarketDataBroadcaster(tickDispatcher,
+            new LatestTickStore(tickDispatcher, symbolRegistry), symbolRegistry, new DashboardProperties(),
+            new SimpleMeterRegistry());
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("s1");
+        broadcaster.open(session);
+
+        int subscribed = broadcaster.subscribe(session, List.of("005930", "999999", "00593A"));
+
+        // 클라이언트가 보낸 코드로 레지스트리를 채울 수 없다
+        assertThat(subscribed).isEqualTo(1);
+        assertThat(symbolRegistry.size()).isEqualTo(1);
+        assertThat(symbolRegistry.idOf("999999")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+    }
+}
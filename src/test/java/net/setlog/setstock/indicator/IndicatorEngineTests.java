@@ -0,0 +1,45 @@
+package net.setlog.setstock.indicator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.candle.CandleAggregator;
+import net.setlog.setstock.candle.CandleType;
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IndicatorEngineTests {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishesSnapshotAndValidatesUnderSameZeroPaddedKey() {
+        SymbolRegistry registry = new SymbolRegistry();
+        registry.register("005930");
+        TickDispatcher dispatcher = new TickDispatcher(new TickRingBuffer(16));
+        Ta4jIndicatorValidator validator = mock(Ta4jIndicatorValidator.class);
+        ObjectProvider<Ta4jIndicatorValidator> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(validator);
+        CacheManager cacheManager = new CacheConfig().cacheManager(new SimpleMeterRegistry());
+        IndicatorEngine engine = new IndicatorEngine(new CandleAggregator(dispatcher, registry), registry,
+            provider, cacheManager);
+
+        Candle candle = new Candle(5930, CandleType.MIN_5, 20_000, 540, 70_000, 70_500, 69_800, 70_200, 1_000, 10, true);
+        engine.onCandleClosed(candle);
+
+        IndicatorSnapshot latest = engine.getLatest(5930, CandleType.MIN_5).orElseThrow();
+        assertThat(cacheManager.getCache(CacheConfig.INDICATOR_CACHE).get("005930:5min", IndicatorSnapshot.class))
+            .isSameAs(latest);
+        verify(validator).verify(eq("005930:5min"), eq(candle), any(IndicatorSnapshot.class));
+    }
+}
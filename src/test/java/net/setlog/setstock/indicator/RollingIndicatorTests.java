@@ -0,0 +1,113 @@
+package net.setlog.setstock.indicator;
+
+import net.setlog.setstock.common.constants.TradeConstants;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 증분 지표를 같은 시리즈의 ta4j 0.15 지표와 캔들마다 비교 (기간이 차기 전 구간 포함)
+ */
+class RollingIndicatorTests {
+
+    private static final int BARS = 300;
+    private static final double TOLERANCE = 1e-9;
+
+    private final double[] highs = new double[BARS];
+    private final double[] lows = new double[BARS];
+    private final double[] closes = new double[BARS];
+    private BarSeries series;
+    private ClosePriceIndicator close;
+
+    @BeforeEach
+    void setUp() {
+        series = new BaseBarSeries("fixed");
+        ZonedDateTime end = ZonedDateTime.of(2025, 3, 12, 9, 1, 0, 0, ZoneId.of("Asia/Seoul"));
+        double price = 70_000;
+        for (int i = 0; i < BARS; i++) {
+            // 추세와 진동이 섞인 고정 시리즈 (갭, 보합 구간 포함)
+            double open = price;
+            price += ((i * 7919) % 23 - 11) * 10 + (i % 50 == 0 ? 500 : 0);
+            double close = i >= 100 && i < 110 ? open : price;
+            double high = Math.max(open, close) + (i * 31 % 7) * 10;
+            double low = Math.min(open, close) - (i * 17 % 5) * 10;
+            highs[i] = high;
+            lows[i] = low;
+            closes[i] = close;
+            price = close;
+            series.addBar(Duration.ofMinutes(1), end.plusMinutes(i), open, high, low, close, 1_000 + i);
+        }
+        close = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    void smaAndStandardDeviationMatchTa4j() {
+        int period = TradeConstants.BOLLINGER_PERIOD;
+        RollingSma sma = new RollingSma(period);
+        SMAIndicator expected = new SMAIndicator(close, period);
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(close, period);
+
+        for (int i = 0; i < BARS; i++) {
+            assertThat(sma.peek(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+            assertThat(sma.update(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+            assertThat(sma.standardDeviation()).isCloseTo(deviation.getValue(i).doubleValue(), within(1e-6));
+        }
+        assertThat(sma.isReady()).isTrue();
+    }
+
+    @Test
+    void emaMatchesTa4j() {
+        RollingEma ema = RollingEma.exponential(TradeConstants.EMA_PERIOD);
+        EMAIndicator expected = new EMAIndicator(close, TradeConstants.EMA_PERIOD);
+
+        for (int i = 0; i < BARS; i++) {
+            assertThat(ema.peek(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+            assertThat(ema.update(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+        }
+    }
+
+    @Test
+    void rsiMatchesTa4j() {
+        RollingRsi rsi = new RollingRsi(TradeConstants.RSI_PERIOD);
+        RSIIndicator expected = new RSIIndicator(close, TradeConstants.RSI_PERIOD);
+
+        assertThat(rsi.value()).isNaN();
+        for (int i = 0; i < BARS; i++) {
+            assertThat(rsi.peek(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+            assertThat(rsi.update(closes[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+        }
+    }
+
+    @Test
+    void atrMatchesTa4j() {
+        RollingAtr atr = new RollingAtr(TradeConstants.ATR_PERIOD);
+        ATRIndicator expected = new ATRIndicator(series, TradeConstants.ATR_PERIOD);
+
+        for (int i = 0; i < BARS; i++) {
+            assertThat(atr.peek(highs[i], lows[i])).isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+            assertThat(atr.update(highs[i], lows[i], closes[i]))
+                .isCloseTo(expected.getValue(i).doubleValue(), tolerance(expected, i));
+        }
+    }
+
+    private static Offset<Double> tolerance(Indicator<Num> indicator, int index) {
+        return within(TOLERANCE * Math.max(1.0, Math.abs(indicator.getValue(index).doubleValue())));
+    }
+}
@@ -0,0 +1,28 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.setlog.setstock.quote.Quote;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KisQuoteSourceTests {
+
+    @Test
+    void mapsInquirePriceOutput() throws Exception {
+        String body = """
+            {"rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다.",
+             "output":{"stck_prpr":"71900","prdy_vrss":"-100","prdy_ctrt":"-0.14",
+                       "stck_oprc":"72100","stck_hgpr":"72400","stck_lwpr":"71700","acml_vol":"3052507"}}
+            """;
+
+        Quote quote = KisQuoteSource.toQuote("005930", new ObjectMapper().readTree(body).path("output"), 1L);
+
+        assertThat(quote.getPrice()).isEqualTo(71_900);
+        assertThat(quote.getChange()).isEqualTo(-100);
+        assertThat(quote.getChangeRate()).isEqualTo(-14);
+        assertThat(quote.getHigh()).isEqualTo(72_400);
+        assertThat(quote.getAccumulatedVolume()).isEqualTo(3_052_507);
+        assertThat(quote.getSource()).isEqualTo(Quote.Source.REST);
+    }
+}
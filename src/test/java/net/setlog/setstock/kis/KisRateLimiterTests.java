@@ -0,0 +1,77 @@
+package net.setlog.setstock.kis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.exception.ApiException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KisRateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void slidingWindowAllowsLimitPerWindow() {
+        SlidingWindow window = new SlidingWindow(2, SECOND, clock::get);
+
+        assertThat(window.tryAcquire()).isZero();
+        clock.addAndGet(SECOND / 2);
+        assertThat(window.tryAcquire()).isEqualTo(1);
+        assertThat(window.tryAcquire()).isEqualTo(-1);
+        assertThat(window.waitNanos(clock.get())).isEqualTo(SECOND / 2);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(window.tryAcquire()).isEqualTo(2);
+        assertThat(window.tryAcquire()).isEqualTo(-1);
+    }
+
+    @Test
+    void slidingWindowRecordsGrantTimeFromClock() {
+        SlidingWindow window = new SlidingWindow(1, SECOND, clock::get);
+        long staleNow = clock.get();
+        clock.addAndGet(SECOND / 2);
+
+        window.tryAcquire();
+
+        // 호출자가 읽어 둔 시각이 아니라 허가 시각 기준으로 1초를 기다린다
+        assertThat(window.waitNanos(staleNow + SECOND)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void cancelledGrantCanBeReusedImmediately() {
+        SlidingWindow window = new SlidingWindow(1, SECOND, clock::get);
+
+        long ticket = window.tryAcquire();
+        window.cancel(ticket);
+
+        assertThat(window.available(clock.get())).isEqualTo(1);
+        assertThat(window.tryAcquire()).isEqualTo(ticket);
+    }
+
+    @Test
+    void perMinuteWindowLimitsEvenWithFreePerSecondSlots() {
+        KisRateLimiter limiter = new KisRateLimiter(2, 1, new SimpleMeterRegistry(), clock::get);
+        limiter.acquire(KisRequestPriority.ORDER, 0, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> limiter.acquire(KisRequestPriority.ORDER, 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(ApiException.class);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.acquire(KisRequestPriority.ORDER, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void timesOutWhenWindowWaitExceedsTimeout() {
+        KisRateLimiter limiter = new KisRateLimiter(1, 100, new SimpleMeterRegistry(), clock::get);
+        limiter.acquire(KisRequestPriority.QUOTE, 0, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> limiter.acquire(KisRequestPriority.QUOTE, 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(ApiException.class);
+        assertThat(limiter.getQueueDepth(KisRequestPriority.QUOTE)).isZero();
+    }
+}
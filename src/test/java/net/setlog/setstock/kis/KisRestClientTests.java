@@ -0,0 +1,74 @@
+package net.setlog.setstock.kis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.setlog.setstock.common.constants.ApiConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class KisRestClientTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void retryBackoffIsJitteredWithinExponentialBounds() {
+        for (int attempt = 0; attempt < 6; attempt++) {
+            long exponential = Math.min(ApiConstants.API_RETRY_DELAY_MS * 8L, ApiConstants.API_RETRY_DELAY_MS * (1L << attempt));
+            assertThat(KisRestClient.backoff(attempt)).isBetween(exponential / 2, exponential);
+        }
+    }
+
+    @Test
+    void virtualTradingTrIdsUseVPrefix() {
+        assertThat(KisTr.BUY_ORDER.getTrId(true)).isEqualTo("VTTC0802U");
+        assertThat(KisTr.ACCOUNT.getTrId(true)).isEqualTo("VTTC8434R");
+        assertThat(KisTr.PRICE.getTrId(true)).isEqualTo(ApiConstants.TR_ID_PRICE);
+        assertThat(KisTr.BUY_ORDER.isIdempotent()).isFalse();
+    }
+
+    @Test
+    void orderIsNotRetriedAfterIoError() {
+        // 요청이 서버에 도달했을 수 있으므로 주문은 중복 체결을 피하려고 재시도하지 않는다
+        assertThat(KisRestClient.isRetryable(KisTr.BUY_ORDER, new IOException("connection reset"))).isFalse();
+        assertThat(KisRestClient.isRetryable(KisTr.BUY_ORDER, new ConnectException("refused"))).isTrue();
+        assertThat(KisRestClient.isRetryable(KisTr.PRICE, new IOException("connection reset"))).isTrue();
+    }
+
+    @Test
+    void rateLimitRejectionIsRetriedEvenForOrders() throws Exception {
+        JsonNode rateLimited = objectMapper.readTree("""
+            {"rt_cd":"1","msg_cd":"EGW00201","msg1":"초당 거래건수를 초과하였습니다."}
+            """);
+
+        assertThat(KisRestClient.isRetryable(KisTr.BUY_ORDER, failure(KisTr.BUY_ORDER, 429, null))).isTrue();
+        assertThat(KisRestClient.isRetryable(KisTr.BUY_ORDER, failure(KisTr.BUY_ORDER, 500, rateLimited))).isTrue();
+        assertThat(KisRestClient.isRetryable(KisTr.SELL_ORDER, failure(KisTr.SELL_ORDER, 200, rateLimited))).isTrue();
+    }
+
+    @Test
+    void serverErrorIsRetriedOnlyForIdempotentTrs() {
+        assertThat(KisRestClient.isRetryable(KisTr.PRICE, failure(KisTr.PRICE, 503, null))).isTrue();
+        assertThat(KisRestClient.isRetryable(KisTr.BUY_ORDER, failure(KisTr.BUY_ORDER, 503, null))).isFalse();
+    }
+
+    @Test
+    void businessFailureIsNotRetried() throws Exception {
+        JsonNode rejected = objectMapper.readTree("""
+            {"rt_cd":"1","msg_cd":"APBK0919","msg1":"주문가능금액을 초과 했습니다"}
+            """);
+
+        assertThat(KisRestClient.isRetryable(KisTr.PRICE, failure(KisTr.PRICE, 200, rejected))).isFalse();
+        assertThat(KisRestClient.isRetryable(KisTr.PRICE, failure(KisTr.PRICE, 404, null))).isFalse();
+    }
+
+    private static Throwable failure(KisTr tr, int status, JsonNode json) {
+        Throwable thrown = catchThrowable(() -> KisRestClient.check(tr, status, json));
+        assertThat(thrown).isInstanceOf(KisRestClient.KisCallException.class);
+        return thrown;
+    }
+}
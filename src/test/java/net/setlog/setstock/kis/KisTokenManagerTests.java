@@ -0,0 +1,133 @@
+package net.setlog.setstock.kis;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.KisProperties;
+import net.setlog.setstock.common.constants.ApiConstants;
+import net.setlog.setstock.common.exception.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KisTokenManagerTests {
+
+    private static final String BASE_URL = "https://kis.test";
+
+    @TempDir
+    Path tempDir;
+
+    private MockRestServiceServer server;
+    private KisTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        KisProperties properties = new KisProperties();
+        properties.setAppKey("app-key");
+        properties.setAppSecret("app-secret");
+        properties.getToken().setRefreshRatio(0.5);
+
+        RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+        server = MockRestServiceServer.bindTo(builder).build();
+        KisTokenStore tokenStore = new KisTokenStore(tempDir.resolve("token.json"),
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+        tokenManager = new KisTokenManager(properties, tokenStore,
+            new KisRateLimiter(new SimpleMeterRegistry()), builder.build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenManager.stop();
+    }
+
+    @Test
+    void waitsForFirstToken() {
+        server.expect(once(), requestTo(BASE_URL + ApiConstants.KIS_TOKEN_PATH))
+            .andExpect(method(HttpMethod.POST))
+            .andRespond(withSuccess(tokenJson("first", 86_400), MediaType.APPLICATION_JSON));
+
+        tokenManager.start();
+
+        assertThat(tokenManager.getAuthorizationHeader()).isEqualTo("Bearer first");
+    }
+
+    @Test
+    void expiredTokenIsNotServedWhenRefreshFails() throws InterruptedException {
+        server.expect(once(), requestTo(BASE_URL + ApiConstants.KIS_TOKEN_PATH))
+            .andRespond(withSuccess(tokenJson("short-lived", 1), MediaType.APPLICATION_JSON));
+        server.expect(manyTimes(), requestTo(BASE_URL + ApiConstants.KIS_TOKEN_PATH))
+            .andRespond(withServerError());
+
+        tokenManager.start();
+        KisAccessToken token = tokenManager.getToken();
+        assertThat(token.getAccessToken()).isEqualTo("short-lived");
+
+        // 수명 절반에 시작한 재발급이 실패한 채 만료 시각이 지나면 더는 토큰을 주지 않는다
+        Thread.sleep(Math.max(0, token.getExpiresAt().toEpochMilli() - Instant.now().toEpochMilli()) + 100);
+        assertThatThrownBy(tokenManager::getToken)
+            .isInstanceOf(ApiException.class)
+            .hasMessageContaining("만료");
+    }
+
+    @Test
+    void stopDuringRefreshDoesNotReportFailure() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        server.expect(once(), requestTo(BASE_URL + ApiConstants.KIS_TOKEN_PATH))
+            .andRespond(request -> {
+                requested.countDown();
+                try {
+                    stopped.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // shutdownNow 의 인터럽트, 응답은 그대로 돌려준다
+                }
+                return withSuccess(tokenJson("late", 86_400), MediaType.APPLICATION_JSON).createResponse(request);
+            });
+
+        Logger logger = (Logger) LoggerFactory.getLogger(KisTokenManager.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            tokenManager.start();
+            assertThat(requested.await(5, TimeUnit.SECONDS)).isTrue();
+            tokenManager.stop();
+            stopped.countDown();
+            Thread.sleep(200);  // 재발급 스레드가 응답을 처리하고 재예약을 시도할 시간
+
+            assertThat(appender.list).noneMatch(event -> event.getLevel() == Level.ERROR);
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    private static String tokenJson(String accessToken, long expiresIn) {
+        return """
+            {"access_token":"%s","token_type":"Bearer","expires_in":%d}
+            """.formatted(accessToken, expiresIn);
+    }
+}
@@ -0,0 +1,64 @@
+package net.setlog.setstock.master;
+
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockMasterFileTests {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @TempDir
+    Path dir;
+
+    private static String kospiLine(String stockCode, String name, String basePrice, char suspended) {
+        char[] tail = new char[Market.KOSPI.getTailLength()];
+        Arrays.fill(tail, ' ');
+        "ST".getChars(0, 2, tail, 0);
+        "0013".getChars(0, 4, tail, 3);
+        basePrice.getChars(0, 9, tail, 41);
+        "00001".getChars(0, 5, tail, 50);
+        tail[60] = suspended;
+        tail[61] = 'N';
+        tail[62] = 'N';
+        return String.format("%-9s", stockCode) + "KR7" + stockCode + "003" + name + new String(tail);
+    }
+
+    @Test
+    void importedMasterIsMappedAndRegistered() throws Exception {
+        Path kospi = dir.resolve("kospi_code.mst");
+        Files.write(kospi, String.join("\r\n",
+            kospiLine("005930", "삼성전자", "000071900", 'N'),
+            kospiLine("Q50001", "ETN 레코드", "000010000", 'N'),
+            kospiLine("000660", "SK하이닉스", "000188000", 'Y')).getBytes(MS949));
+
+        Path output = dir.resolve("stock-master.bin");
+        assertThat(KisMasterImporter.importFiles(kospi, null, output)).isEqualTo(2);
+
+        SymbolRegistry registry = new SymbolRegistry();
+        StockMasterFile file = StockMasterFile.open(output, registry);
+        assertThat(file.size()).isEqualTo(2);
+
+        StockMaster samsung = file.find("005930").orElseThrow();
+        assertThat(samsung.getName()).isEqualTo("삼성전자");
+        assertThat(samsung.getStandardCode()).isEqualTo("KR7005930003");
+        assertThat(samsung.getMarket()).isEqualTo(Market.KOSPI);
+        assertThat(samsung.getSectorCode()).isEqualTo("0013");
+        assertThat(samsung.getBasePrice()).isEqualTo(71_900);
+        assertThat(samsung.getTickSize()).isEqualTo(100);
+        assertThat(samsung.isTradable()).isTrue();
+
+        int hynix = registry.idOf("000660");
+        assertThat(hynix).isNotEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(file.basePrice(hynix)).isEqualTo(188_000);
+        assertThat(file.isTradable(hynix)).isFalse();
+        assertThat(file.find("035720")).isEmpty();
+    }
+}
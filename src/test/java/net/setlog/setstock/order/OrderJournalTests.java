@@ -0,0 +1,89 @@
+package net.setlog.setstock.order;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderJournalTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysAppendedEventsAfterReopenAndGrowth() {
+        Path path = dir.resolve("orders.journal");
+        try (OrderJournal journal = OrderJournal.open(path, 2)) {
+            journal.append(created("o1"));
+            journal.append(OrderEvent.builder().orderId("o1").status(OrderStatus.SUBMITTED).timestamp(2).build());
+            journal.append(OrderEvent.builder().orderId("o1").status(OrderStatus.ACCEPTED).timestamp(3)
+                .brokerOrderNo("0000117057").build());
+            journal.append(OrderEvent.builder().orderId("o1").status(OrderStatus.PARTIALLY_FILLED).timestamp(4)
+                .fillPrice(69_900).fillQuantity(4).build());
+        }
+
+        List<OrderEvent> events = new ArrayList<>();
+        try (OrderJournal journal = OrderJournal.open(path, 2)) {
+            assertThat(journal.size()).isEqualTo(4);
+            journal.replay(events::add);
+            assertThat(journal.append(created("o2"))).isEqualTo(4);
+        }
+
+        Order order = Order.create(events.get(0));
+        for (OrderEvent event : events.subList(1, events.size())) {
+            assertThat(order.canApply(event)).isTrue();
+            order.apply(event);
+        }
+        assertThat(order.getStrategyId()).isEqualTo("momentum");
+        assertThat(order.getSide()).isEqualTo(OrderSide.BUY);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        assertThat(order.getBrokerOrderNo()).isEqualTo("0000117057");
+        assertThat(order.getRemainingQuantity()).isEqualTo(6);
+        assertThat(order.getAveragePrice()).isEqualTo(69_900);
+    }
+
+    @Test
+    void stopsReplayAtTornRecord() throws Exception {
+        Path path = dir.resolve("orders.journal");
+        try (OrderJournal journal = OrderJournal.open(path, 16)) {
+            journal.append(created("o1"));
+            journal.append(created("o2"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            // 두 번째 레코드 일부만 기록된 상황
+            file.seek(OrderJournalFormat.HEADER_SIZE + OrderJournalFormat.RECORD_SIZE + OrderJournalFormat.PRICE);
+            file.writeLong(0);
+        }
+
+        try (OrderJournal journal = OrderJournal.open(path, 16)) {
+            assertThat(journal.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rejectsTransitionsOutOfTerminalStates() {
+        assertThat(OrderStatus.SUBMITTED.canTransitionTo(OrderStatus.FILLED)).isTrue();
+        assertThat(OrderStatus.CREATED.canTransitionTo(OrderStatus.ACCEPTED)).isFalse();
+        assertThat(OrderStatus.FILLED.isTerminal()).isTrue();
+        assertThat(OrderStatus.CANCELLED.canTransitionTo(OrderStatus.FILLED)).isFalse();
+    }
+
+    private static OrderEvent created(String orderId) {
+        return OrderEvent.builder()
+            .orderId(orderId)
+            .status(OrderStatus.CREATED)
+            .timestamp(1)
+            .accountNo("50000000-01")
+            .strategyId("momentum")
+            .stockCode(5930)
+            .side(OrderSide.BUY)
+            .price(70_000)
+            .quantity(10)
+            .build();
+    }
+}
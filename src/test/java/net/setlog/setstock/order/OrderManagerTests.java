@@ -0,0 +1,154 @@
+package net.setlog.setstock.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.OrderJournalProperties;
+import net.setlog.setstock.common.config.TimingWheelProperties;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.util.Money;
+import net.setlog.setstock.risk.AccountLedger;
+import net.setlog.setstock.risk.PreTradeRiskEngine;
+import net.setlog.setstock.risk.RiskOrder;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import net.setlog.setstock.timer.DeadlineScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class OrderManagerTests {
+
+    private static final String ACCOUNT = "50000000-01";
+    private static final int SAMSUNG = 5930;
+
+    @TempDir
+    Path dir;
+
+    private final SymbolRegistry registry = new SymbolRegistry();
+    private OrderManager manager;
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void restartRestoresRiskReservationsOfOpenOrders() {
+        PreTradeRiskEngine riskEngine = riskEngine();
+        manager = start(riskEngine);
+        manager.create(order("o1", OrderSide.BUY, 70_000, 100));
+        manager.submit("o1");
+        manager.fill("o1", 70_000, 40);
+        manager.create(order("o2", OrderSide.BUY, 69_000, 10));
+        manager.cancel("o2");
+        manager.stop();
+
+        PreTradeRiskEngine restarted = riskEngine();
+        manager = start(restarted);
+        AccountLedger ledger = restarted.ledger(ACCOUNT);
+        ledger.syncCash(10_000_000, 100_000_000);
+
+        assertThat(manager.getOpenOrders()).extracting(Order::getOrderId).containsExactly("o1");
+        assertThat(restarted.getRemainingQuantity("o1")).contains(60L);
+        assertThat(restarted.getRemainingQuantity("o2")).isEmpty();
+        long reserved = Money.buyCost(70_000, 60, TradeConstants.DEFAULT_FEE_RATE_PPM);
+        assertThat(ledger.getReservedCash()).isEqualTo(reserved);
+        assertThat(ledger.getAvailableCash()).isEqualTo(10_000_000 - reserved);
+        assertThat(ledger.getOpenOrders("s1")).isEqualTo(1);
+        assertThat(ledger.getExposure(registry.idOf(SAMSUNG))).isEqualTo(Money.notional(70_000, 60));
+
+        // 복원된 예약도 중복 주문을 막고 체결로 정리된다
+        assertThatThrownBy(() -> manager.create(order("o3", OrderSide.BUY, 70_000, 100)))
+            .isInstanceOf(BusinessException.class);
+        manager.fill("o1", 70_000, 60);
+        assertThat(restarted.getRemainingQuantity("o1")).isEmpty();
+        assertThat(ledger.getReservedCash()).isZero();
+        assertThat(ledger.getOpenOrders("s1")).isZero();
+    }
+
+    @Test
+    void cancelDuringFillKeepsFilledSharesInLedger() throws Exception {
+        PreTradeRiskEngine riskEngine = spy(riskEngine());
+        CountDownLatch fillEntered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            fillEntered.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(riskEngine).onFill(eq("o1"), anyLong(), anyLong());
+        manager = start(riskEngine);
+        manager.create(order("o1", OrderSide.BUY, 70_000, 100));
+        manager.submit("o1");
+
+        // 부분 체결이 예약에 반영되는 도중 취소 확인이 들어온다
+        CompletableFuture<Order> fill = CompletableFuture.supplyAsync(() -> manager.fill("o1", 70_000, 40));
+        assertThat(fillEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Order> cancel = CompletableFuture.supplyAsync(() -> manager.cancel("o1"));
+        Thread.sleep(100);
+        assertThat(cancel).isNotDone();
+        proceed.countDown();
+
+        Order order = cancel.get(5, TimeUnit.SECONDS);
+        fill.get(5, TimeUnit.SECONDS);
+        AccountLedger ledger = riskEngine.ledger(ACCOUNT);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(order.getFilledQuantity()).isEqualTo(40);
+        assertThat(ledger.getQuantity(registry.idOf(SAMSUNG))).isEqualTo(40);
+        assertThat(ledger.getReservedCash()).isZero();
+        assertThat(ledger.getAvailableCash())
+            .isEqualTo(10_000_000 - Money.buyCost(70_000, 40, TradeConstants.DEFAULT_FEE_RATE_PPM));
+        assertThat(riskEngine.getRemainingQuantity("o1")).isEmpty();
+    }
+
+    @Test
+    void rejectedOrderIsNeitherJournaledNorOpen() {
+        manager = start(riskEngine());
+
+        assertThatThrownBy(() -> manager.create(order("o1", OrderSide.SELL, 70_000, 10)))
+            .isInstanceOf(BusinessException.class);
+
+        assertThat(manager.getOpenOrder("o1")).isEmpty();
+        manager.stop();
+        manager = start(riskEngine());
+        assertThat(manager.getOpenOrders()).isEmpty();
+    }
+
+    private PreTradeRiskEngine riskEngine() {
+        PreTradeRiskEngine riskEngine = new PreTradeRiskEngine(registry, new SimpleMeterRegistry());
+        riskEngine.ledger(ACCOUNT).syncCash(10_000_000, 100_000_000);
+        return riskEngine;
+    }
+
+    private OrderManager start(PreTradeRiskEngine riskEngine) {
+        OrderJournalProperties properties = new OrderJournalProperties();
+        properties.setDirectory(dir.toString());
+        properties.setInitialCapacity(16);
+        OrderManager orderManager = new OrderManager(properties, riskEngine,
+            new DeadlineScheduler(new TimingWheelProperties(), new SimpleMeterRegistry()));
+        orderManager.start();
+        return orderManager;
+    }
+
+    private static RiskOrder order(String orderId, OrderSide side, long price, long quantity) {
+        return RiskOrder.builder()
+            .orderId(orderId)
+            .accountNo(ACCOUNT)
+            .strategyId("s1")
+            .stockCode(SAMSUNG)
+            .side(side)
+            .price(price)
+            .quantity(quantity)
+            .build();
+    }
+}
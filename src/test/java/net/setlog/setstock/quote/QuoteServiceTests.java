@@ -0,0 +1,141 @@
+package net.setlog.setstock.quote;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.CacheConfig;
+import net.setlog.setstock.common.exception.ApiException;
+import net.setlog.setstock.realtime.LatestTickStore;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickParser;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuoteServiceTests {
+
+    private static final String SAMSUNG = "005930";
+
+    private final TickRingBuffer ring = new TickRingBuffer(16);
+    private final StubQuoteSource source = new StubQuoteSource();
+    private LatestTickStore latestTickStore;
+    private QuoteService quoteService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        latestTickStore = new LatestTickStore(new TickDispatcher(ring), new SymbolRegistry());
+        ObjectProvider<QuoteSource> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(source);
+        quoteService = new QuoteService(latestTickStore, provider,
+            new CacheConfig().cacheManager(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void concurrentMissesShareOneInFlightCall() throws Exception {
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch ready = new CountDownLatch(callers);
+        List<Future<CompletableFuture<Quote>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return quoteService.getQuoteAsync(SAMSUNG);
+                }));
+            }
+            List<CompletableFuture<Quote>> quotes = new ArrayList<>();
+            for (Future<CompletableFuture<Quote>> future : futures) {
+                quotes.add(future.get(5, TimeUnit.SECONDS));
+            }
+
+            assertThat(source.calls).hasSize(1);
+            source.calls.peek().complete(restQuote(71_900));
+            for (CompletableFuture<Quote> quote : quotes) {
+                assertThat(quote.get(5, TimeUnit.SECONDS).getPrice()).isEqualTo(71_900);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void freshTickSkipsQuoteSourceAndStaleTickDoesNot() {
+        long now = System.currentTimeMillis();
+        feedTick(now - QuoteService.TICK_FRESHNESS_MS / 2);
+
+        Quote realtime = quoteService.getQuote(SAMSUNG);
+        assertThat(realtime.getSource()).isEqualTo(Quote.Source.REALTIME);
+        assertThat(realtime.getPrice()).isEqualTo(72_000);
+        assertThat(source.calls).isEmpty();
+
+        feedTick(now - QuoteService.TICK_FRESHNESS_MS * 2);
+        CompletableFuture<Quote> rest = quoteService.getQuoteAsync(SAMSUNG);
+        assertThat(source.calls).hasSize(1);
+        source.calls.peek().complete(restQuote(71_900));
+        assertThat(rest.join().getSource()).isEqualTo(Quote.Source.REST);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        CompletableFuture<Quote> failed = quoteService.getQuoteAsync(SAMSUNG);
+        source.calls.poll().completeExceptionally(ApiException.externalApiException("KIS 오류", null));
+        assertThat(failed).isCompletedExceptionally();
+
+        CompletableFuture<Quote> retried = quoteService.getQuoteAsync(SAMSUNG);
+        assertThat(source.calls).hasSize(1);
+        source.calls.peek().complete(restQuote(71_900));
+        assertThat(retried.join().getPrice()).isEqualTo(71_900);
+    }
+
+    private void feedTick(long receivedAt) {
+        String[] fields = new String[TickParser.FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        fields[0] = SAMSUNG;
+        fields[1] = "093354";
+        fields[2] = "72000";
+        fields[3] = "2";
+        new TickParser().parse("0|H0STCNT0|001|" + String.join("^", fields), ring, receivedAt);
+        ring.drain(latestTickStore, Integer.MAX_VALUE);
+    }
+
+    private static Quote restQuote(long price) {
+        return Quote.builder()
+            .stockCode(SAMSUNG)
+            .price(price)
+            .timestamp(System.currentTimeMillis())
+            .source(Quote.Source.REST)
+            .build();
+    }
+
+    /**
+     * 호출마다 대기 중인 future 를 남기는 현재가 조회 API
+     */
+    private static final class StubQuoteSource implements QuoteSource {
+        private final Queue<CompletableFuture<Quote>> calls = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public CompletableFuture<Quote> fetchQuote(String stockCode) {
+            CompletableFuture<Quote> future = new CompletableFuture<>();
+            calls.add(future);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package net.setlog.setstock.realtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TickParserTests {
+
+    private static String record(String stockCode) {
+        return record(stockCode, "093354");
+    }
+
+    private static String record(String stockCode, String time) {
+        String[] fields = new String[TickParser.FIELD_COUNT];
+        Arrays.fill(fields, "0");
+        fields[0] = stockCode;
+        fields[1] = time;
+        fields[2] = "71900";
+        fields[3] = "5";
+        fields[4] = "-100";
+        fields[5] = "-0.14";
+        fields[7] = "72100";
+        fields[8] = "72400";
+        fields[9] = "71700";
+        fields[12] = "12";
+        fields[13] = "3052507";
+        fields[14] = "219853241700";
+        return String.join("^", fields);
+    }
+
+    @Test
+    void parsesMultiRecordFrame() {
+        TickRingBuffer ring = new TickRingBuffer(8);
+        String frame = "0|H0STCNT0|002|" + record("005930") + "^" + record("000660");
+
+        assertThat(new TickParser().parse(frame, ring, 1L)).isEqualTo(2);
+
+        List<Tick> ticks = new ArrayList<>();
+        ring.drain(tick -> {
+            Tick copy = new Tick();
+            copy.copyFrom(tick);
+            ticks.add(copy);
+        }, 10);
+
+        assertThat(ticks).hasSize(2);
+        Tick first = ticks.get(0);
+        assertThat(first.getStockCode()).isEqualTo(5930);
+        assertThat(first.getTime()).isEqualTo(93354);
+        assertThat(first.getSecondOfDay()).isEqualTo(9 * 3600 + 33 * 60 + 54);
+        assertThat(first.getPrice()).isEqualTo(71900);
+        assertThat(first.getChange()).isEqualTo(-100);
+        assertThat(first.getChangeRate()).isEqualTo(-14);
+        assertThat(first.getAccumulatedAmount()).isEqualTo(219853241700L);
+        assertThat(ticks.get(1).getStockCode()).isEqualTo(660);
+    }
+
+    @Test
+    void dropsRecordsWithMalformedTime() {
+        TickRingBuffer ring = new TickRingBuffer(8);
+        TickParser parser = new TickParser();
+        String frame = "0|H0STCNT0|003|" + record("005930", "093399") + "^" + record("000660", "93354")
+            + "^" + record("035420", "093400");
+
+        assertThat(parser.parse(frame, ring, 1L)).isEqualTo(1);
+        assertThat(parser.getMalformedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsTicksWhenBufferIsFull() {
+        TickRingBuffer ring = new TickRingBuffer(1);
+        String frame = "0|H0STCNT0|002|" + record("005930") + "^" + record("000660");
+
+        assertThat(new TickParser().parse(frame, ring, 1L)).isEqualTo(1);
+        assertThat(ring.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresControlMessages() {
+        TickRingBuffer ring = new TickRingBuffer(8);
+
+        assertThat(new TickParser().parse("{\"header\":{\"tr_id\":\"PINGPONG\"}}", ring, 1L)).isEqualTo(-1);
+        assertThat(ring.size()).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package net.setlog.setstock.risk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.util.ValidationResult;
+import net.setlog.setstock.order.OrderSide;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreTradeRiskEngineTests {
+
+    private static final String ACCOUNT = "50000000-01";
+    private static final int SAMSUNG = 5930;
+
+    private final SymbolRegistry registry = new SymbolRegistry();
+    private final PreTradeRiskEngine engine = new PreTradeRiskEngine(registry, new SimpleMeterRegistry());
+
+    @Test
+    void reservesCashAndRejectsDuplicatesAndOverLimitOrders() {
+        AccountLedger ledger = engine.ledger(ACCOUNT);
+        ledger.syncCash(10_000_000, 100_000_000);  // 포지션 한도 10,000,000원
+
+        assertThat(engine.reserve(order("o1", "s1", OrderSide.BUY, 70_000, 100)).isValid()).isTrue();
+        assertThat(ledger.getReservedCash()).isEqualTo(7_001_050);  // 7,000,000 + 수수료 1,050
+        assertThat(ledger.getAvailableCash()).isEqualTo(2_998_950);
+
+        assertThat(engine.reserve(order("o2", "s1", OrderSide.BUY, 70_000, 100)).getErrorCode())
+            .isEqualTo(PreTradeRiskEngine.DUPLICATE_ORDER);
+        assertThat(engine.reserve(order("o3", "s1", OrderSide.BUY, 70_000, 50)).getErrorCode())
+            .isEqualTo(PreTradeRiskEngine.POSITION_LIMIT_EXCEEDED);
+        assertThat(engine.reserve(order("o4", "s1", OrderSide.SELL, 71_000, 1)).getErrorCode())
+            .isEqualTo(PreTradeRiskEngine.INSUFFICIENT_POSITION);
+
+        // 실패한 주문은 아무것도 예약하지 않는다
+        assertThat(ledger.getReservedCash()).isEqualTo(7_001_050);
+        assertThat(ledger.getOpenOrders("s1")).isEqualTo(1);
+    }
+
+    @Test
+    void fillsMoveReservationIntoPositionAndReleaseFreesTheRest() {
+        AccountLedger ledger = engine.ledger(ACCOUNT);
+        ledger.syncCash(10_000_000, 100_000_000);
+        int symbolId = registry.register(SAMSUNG);
+
+        engine.reserve(order("o1", "s1", OrderSide.BUY, 70_000, 100));
+        assertThat(engine.onFill("o1", 69_900, 40)).isTrue();
+        assertThat(ledger.getQuantity(symbolId)).isEqualTo(40);
+        assertThat(engine.getRemainingQuantity("o1")).contains(60L);
+
+        assertThat(engine.release("o1")).isTrue();
+        assertThat(ledger.getReservedCash()).isZero();
+        assertThat(ledger.getOpenOrders("s1")).isZero();
+        // 10,000,000 - (2,796,000 + 수수료 419)
+        assertThat(ledger.getAvailableCash()).isEqualTo(7_203_581);
+        assertThat(ledger.getExposure(symbolId)).isEqualTo(2_796_000);
+
+        assertThat(engine.reserve(order("o2", "s1", OrderSide.SELL, 71_000, 40)).isValid()).isTrue();
+        assertThat(engine.onFill("o2", 71_000, 40)).isTrue();
+        assertThat(ledger.getQuantity(symbolId)).isZero();
+        assertThat(ledger.getExposure(symbolId)).isZero();
+        assertThat(engine.getRemainingQuantity("o2")).isEmpty();
+    }
+
+    @Test
+    void concurrentReservationsNeverOverdrawCash() throws Exception {
+        AccountLedger ledger = engine.ledger(ACCOUNT);
+        ledger.syncCash(1_000_000, 1_000_000_000);
+
+        List<Future<ValidationResult>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 80; i++) {
+                String strategy = "s" + (i % 8);
+                long price = 10_000 + i;
+                String orderId = "o" + i;
+                results.add(executor.submit(() -> engine.reserve(order(orderId, strategy, OrderSide.BUY, price, 10))));
+            }
+        }
+
+        int accepted = 0;
+        for (Future<ValidationResult> result : results) {
+            if (result.get().isValid()) {
+                accepted++;
+            }
+        }
+        // 주문당 약 100,000원이므로 9건까지만 예약 가능
+        assertThat(accepted).isEqualTo(9);
+        assertThat(ledger.getAvailableCash()).isNotNegative();
+        assertThat(ledger.getAvailableCash() + ledger.getReservedCash()).isEqualTo(1_000_000);
+    }
+
+    private static RiskOrder order(String orderId, String strategyId, OrderSide side, long price, long quantity) {
+        return RiskOrder.builder()
+            .orderId(orderId)
+            .accountNo(ACCOUNT)
+            .strategyId(strategyId)
+            .stockCode(SAMSUNG)
+            .side(side)
+            .price(price)
+            .quantity(quantity)
+            .build();
+    }
+}
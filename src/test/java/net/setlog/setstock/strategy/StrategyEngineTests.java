@@ -0,0 +1,158 @@
+package net.setlog.setstock.strategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.candle.Candle;
+import net.setlog.setstock.candle.CandleAggregator;
+import net.setlog.setstock.candle.CandleType;
+import net.setlog.setstock.common.config.StrategyEngineProperties;
+import net.setlog.setstock.common.constants.TradeConstants;
+import net.setlog.setstock.common.exception.BusinessException;
+import net.setlog.setstock.common.exception.ErrorReporter;
+import net.setlog.setstock.indicator.IndicatorEngine;
+import net.setlog.setstock.realtime.TickDispatcher;
+import net.setlog.setstock.realtime.TickRingBuffer;
+import net.setlog.setstock.symbol.SymbolRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StrategyEngineTests {
+
+    private static final int[] SYMBOLS = {5930, 660, 35420, 51910};
+    private static final int BARS = 50;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evaluatesEveryStrategyAndEmitsSignalsInOrderPerSymbol() throws Exception {
+        SymbolRegistry registry = new SymbolRegistry();
+        TickDispatcher dispatcher = new TickDispatcher(new TickRingBuffer(16));
+        ObjectProvider<Strategy> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(strategy("momentum"), strategy("reversion")));
+        StrategyEngineProperties properties = new StrategyEngineProperties();
+        properties.setPartitions(3);
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+
+        StrategyEngine engine = new StrategyEngine(properties, dispatcher, new CandleAggregator(dispatcher, registry),
+            mock(IndicatorEngine.class), registry, mock(ErrorReporter.class), meters, provider);
+
+        Map<Integer, List<Signal>> bySymbol = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(SYMBOLS.length * BARS * 2);
+        engine.addListener(signal -> {
+            bySymbol.computeIfAbsent(signal.getStockCode(), k -> new ArrayList<>()).add(signal);
+            done.countDown();
+        });
+
+        engine.start();
+        try {
+            for (int bar = 0; bar < BARS; bar++) {
+                for (int code : SYMBOLS) {
+                    engine.onCandleClosed(candle(code, bar));
+                }
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            engine.stop();
+        }
+
+        for (int code : SYMBOLS) {
+            List<Signal> signals = bySymbol.get(code);
+            assertThat(signals).hasSize(BARS * 2);
+            for (int i = 0; i < signals.size(); i++) {
+                assertThat(signals.get(i).getSequence()).isEqualTo(i + 1);
+                assertThat(signals.get(i).getPrice()).isEqualTo(10_000 + i / 2);  // 전략 두 개가 같은 캔들을 연속 평가
+            }
+        }
+        assertThat(meters.get("strategy.evaluation").tag("strategy", "momentum").timer().count())
+            .isEqualTo(SYMBOLS.length * BARS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void idlePartitionParksUntilNextEvent() throws Exception {
+        SymbolRegistry registry = new SymbolRegistry();
+        TickDispatcher dispatcher = new TickDispatcher(new TickRingBuffer(16));
+        ObjectProvider<Strategy> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(strategy("momentum")));
+        StrategyEngineProperties properties = new StrategyEngineProperties();
+        properties.setPartitions(1);
+        StrategyEngine engine = new StrategyEngine(properties, dispatcher, new CandleAggregator(dispatcher, registry),
+            mock(IndicatorEngine.class), registry, mock(ErrorReporter.class), new SimpleMeterRegistry(), provider);
+
+        CountDownLatch signaled = new CountDownLatch(1);
+        engine.addListener(signal -> signaled.countDown());
+        engine.start();
+        try {
+            Thread partition = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("strategy-0"))
+                .findFirst().orElseThrow();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (partition.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // 시간 제한 없는 park (TIMED_WAITING 이 아님)
+            assertThat(partition.getState()).isEqualTo(Thread.State.WAITING);
+
+            engine.onCandleClosed(candle(SYMBOLS[0], 0));
+            assertThat(signaled.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rejectsStrategiesBeyondActiveLimit() {
+        SymbolRegistry registry = new SymbolRegistry();
+        TickDispatcher dispatcher = new TickDispatcher(new TickRingBuffer(16));
+        ObjectProvider<Strategy> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.empty());
+        StrategyEngine engine = new StrategyEngine(new StrategyEngineProperties(), dispatcher,
+            new CandleAggregator(dispatcher, registry), mock(IndicatorEngine.class), registry,
+            mock(ErrorReporter.class), new SimpleMeterRegistry(), provider);
+
+        for (int i = 0; i < TradeConstants.MAX_ACTIVE_STRATEGIES; i++) {
+            engine.register(strategy("s" + i));
+        }
+        assertThatThrownBy(() -> engine.register(strategy("extra"))).isInstanceOf(BusinessException.class);
+        assertThat(engine.unregister("s0")).isTrue();
+        engine.register(strategy("extra"));
+        assertThat(engine.getActiveCount()).isEqualTo(TradeConstants.MAX_ACTIVE_STRATEGIES);
+    }
+
+    private static Strategy strategy(String id) {
+        return new Strategy() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getType() {
+                return TradeConstants.STRATEGY_TYPE_CUSTOM;
+            }
+
+            @Override
+            public SignalType onCandle(Candle candle) {
+                return candle.getClose() >= candle.getOpen() ? SignalType.BUY : SignalType.SELL;
+            }
+        };
+    }
+
+    private static Candle candle(int stockCode, int bar) {
+        long close = 10_000 + bar;
+        return new Candle(stockCode, CandleType.MIN_1, 20_000, 540 + bar, close - 10, close + 10, close - 20,
+            close, 1_000, 10, true);
+    }
+}
@@ -0,0 +1,60 @@
+package net.setlog.setstock.symbol;
+
+import net.setlog.setstock.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SymbolRegistryTests {
+
+    private final SymbolRegistry registry = new SymbolRegistry();
+
+    @Test
+    void registerIsIdempotent() {
+        int id = registry.register("005930");
+
+        assertThat(registry.register("005930")).isEqualTo(id);
+        assertThat(registry.register(5930)).isEqualTo(id);
+        assertThat(registry.register("000660")).isEqualTo(id + 1);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    void idAndCodeRoundTrip() {
+        int id = registry.register("000660");
+
+        assertThat(registry.idOf("000660")).isEqualTo(id);
+        assertThat(registry.idOf(660)).isEqualTo(id);
+        assertThat(registry.codeOf(id)).isEqualTo("000660");
+        assertThat(registry.stockCodeOf(id)).isEqualTo(660);
+        assertThat(registry.idOf("005930")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThatThrownBy(() -> registry.codeOf(id + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsRegistrationBeyondMaxSymbols() {
+        for (int code = 0; code < SymbolRegistry.MAX_SYMBOLS; code++) {
+            registry.register(code);
+        }
+
+        assertThat(registry.register(0)).isZero();  // 이미 등록된 종목은 한도와 무관
+        assertThatThrownBy(() -> registry.register(SymbolRegistry.MAX_SYMBOLS))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(registry.size()).isEqualTo(SymbolRegistry.MAX_SYMBOLS);
+        assertThat(registry.idOf(SymbolRegistry.MAX_SYMBOLS)).isEqualTo(SymbolRegistry.NO_SYMBOL);
+    }
+
+    @Test
+    void rejectsMalformedCodes() {
+        assertThatThrownBy(() -> registry.register("00593A")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> registry.register("5930")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> registry.register(1_000_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.register(-1)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(registry.idOf("00593A")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.idOf("")).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.idOf(-1)).isEqualTo(SymbolRegistry.NO_SYMBOL);
+        assertThat(registry.size()).isZero();
+    }
+}
@@ -0,0 +1,55 @@
+package net.setlog.setstock.timer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.setlog.setstock.common.config.TimingWheelProperties;
+import net.setlog.setstock.common.util.EpochMinutes;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 KRX 달력(calendar/krx-calendar.txt) 기준 청산/만료 마감 시각
+ */
+class DeadlineSchedulerTests {
+
+    private final DeadlineScheduler scheduler =
+        new DeadlineScheduler(new TimingWheelProperties(), new SimpleMeterRegistry());
+
+    private static long at(int year, int month, int day, int hour, int minute) {
+        return EpochMinutes.toEpochMillis(EpochMinutes.of(LocalDateTime.of(year, month, day, hour, minute)));
+    }
+
+    @Test
+    void positionExitIsCappedBeforeClosingAuction() {
+        long now = at(2025, 3, 12, 14, 50);
+        long deadline = now + TimeUnit.MINUTES.toMillis(60);
+
+        assertThat(scheduler.exitDeadlineMillis(deadline, now)).isEqualTo(at(2025, 3, 12, 15, 20));
+        assertThat(scheduler.exitDeadlineMillis(at(2025, 3, 12, 11, 0), at(2025, 3, 12, 10, 0)))
+            .isEqualTo(at(2025, 3, 12, 11, 0));
+    }
+
+    @Test
+    void positionExitFollowsLateClose() {
+        long now = at(2025, 11, 13, 16, 0);  // 수능일 (10:00 ~ 16:30)
+
+        assertThat(scheduler.exitDeadlineMillis(now + TimeUnit.MINUTES.toMillis(60), now))
+            .isEqualTo(at(2025, 11, 13, 16, 20));
+    }
+
+    @Test
+    void positionOpenedAfterCutoffExitsImmediately() {
+        long now = at(2025, 3, 12, 15, 25);
+
+        assertThat(scheduler.exitDeadlineMillis(now + TimeUnit.MINUTES.toMillis(60), now)).isLessThan(now);
+    }
+
+    @Test
+    void orderExpiryKeepsExactClose() {
+        assertThat(DeadlineScheduler.sessionCloseMillis(at(2025, 3, 12, 15, 25))).isEqualTo(at(2025, 3, 12, 15, 30));
+        assertThat(DeadlineScheduler.sessionCloseMillis(at(2025, 3, 14, 15, 30))).isEqualTo(at(2025, 3, 17, 15, 30));
+    }
+}
@@ -0,0 +1,62 @@
+package net.setlog.setstock.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTests {
+
+    @Test
+    void expiresEachTimerOnItsTickAcrossLevels() {
+        // 틱 10ms, 슬롯 4, 3단계 -> 단계 0: 40ms, 단계 1: 160ms, 단계 2: 640ms
+        TimingWheel wheel = new TimingWheel(10, 4, 3, 0);
+        List<Long> fired = new ArrayList<>();
+        long[] deadlines = {25, 40, 170, 355, 600};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, () -> fired.add(deadline));
+        }
+
+        List<Long> firedAt = new ArrayList<>();
+        for (long now = 0; now <= 640; now += 10) {
+            int before = fired.size();
+            wheel.advance(now);
+            for (int i = before; i < fired.size(); i++) {
+                firedAt.add(now);
+            }
+        }
+
+        assertThat(fired).containsExactly(25L, 40L, 170L, 355L, 600L);
+        assertThat(firedAt).containsExactly(30L, 40L, 170L, 360L, 600L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancelledTimerNeverRuns() {
+        TimingWheel wheel = new TimingWheel(10, 4, 3, 0);
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timeout cancelled = wheel.schedule(300, () -> fired.add("cancelled"));
+        TimingWheel.Timeout kept = wheel.schedule(300, () -> fired.add("kept"));
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.advance(1_000)).isEqualTo(1);
+        assertThat(fired).containsExactly("kept");
+        assertThat(kept.isPending()).isFalse();
+        assertThat(kept.cancel()).isFalse();
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        TimingWheel wheel = new TimingWheel(100, 256, 4, 0);
+        wheel.advance(5_000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(1_000, () -> fired.add("late"));
+
+        assertThat(wheel.advance(5_099)).isZero();
+        assertThat(wheel.advance(5_100)).isEqualTo(1);
+        assertThat(fired).containsExactly("late");
+    }
+}
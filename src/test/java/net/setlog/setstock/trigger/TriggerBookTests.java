@@ -0,0 +1,72 @@
+package net.setlog.setstock.trigger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TriggerBookTests {
+
+    @Test
+    void firesExactlyTheCrossedTriggersInLevelOrder() {
+        TriggerBook book = new TriggerBook();
+        PriceTrigger stop1 = trigger(1, TriggerDirection.DOWN, 68_600);
+        PriceTrigger stop2 = trigger(2, TriggerDirection.DOWN, 69_000);
+        PriceTrigger stop3 = trigger(3, TriggerDirection.DOWN, 67_000);
+        PriceTrigger take1 = trigger(4, TriggerDirection.UP, 72_100);
+        PriceTrigger take2 = trigger(5, TriggerDirection.UP, 71_000);
+        PriceTrigger take3 = trigger(6, TriggerDirection.UP, 71_000);
+        for (PriceTrigger trigger : List.of(stop1, stop2, stop3, take1, take2, take3)) {
+            book.add(trigger);
+        }
+
+        assertThat(book.isCrossed(70_000)).isFalse();
+        assertThat(book.isCrossed(69_000)).isTrue();
+
+        List<PriceTrigger> fired = new ArrayList<>();
+        assertThat(book.fire(68_600, fired)).isEqualTo(2);
+        assertThat(fired).containsExactly(stop2, stop1);
+
+        fired.clear();
+        assertThat(book.fire(71_500, fired)).isEqualTo(2);
+        assertThat(fired).containsExactly(take2, take3);  // 같은 기준가는 등록 순서대로
+
+        assertThat(book.size()).isEqualTo(2);
+        assertThat(book.isCrossed(68_000)).isFalse();
+    }
+
+    @Test
+    void removesCancelledTriggerAmongEqualLevels() {
+        TriggerBook book = new TriggerBook();
+        PriceTrigger first = trigger(1, TriggerDirection.UP, 71_000);
+        PriceTrigger second = trigger(2, TriggerDirection.UP, 71_000);
+        book.add(first);
+        book.add(second);
+
+        assertThat(book.remove(first)).isTrue();
+        assertThat(book.remove(first)).isFalse();
+
+        List<PriceTrigger> fired = new ArrayList<>();
+        book.fire(71_000, fired);
+        assertThat(fired).containsExactly(second);
+        assertThat(book.isCrossed(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    void bracketLevelsFollowDefaultRatesOnTickSize() {
+        assertThat(PriceTrigger.stopLoss("50000000-01", "momentum", 5930, 70_000, 10).getPrice()).isEqualTo(68_600);
+        assertThat(PriceTrigger.takeProfit("50000000-01", "momentum", 5930, 70_000, 10).getPrice()).isEqualTo(72_100);
+    }
+
+    private static PriceTrigger trigger(long id, TriggerDirection direction, long price) {
+        return PriceTrigger.builder()
+            .id(id)
+            .type(direction == TriggerDirection.UP ? TriggerType.TAKE_PROFIT : TriggerType.STOP_LOSS)
+            .direction(direction)
+            .stockCode(5930)
+            .price(price)
+            .build();
+    }
+}